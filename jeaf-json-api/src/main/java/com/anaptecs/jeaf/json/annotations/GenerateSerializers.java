@@ -0,0 +1,53 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.annotations;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation marks DTO classes for which a dedicated serializer and deserializer should be generated at compile time
+ * by the annotation processor of module <code>jeaf-json-processor</code>. Generated classes access properties directly
+ * so that Jackson does not need to introspect the DTO at runtime. For every package with annotated classes the
+ * processor also generates a {@link ModuleFactory} that registers the generated classes.
+ *
+ * Properties are resolved the same way as with the default settings of {@link ObjectMapperConfig}: all non-static and
+ * non-transient fields are properties (including inherited ones). They are written in the same order as by Jackson,
+ * i.e. as defined by <code>@JsonPropertyOrder</code> and <code>@JsonProperty(index)</code> and otherwise sorted
+ * alphabetically. <code>@JsonProperty</code> and <code>@JsonIgnore</code> on fields are supported. On classes
+ * <code>@JsonInclude</code>, <code>@JsonPropertyOrder</code>, <code>@JsonFilter</code> and the annotations of
+ * polymorphic types such as <code>@JsonTypeInfo</code> are supported. All other Jackson annotations are reported as
+ * compile errors. Which values are written is defined by the property inclusion of the object mapper (see
+ * {@link ObjectMapperConfig#defaultPropertyInclusion()}) and a <code>@JsonInclude</code> on the class. Generated
+ * serializers support <code>ALWAYS</code>, <code>NON_NULL</code>, <code>NON_ABSENT</code> and <code>NON_EMPTY</code>.
+ * For other inclusions, for classes with a property filter, e.g. within projected writes (see
+ * {@link com.anaptecs.jeaf.json.api.FieldProjection}), for mappers with a property naming strategy or mix-ins and for
+ * mappers that do not sort properties alphabetically if this changes the order, Jackson's bean serializer is used
+ * instead.
+ * As the generated code lives in the package of the DTO, fields have to be accessible from there or there have to be
+ * accessible getters and setters. Deserialization also requires an accessible default constructor.
+ *
+ * @author JEAF Development Team
+ */
+@Retention(CLASS)
+@Target(TYPE)
+@Documented
+public @interface GenerateSerializers {
+  /**
+   * Attribute defines whether a serializer should be generated.
+   */
+  boolean serializer() default true;
+
+  /**
+   * Attribute defines whether a deserializer should be generated. Immutable classes that can not be created with a
+   * default constructor should only have a generated serializer.
+   */
+  boolean deserializer() default true;
+}
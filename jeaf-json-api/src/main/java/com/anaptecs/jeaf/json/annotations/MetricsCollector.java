@@ -0,0 +1,40 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.annotations;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import com.anaptecs.jeaf.json.api.JSONMetricsCollector;
+import com.anaptecs.jeaf.json.api.JSONTools;
+
+/**
+ * Annotation is intended to mark {@link JSONMetricsCollector} implementations so that they can be detected by JEAF at
+ * runtime (e.g. with the help of JEAF Maven Plugin).
+ *
+ * The annotation itself does not define any properties but it is required that classes with this annotation implement
+ * interface {@link JSONMetricsCollector}
+ *
+ * @author JEAF Development Team
+ */
+@Retention(RUNTIME)
+@Target(TYPE)
+@Documented
+public @interface MetricsCollector {
+  /**
+   * Name of the resource that contains the names of the classes with the @MetricsCollector annotation.
+   */
+  String METRICS_COLLECTOR_CONFIG_RESOURCE_NAME = "MetricsCollectorConfig";
+
+  /**
+   * Path under which the configuration file is stored.
+   */
+  String METRICS_COLLECTOR_CONFIG_PATH = JSONTools.JSON_BASE_PATH + '/' + METRICS_COLLECTOR_CONFIG_RESOURCE_NAME;
+}
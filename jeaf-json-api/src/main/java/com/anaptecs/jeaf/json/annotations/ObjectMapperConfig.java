@@ -12,9 +12,14 @@ import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
+import com.anaptecs.jeaf.json.api.DataFormat;
 import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.api.RecyclerPoolType;
+import com.anaptecs.jeaf.json.api.StreamLimits;
+import com.anaptecs.jeaf.json.api.WarmUp;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import tools.jackson.core.StreamReadConstraints;
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.MapperFeature;
 import tools.jackson.databind.SerializationFeature;
@@ -41,6 +46,20 @@ public @interface ObjectMapperConfig {
    */
   String OBJECT_MAPPER_CONFIG_PATH = JSONTools.JSON_BASE_PATH + '/' + OBJECT_MAPPER_CONFIG_RESOURCE_NAME;
 
+  /**
+   * Name of the profile that is used by {@link JSONTools#getJSONTools()}.
+   */
+  String DEFAULT_PROFILE = "default";
+
+  /**
+   * Attribute can be used to define the name of the profile that is configured by this annotation. Several classes
+   * with this annotation can be listed in {@link #OBJECT_MAPPER_CONFIG_PATH} as long as each of them uses a different
+   * name. Every profile has its own object mapper as well as its own reader and writer caches and can be accessed using
+   * {@link JSONTools#profile(String)}. By default the configuration defines the default profile. If no configuration
+   * defines the default profile then the default values of this annotation are used for it.
+   */
+  String name() default DEFAULT_PROFILE;
+
   /**
    * Attribute can be used to configure minimum visibility of fields which will be directly accessed when serializing
    * objects. By default all non-transient non-static fields will be serialized no matter what visibility they have.
@@ -103,5 +122,103 @@ public @interface ObjectMapperConfig {
   DeserializationFeature[] disabledDeserializationFeatures() default {
     DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES };
 
+  /**
+   * Attribute can be used to define the maximum number of pre-built {@link tools.jackson.databind.ObjectReader}s and
+   * {@link tools.jackson.databind.ObjectWriter}s that are cached per target type. Once the limit is reached readers and
+   * writers for further types will still be created but not cached anymore.
+   */
+  int readerWriterCacheSize() default 1024;
+
+  /**
+   * Attribute can be used to define the size in bytes of the direct buffers that are used by
+   * {@link JSONTools#writeObjectToPooledBuffer(Object)}.
+   */
+  int pooledBufferSize() default 64 * 1024;
+
+  /**
+   * Attribute can be used to define the maximum number of released direct buffers that are kept in the pool. Buffers
+   * that are released while the pool is full will be left to the garbage collector.
+   */
+  int maxPooledBuffers() default 256;
+
+  /**
+   * Attribute can be used to define how the internal buffers of Jackson's parsers and generators are recycled. By
+   * default one lock-free pool is shared by all threads which is also Jackson's default. Applications with only a few
+   * platform threads may prefer {@link RecyclerPoolType#PER_THREAD}.
+   */
+  RecyclerPoolType recyclerPool() default RecyclerPoolType.LOCK_FREE;
+
+  /**
+   * Attribute can be used to define the maximum number of buffers that are kept by a
+   * {@link RecyclerPoolType#BOUNDED} recycler pool. For all other pool types the value is ignored.
+   */
+  int recyclerPoolSize() default 100;
+
+  /**
+   * Attribute can be used to define the data format that is used by {@link JSONTools#getJSONTools()}. Instances for
+   * other formats can be created using {@link JSONTools#forFormat(DataFormat)}. By default textual JSON is used.
+   */
+  DataFormat format() default DataFormat.JSON;
+
+  /**
+   * Attribute can be used to define whether binary formats write back-references for property names that were already
+   * written instead of repeating them (Smile shared names, CBOR string references). By default back-references are
+   * used as they make payloads with many objects of the same type significantly smaller.
+   */
+  boolean sharedPropertyNames() default true;
+
+  /**
+   * Attribute can be used to define whether binary formats also write back-references for short string values that
+   * were already written. By default this is disabled as it only pays off for payloads with many repeated values.
+   */
+  boolean sharedStringValues() default false;
+
+  /**
+   * Attribute can be used to define types whose readers and writers are built when JSON Tools are initialized instead
+   * of on first use. Further types can be declared in resource {@link WarmUp#WARM_UP_TYPES_PATH}. By default no types
+   * are warmed up.
+   */
+  Class<?>[] warmUpTypes() default {};
+
+  /**
+   * Attribute can be used to define how many round trips are executed for every warm-up type. Round trips serialize
+   * and deserialize an instance that is created using the type's default constructor. With the default property
+   * inclusion such an instance is usually written as <code>{}</code>, so only the code paths of empty objects are
+   * exercised. Round trips with representative samples can be executed using
+   * {@link WarmUp#run(JSONTools, java.util.Map, int)}. By default only readers and writers are built.
+   */
+  int warmUpRoundTrips() default 0;
+
+  /**
+   * Attribute can be used to define the maximum length of a document in bytes (or characters for textual input). By
+   * default the length is not limited which is also Jackson's default. Limits are applied as described in
+   * {@link StreamLimits}.
+   */
+  long maxDocumentLength() default StreamReadConstraints.DEFAULT_MAX_DOC_LEN;
+
+  /**
+   * Attribute can be used to define the maximum nesting depth of objects and arrays. The limit is applied when reading
+   * as well as when writing. By default Jackson's default of 500 is used.
+   */
+  int maxNestingDepth() default StreamReadConstraints.DEFAULT_MAX_DEPTH;
+
+  /**
+   * Attribute can be used to define the maximum length of string values. By default Jackson's default of 20,000,000
+   * characters is used.
+   */
+  int maxStringLength() default StreamReadConstraints.DEFAULT_MAX_STRING_LEN;
+
+  /**
+   * Attribute can be used to define the maximum length of numbers. By default Jackson's default of 1000 characters is
+   * used.
+   */
+  int maxNumberLength() default StreamReadConstraints.DEFAULT_MAX_NUM_LEN;
+
+  /**
+   * Attribute can be used to define the maximum length of property names. By default Jackson's default of 50,000
+   * characters is used.
+   */
+  int maxNameLength() default StreamReadConstraints.DEFAULT_MAX_NAME_LEN;
+
   // Date-Handling: https://www.baeldung.com/jackson-serialize-dates
 }
@@ -0,0 +1,50 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+
+/**
+ * Interface defines a reader that parses JSON without blocking. Instead of reading from a stream the data is pushed
+ * into the reader chunk by chunk as it arrives (e.g. from NIO channels). Each chunk is parsed as far as possible when
+ * it is fed. The complete payload is never gathered into one array.
+ *
+ * Instances are not thread safe. Chunks have to be fed one after the other, but this may happen from different threads
+ * as long as calls do not overlap.
+ *
+ * @param <R> Type of the result of the reader.
+ *
+ * @author JEAF Development Team
+ */
+public interface AsyncJSONReader<R> {
+  /**
+   * Method feeds the next chunk of data into the reader. All remaining bytes of the passed buffer are consumed. Once
+   * the method returns the buffer may be reused by the caller.
+   *
+   * @param pChunk Buffer containing the next chunk of data. Heap as well as direct buffers are supported. The parameter
+   * must not be null.
+   * @throws JEAFSystemException if the data is not valid JSON or could not be bound to the expected type. In this case
+   * also the result of the reader completes exceptionally.
+   */
+  void feed(ByteBuffer pChunk) throws JEAFSystemException;
+
+  /**
+   * Method signals that no further data will be fed. If the JSON content is not complete at this point then the result
+   * of the reader completes exceptionally.
+   */
+  void endOfInput( );
+
+  /**
+   * Method returns the future that completes with the result of the reader as soon as it is available.
+   *
+   * @return {@link CompletableFuture} Future with the result of the reader. If parsing or binding fails then the future
+   * completes exceptionally with a {@link JEAFSystemException}. The method never returns null.
+   */
+  CompletableFuture<R> getResult( );
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Class is a built-in {@link ObjectMapperModuleFactory} that adds Jackson's Blackbird module to the object mapper.
+ * Blackbird replaces reflective calls of getters, setters and constructors / factory methods with accessors that are
+ * generated at runtime using {@link java.lang.invoke.LambdaMetafactory}. Once the JIT has inlined them they are as fast
+ * as direct calls.
+ *
+ * Please be aware that properties which are accessed directly through fields are not affected, which is the default
+ * of {@link com.anaptecs.jeaf.json.annotations.ObjectMapperConfig}. {@link java.lang.invoke.LambdaMetafactory} can
+ * only bind methods. Jackson itself already accesses fields as well as getters and setters through method handles that
+ * are created once per property (see {@link java.lang.invoke.MethodHandles.Lookup#unreflectGetter unreflectGetter}
+ * and {@link java.lang.invoke.MethodHandles.Lookup#unreflectSetter unreflectSetter}). So to benefit from this module
+ * getter and setter visibility need to be configured accordingly. The gain depends on JDK and DTOs and may even
+ * be negative. So please measure with benchmark <code>AccessorBenchmarks</code> in module
+ * <code>jeaf-json-benchmarks</code> on the target JDK before enabling it.
+ *
+ * The factory is not activated automatically. To use it add an empty subclass that is annotated with
+ * {@link com.anaptecs.jeaf.json.annotations.ModuleFactory} and add dependency
+ * <code>tools.jackson.module:jackson-module-blackbird</code>.
+ *
+ * @author JEAF Development Team
+ */
+public class BlackbirdModuleFactory implements ObjectMapperModuleFactory {
+  /**
+   * Method creates a new Blackbird module.
+   *
+   * @return {@link JacksonModule} Blackbird module. The method never returns null.
+   */
+  @Override
+  public JacksonModule createModule( ) {
+    return new BlackbirdModule();
+  }
+}
@@ -0,0 +1,180 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Enumeration defines the compression formats that can be used when JSON data is written to or read from streams and
+ * files. Compression is based on <code>java.util.zip</code>. The required {@link java.util.zip.Deflater}s,
+ * {@link java.util.zip.Inflater}s and buffers are taken from a pool and returned when the compressing or decompressing
+ * stream is closed.
+ *
+ * @author JEAF Development Team
+ */
+public enum Compression {
+  /**
+   * Data is not compressed.
+   */
+  NONE,
+
+  /**
+   * Data is compressed using GZIP (RFC 1952). When reading, concatenated GZIP members are supported.
+   */
+  GZIP,
+
+  /**
+   * Data is compressed using DEFLATE with ZLIB header and checksum (RFC 1950) as it is used by HTTP content encoding
+   * <code>deflate</code>.
+   */
+  DEFLATE,
+
+  /**
+   * Compression is detected from the first bytes of the data. This can only be used for reading textual JSON. Data
+   * that is neither GZIP nor ZLIB is read uncompressed. Binary formats are not supported as their documents may start
+   * with the same bytes as ZLIB data.
+   */
+  AUTO_DETECT;
+
+  /**
+   * Number of bytes that are required by {@link #detect(byte[], int)}.
+   */
+  public static final int MAGIC_BYTES_LENGTH = 2;
+
+  /**
+   * Method detects the compression of data from its first bytes. GZIP data starts with magic number
+   * <code>1f 8b</code>. ZLIB data starts with a compression method and flags byte that form a multiple of 31 and that
+   * do not use a preset dictionary. Textual JSON documents encoded as UTF-8 never start like this. The result is not
+   * reliable for binary formats, e.g. CBOR integer 25 (<code>18 19</code>) looks like ZLIB data.
+   *
+   * @param pBytes First bytes of the data. The parameter must not be null.
+   * @param pLength Number of valid bytes in the passed array.
+   * @return {@link Compression} {@link #GZIP}, {@link #DEFLATE} or {@link #NONE} if the data is not compressed or if
+   * less than {@link #MAGIC_BYTES_LENGTH} bytes are available. The method never returns null.
+   */
+  public static Compression detect( byte[] pBytes, int pLength ) {
+    // Check parameter
+    Check.checkInvalidParameterNull(pBytes, "pBytes");
+
+    Compression lCompression;
+    if (pLength < MAGIC_BYTES_LENGTH) {
+      lCompression = NONE;
+    }
+    else {
+      int lFirst = pBytes[0] & 0xFF;
+      int lSecond = pBytes[1] & 0xFF;
+      if (lFirst == 0x1F && lSecond == 0x8B) {
+        lCompression = GZIP;
+      }
+      // Compression method 8 (deflate), window size up to 32K, no preset dictionary and valid header checksum.
+      else if ((lFirst & 0x0F) == 8 && (lFirst >> 4) <= 7 && (lSecond & 0x20) == 0
+          && ((lFirst << 8) | lSecond) % 31 == 0) {
+        lCompression = DEFLATE;
+      }
+      else {
+        lCompression = NONE;
+      }
+    }
+    return lCompression;
+  }
+
+  /**
+   * Method returns a stream that compresses all data that is written to it and passes it to the passed stream. The
+   * compressed data is completed when the returned stream is closed. Closing it also closes the passed stream and
+   * returns the pooled resources.
+   *
+   * @param pOutputStream Stream to which the compressed data should be written. The parameter must not be null.
+   * @return {@link OutputStream} Compressing stream. In case of {@link #NONE} the passed stream is returned. The
+   * method never returns null.
+   * @throws IOException if the GZIP header can not be written.
+   * @throws IllegalStateException if the method is called for {@link #AUTO_DETECT}.
+   */
+  public OutputStream compress( OutputStream pOutputStream ) throws IOException {
+    // Check parameter
+    Check.checkInvalidParameterNull(pOutputStream, "pOutputStream");
+
+    OutputStream lOutputStream;
+    switch (this) {
+      case GZIP:
+        lOutputStream = new CompressionStreams.CompressingOutputStream(pOutputStream, true);
+        break;
+
+      case DEFLATE:
+        lOutputStream = new CompressionStreams.CompressingOutputStream(pOutputStream, false);
+        break;
+
+      case AUTO_DETECT:
+        throw new IllegalStateException("Compression AUTO_DETECT can only be used for reading.");
+
+      default:
+        lOutputStream = pOutputStream;
+    }
+    return lOutputStream;
+  }
+
+  /**
+   * Method returns a stream that decompresses the textual JSON data of the passed stream. Closing the returned stream
+   * also closes the passed stream and returns the pooled resources.
+   *
+   * @param pInputStream Stream from which the compressed data should be read. The parameter must not be null.
+   * @return {@link InputStream} Decompressing stream. In case of {@link #NONE} the passed stream is returned. The
+   * method never returns null.
+   * @throws IOException if the compression can not be detected or the GZIP header is invalid.
+   */
+  public InputStream decompress( InputStream pInputStream ) throws IOException {
+    return this.decompress(pInputStream, DataFormat.JSON);
+  }
+
+  /**
+   * Method returns a stream that decompresses the data of the passed stream. Closing the returned stream also closes
+   * the passed stream and returns the pooled resources.
+   *
+   * @param pInputStream Stream from which the compressed data should be read. The parameter must not be null.
+   * @param pFormat Data format of the uncompressed data. The parameter must not be null.
+   * @return {@link InputStream} Decompressing stream. In case of {@link #NONE} the passed stream is returned. The
+   * method never returns null.
+   * @throws IOException if the compression can not be detected or the GZIP header is invalid.
+   * @throws IllegalStateException if the method is called for {@link #AUTO_DETECT} with a binary format.
+   */
+  public InputStream decompress( InputStream pInputStream, DataFormat pFormat ) throws IOException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pInputStream, "pInputStream");
+    Check.checkInvalidParameterNull(pFormat, "pFormat");
+
+    InputStream lInputStream;
+    switch (this) {
+      case GZIP:
+        lInputStream = new CompressionStreams.DecompressingInputStream(pInputStream, true);
+        break;
+
+      case DEFLATE:
+        lInputStream = new CompressionStreams.DecompressingInputStream(pInputStream, false);
+        break;
+
+      case AUTO_DETECT:
+        if (pFormat.isBinary()) {
+          throw new IllegalStateException("Compression AUTO_DETECT can only be used for textual formats.");
+        }
+        // Peek at the first bytes and push them back so that they are read again.
+        PushbackInputStream lPushback = new PushbackInputStream(pInputStream, MAGIC_BYTES_LENGTH);
+        byte[] lMagic = new byte[MAGIC_BYTES_LENGTH];
+        int lLength = lPushback.readNBytes(lMagic, 0, MAGIC_BYTES_LENGTH);
+        lPushback.unread(lMagic, 0, lLength);
+        Compression lDetected = detect(lMagic, lLength);
+        lInputStream = lDetected == NONE ? lPushback : lDetected.decompress(lPushback);
+        break;
+
+      default:
+        lInputStream = pInputStream;
+    }
+    return lInputStream;
+  }
+}
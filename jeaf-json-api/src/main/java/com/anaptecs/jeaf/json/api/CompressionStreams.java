@@ -0,0 +1,386 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Class contains the streams that are created by {@link Compression} together with the pools of their
+ * {@link Deflater}s, {@link Inflater}s and buffers. GZIP is implemented on top of raw deflate streams as
+ * {@link java.util.zip.GZIPOutputStream} and {@link java.util.zip.GZIPInputStream} always create their own deflater or
+ * inflater.
+ *
+ * @author JEAF Development Team
+ */
+final class CompressionStreams {
+  /**
+   * Size of the buffers that are used by compressing and decompressing streams.
+   */
+  static final int BUFFER_SIZE = 16 * 1024;
+
+  /**
+   * Maximum number of released objects that are kept in each pool.
+   */
+  static final int MAX_POOLED = 64;
+
+  /**
+   * Pool of deflaters that write ZLIB header and checksum.
+   */
+  static final Pool<Deflater> ZLIB_DEFLATERS = new Pool<>(( ) -> new Deflater(Deflater.DEFAULT_COMPRESSION, false));
+
+  /**
+   * Pool of deflaters that write raw deflate data as it is required for GZIP.
+   */
+  static final Pool<Deflater> RAW_DEFLATERS = new Pool<>(( ) -> new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+
+  /**
+   * Pool of inflaters that expect ZLIB header and checksum.
+   */
+  static final Pool<Inflater> ZLIB_INFLATERS = new Pool<>(( ) -> new Inflater(false));
+
+  /**
+   * Pool of inflaters that expect raw deflate data as it is contained in GZIP.
+   */
+  static final Pool<Inflater> RAW_INFLATERS = new Pool<>(( ) -> new Inflater(true));
+
+  /**
+   * Pool of buffers.
+   */
+  static final Pool<byte[]> BUFFERS = new Pool<>(( ) -> new byte[BUFFER_SIZE]);
+
+  /**
+   * GZIP magic number.
+   */
+  private static final int GZIP_MAGIC = 0x8B1F;
+
+  /**
+   * GZIP header flags.
+   */
+  private static final int FHCRC = 2;
+
+  private static final int FEXTRA = 4;
+
+  private static final int FNAME = 8;
+
+  private static final int FCOMMENT = 16;
+
+  /**
+   * GZIP header without file name, modification time or extra fields (operating system unknown).
+   */
+  private static final byte[] GZIP_HEADER = { 0x1F, (byte) 0x8B, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xFF };
+
+  /**
+   * Constructor is private as class only provides nested classes.
+   */
+  private CompressionStreams( ) {
+  }
+
+  /**
+   * Simple lock-free pool with an upper limit of pooled objects.
+   */
+  static final class Pool<T> {
+    private final Supplier<T> factory;
+
+    private final Deque<T> objects = new ConcurrentLinkedDeque<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    Pool( Supplier<T> pFactory ) {
+      factory = pFactory;
+    }
+
+    T acquire( ) {
+      T lObject = objects.pollFirst();
+      if (lObject != null) {
+        size.decrementAndGet();
+      }
+      else {
+        lObject = factory.get();
+      }
+      return lObject;
+    }
+
+    boolean release( T pObject ) {
+      boolean lAdded;
+      if (size.incrementAndGet() <= MAX_POOLED) {
+        objects.offerFirst(pObject);
+        lAdded = true;
+      }
+      else {
+        size.decrementAndGet();
+        lAdded = false;
+      }
+      return lAdded;
+    }
+
+    int size( ) {
+      return size.get();
+    }
+  }
+
+  /**
+   * Stream compresses data using GZIP or DEFLATE with pooled deflater and buffer.
+   */
+  static final class CompressingOutputStream extends DeflaterOutputStream {
+    private final boolean gzip;
+
+    private final CRC32 crc = new CRC32();
+
+    private boolean released;
+
+    CompressingOutputStream( OutputStream pOutputStream, boolean pGZIP ) throws IOException {
+      // Buffer of the super class is replaced by a pooled one.
+      super(pOutputStream, (pGZIP ? RAW_DEFLATERS : ZLIB_DEFLATERS).acquire(), 1);
+      buf = BUFFERS.acquire();
+      gzip = pGZIP;
+      if (gzip) {
+        try {
+          out.write(GZIP_HEADER);
+        }
+        catch (IOException e) {
+          this.release();
+          throw e;
+        }
+      }
+    }
+
+    @Override
+    public void write( byte[] pBytes, int pOffset, int pLength ) throws IOException {
+      // Deflater and buffer may already be used by another stream.
+      if (released) {
+        throw new IOException("Stream closed");
+      }
+      super.write(pBytes, pOffset, pLength);
+      if (gzip) {
+        crc.update(pBytes, pOffset, pLength);
+      }
+    }
+
+    @Override
+    public void finish( ) throws IOException {
+      if (released == false && def.finished() == false) {
+        super.finish();
+        if (gzip) {
+          writeInt(out, (int) crc.getValue());
+          writeInt(out, (int) def.getBytesRead());
+        }
+      }
+    }
+
+    @Override
+    public void close( ) throws IOException {
+      try {
+        if (released == false) {
+          super.close();
+        }
+      }
+      finally {
+        this.release();
+      }
+    }
+
+    private void release( ) {
+      if (released == false) {
+        released = true;
+        def.reset();
+        (gzip ? RAW_DEFLATERS : ZLIB_DEFLATERS).release(def);
+        BUFFERS.release(buf);
+      }
+    }
+  }
+
+  /**
+   * Stream decompresses GZIP or DEFLATE data with pooled inflater and buffer.
+   */
+  static final class DecompressingInputStream extends InflaterInputStream {
+    private final boolean gzip;
+
+    private final CRC32 crc = new CRC32();
+
+    private boolean released;
+
+    private boolean eos;
+
+    DecompressingInputStream( InputStream pInputStream, boolean pGZIP ) throws IOException {
+      // Buffer of the super class is replaced by a pooled one.
+      super(pInputStream, (pGZIP ? RAW_INFLATERS : ZLIB_INFLATERS).acquire(), 1);
+      buf = BUFFERS.acquire();
+      gzip = pGZIP;
+      if (gzip) {
+        try {
+          if (readHeader(in) == false) {
+            throw new EOFException("Missing GZIP header.");
+          }
+        }
+        catch (IOException e) {
+          this.release();
+          throw e;
+        }
+      }
+    }
+
+    @Override
+    public int read( byte[] pBytes, int pOffset, int pLength ) throws IOException {
+      int lRead;
+      if (eos) {
+        lRead = -1;
+      }
+      else {
+        lRead = super.read(pBytes, pOffset, pLength);
+        if (lRead == -1) {
+          if (gzip && this.readTrailer() == false) {
+            lRead = this.read(pBytes, pOffset, pLength);
+          }
+          else {
+            eos = true;
+          }
+        }
+        else if (gzip) {
+          crc.update(pBytes, pOffset, lRead);
+        }
+      }
+      return lRead;
+    }
+
+    @Override
+    public int available( ) throws IOException {
+      return eos ? 0 : super.available();
+    }
+
+    @Override
+    public void close( ) throws IOException {
+      try {
+        if (released == false) {
+          super.close();
+        }
+      }
+      finally {
+        this.release();
+      }
+    }
+
+    /**
+     * Method checks the trailer of the current GZIP member and starts the next member if there is one.
+     *
+     * @return boolean Method returns true if the end of the data is reached and false if another member follows.
+     */
+    private boolean readTrailer( ) throws IOException {
+      // Bytes that were read ahead by the inflater belong to the trailer or to the next member.
+      InputStream lInputStream = in;
+      int lRemaining = inf.getRemaining();
+      if (lRemaining > 0) {
+        lInputStream = new SequenceInputStream(new ByteArrayInputStream(buf, len - lRemaining, lRemaining), in);
+      }
+      if (readInt(lInputStream) != (int) crc.getValue() || readInt(lInputStream) != (int) inf.getBytesWritten()) {
+        throw new ZipException("Corrupt GZIP trailer.");
+      }
+      boolean lEnd;
+      if (readHeader(lInputStream)) {
+        in = lInputStream;
+        inf.reset();
+        crc.reset();
+        lEnd = false;
+      }
+      else {
+        lEnd = true;
+      }
+      return lEnd;
+    }
+
+    private void release( ) {
+      if (released == false) {
+        released = true;
+        inf.reset();
+        (gzip ? RAW_INFLATERS : ZLIB_INFLATERS).release(inf);
+        BUFFERS.release(buf);
+      }
+    }
+  }
+
+  /**
+   * Method reads a GZIP member header.
+   *
+   * @param pInputStream Stream from which the header is read. The parameter must not be null.
+   * @return boolean Method returns true if a header was read and false if the stream is already at its end.
+   */
+  private static boolean readHeader( InputStream pInputStream ) throws IOException {
+    int lFirst = pInputStream.read();
+    boolean lHeader;
+    if (lFirst == -1) {
+      lHeader = false;
+    }
+    else {
+      if ((lFirst | (readByte(pInputStream) << 8)) != GZIP_MAGIC) {
+        throw new ZipException("Not in GZIP format.");
+      }
+      if (readByte(pInputStream) != Deflater.DEFLATED) {
+        throw new ZipException("Unsupported GZIP compression method.");
+      }
+      int lFlags = readByte(pInputStream);
+      // Modification time, extra flags and operating system.
+      skipBytes(pInputStream, 6);
+      if ((lFlags & FEXTRA) == FEXTRA) {
+        skipBytes(pInputStream, readByte(pInputStream) | (readByte(pInputStream) << 8));
+      }
+      if ((lFlags & FNAME) == FNAME) {
+        while (readByte(pInputStream) != 0) {
+          // Skip file name.
+        }
+      }
+      if ((lFlags & FCOMMENT) == FCOMMENT) {
+        while (readByte(pInputStream) != 0) {
+          // Skip comment.
+        }
+      }
+      if ((lFlags & FHCRC) == FHCRC) {
+        skipBytes(pInputStream, 2);
+      }
+      lHeader = true;
+    }
+    return lHeader;
+  }
+
+  private static int readByte( InputStream pInputStream ) throws IOException {
+    int lByte = pInputStream.read();
+    if (lByte == -1) {
+      throw new EOFException("Unexpected end of GZIP data.");
+    }
+    return lByte;
+  }
+
+  private static int readInt( InputStream pInputStream ) throws IOException {
+    return readByte(pInputStream) | (readByte(pInputStream) << 8) | (readByte(pInputStream) << 16)
+        | (readByte(pInputStream) << 24);
+  }
+
+  private static void skipBytes( InputStream pInputStream, int pCount ) throws IOException {
+    for (int i = 0; i < pCount; i++) {
+      readByte(pInputStream);
+    }
+  }
+
+  private static void writeInt( OutputStream pOutputStream, int pValue ) throws IOException {
+    pOutputStream.write(pValue & 0xFF);
+    pOutputStream.write((pValue >> 8) & 0xFF);
+    pOutputStream.write((pValue >> 16) & 0xFF);
+    pOutputStream.write((pValue >> 24) & 0xFF);
+  }
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+/**
+ * Enumeration defines the data formats that are supported by {@link JSONTools}. Besides textual JSON also the binary
+ * formats Smile and CBOR are supported. They use the same data model as JSON, so the same objects and the same modules
+ * can be used with all of them but parsing and generating them is considerably cheaper.
+ *
+ * Binary formats require that the according Jackson data format module (<code>jackson-dataformat-smile</code> or
+ * <code>jackson-dataformat-cbor</code>) is available at runtime.
+ *
+ * @author JEAF Development Team
+ */
+public enum DataFormat {
+  /**
+   * Textual JSON (RFC 8259).
+   */
+  JSON("application/json", false),
+
+  /**
+   * Binary JSON format Smile.
+   */
+  SMILE("application/x-jackson-smile", true),
+
+  /**
+   * Concise Binary Object Representation (RFC 8949).
+   */
+  CBOR("application/cbor", true);
+
+  /**
+   * Media type of the format.
+   */
+  private final String mediaType;
+
+  /**
+   * Flag indicates whether the format is binary.
+   */
+  private final boolean binary;
+
+  /**
+   * Initialize object.
+   *
+   * @param pMediaType Media type of the format.
+   * @param pBinary Flag indicates whether the format is binary.
+   */
+  private DataFormat( String pMediaType, boolean pBinary ) {
+    mediaType = pMediaType;
+    binary = pBinary;
+  }
+
+  /**
+   * Method returns the media type of the format, e.g. to be used as HTTP content type.
+   *
+   * @return {@link String} Media type of the format. The method never returns null.
+   */
+  public String getMediaType( ) {
+    return mediaType;
+  }
+
+  /**
+   * Method checks whether the format is binary. Binary formats can not be read from or written to {@link String}s,
+   * {@link java.io.Reader}s and {@link java.io.Writer}s.
+   *
+   * @return boolean Method returns true if the format is binary and false if it is textual.
+   */
+  public boolean isBinary( ) {
+    return binary;
+  }
+}
@@ -0,0 +1,373 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.TokenStreamContext;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.cfg.MapperConfig;
+import tools.jackson.databind.introspect.Annotated;
+import tools.jackson.databind.introspect.AnnotatedClass;
+import tools.jackson.databind.introspect.NopAnnotationIntrospector;
+import tools.jackson.databind.jsonFormatVisitors.JsonObjectFormatVisitor;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.FilterProvider;
+import tools.jackson.databind.ser.PropertyFilter;
+import tools.jackson.databind.ser.PropertyWriter;
+
+/**
+ * Class represents a sparse fieldset, i.e. the set of properties that should be written when an object is serialized.
+ * Properties are addressed by their JSON names and nested properties are separated by '.', e.g. "id,address.city".
+ * Selecting a property includes all properties below it. Collections and arrays are transparent, so "items.price"
+ * selects the price of every element of "items". Map entries are treated like properties.
+ *
+ * Projections are compiled into a tree once and interned, so {@link #compile(String)} returns the same instance for the
+ * same set of paths. Filtering happens while serializing: excluded properties are skipped before their value is
+ * accessed, so getters of excluded properties are never invoked.
+ *
+ * Projected writes require an object mapper that assigns the projection filter to all classes. As every property of
+ * such a mapper is written through the filter, it should only be used for projected writes. It is created from the
+ * regular object mapper using {@link #createProjectionMapper(ObjectMapper)} (see
+ * {@link JSONTools#writeObject(Object, java.io.OutputStream, FieldProjection)}). Classes that define their own filter
+ * using {@link com.fasterxml.jackson.annotation.JsonFilter} are not projected. Within projected writes their filter is
+ * replaced by one that writes all properties, as the filter provider of a projection replaces the one of the mapper.
+ *
+ * @author JEAF Development Team
+ */
+public final class FieldProjection {
+  /**
+   * Id of the property filter that is assigned to all classes by {@link #createModule()}.
+   */
+  public static final String FILTER_ID = "com.anaptecs.jeaf.json.api.FieldProjection";
+
+  /**
+   * Filter that writes all properties.
+   */
+  private static final PropertyFilter WRITE_ALL = new ProjectionFilter(Node.ALL);
+
+  /**
+   * Projection that selects all properties.
+   */
+  public static final FieldProjection ALL = new FieldProjection(Collections.emptySet(), Node.ALL);
+
+  /**
+   * Maximum number of projections that are interned. Further projections are still compiled but not kept.
+   */
+  private static final int MAX_INTERNED_PROJECTIONS = 1024;
+
+  /**
+   * Interned projections with their canonical form as key.
+   */
+  private static final Map<String, FieldProjection> PROJECTIONS = new ConcurrentHashMap<>();
+
+  /**
+   * Selected paths.
+   */
+  private final Set<String> paths;
+
+  /**
+   * Root of the compiled path tree.
+   */
+  private final Node root;
+
+  /**
+   * Filter provider that applies this projection.
+   */
+  private final FilterProvider filterProvider;
+
+  /**
+   * Initialize object.
+   *
+   * @param pPaths Selected paths. The set will not be copied.
+   * @param pRoot Root of the compiled path tree. The parameter must not be null.
+   */
+  private FieldProjection( Set<String> pPaths, Node pRoot ) {
+    paths = Collections.unmodifiableSet(pPaths);
+    root = pRoot;
+    filterProvider = new ProjectionFilterProvider(new ProjectionFilter(pRoot));
+  }
+
+  /**
+   * Method returns the projection for the passed comma separated list of paths as it is typically passed by REST
+   * clients, e.g. "id,name,address.city". Whitespace around paths is ignored.
+   *
+   * @param pFieldSet Comma separated list of paths. The parameter must not be null.
+   * @return {@link FieldProjection} Compiled projection. The method never returns null.
+   * @throws IllegalArgumentException if one of the paths contains an empty segment.
+   */
+  public static FieldProjection compile( String pFieldSet ) {
+    Check.checkInvalidParameterNull(pFieldSet, "pFieldSet");
+    return of(Arrays.asList(pFieldSet.split(",")));
+  }
+
+  /**
+   * Method returns the projection for the passed paths.
+   *
+   * @param pPaths Paths that should be selected. The parameter must not be null.
+   * @return {@link FieldProjection} Compiled projection. The method never returns null.
+   * @throws IllegalArgumentException if one of the paths contains an empty segment.
+   */
+  public static FieldProjection of( String... pPaths ) {
+    Check.checkInvalidParameterNull(pPaths, "pPaths");
+    return of(Arrays.asList(pPaths));
+  }
+
+  /**
+   * Method returns the projection for the passed paths.
+   *
+   * @param pPaths Paths that should be selected. The parameter must not be null.
+   * @return {@link FieldProjection} Compiled projection. The method never returns null.
+   * @throws IllegalArgumentException if one of the paths contains an empty segment.
+   */
+  public static FieldProjection of( Collection<String> pPaths ) {
+    Check.checkInvalidParameterNull(pPaths, "pPaths");
+
+    // Canonical form ignores order, whitespace and duplicates.
+    Set<String> lPaths = new TreeSet<>();
+    for (String lPath : pPaths) {
+      String lTrimmed = lPath.trim();
+      if (lTrimmed.isEmpty() == false) {
+        lPaths.add(lTrimmed);
+      }
+    }
+    String lKey = String.join(",", lPaths);
+    FieldProjection lProjection = PROJECTIONS.get(lKey);
+    if (lProjection == null) {
+      lProjection = new FieldProjection(lPaths, compileTree(lPaths));
+      if (PROJECTIONS.size() < MAX_INTERNED_PROJECTIONS) {
+        FieldProjection lExisting = PROJECTIONS.putIfAbsent(lKey, lProjection);
+        if (lExisting != null) {
+          lProjection = lExisting;
+        }
+      }
+    }
+    return lProjection;
+  }
+
+  private static Node compileTree( Set<String> pPaths ) {
+    Node lRoot = new Node();
+    for (String lPath : pPaths) {
+      Node lNode = lRoot;
+      String[] lSegments = lPath.split("\\.", -1);
+      for (int i = 0; i < lSegments.length && lNode != Node.ALL; i++) {
+        String lSegment = lSegments[i].trim();
+        if (lSegment.isEmpty()) {
+          throw new IllegalArgumentException("Path '" + lPath + "' contains an empty segment.");
+        }
+        if (i == lSegments.length - 1) {
+          lNode.children.put(lSegment, Node.ALL);
+        }
+        else {
+          lNode = lNode.children.computeIfAbsent(lSegment, k -> new Node());
+        }
+      }
+    }
+    return lRoot;
+  }
+
+  /**
+   * Method creates a copy of the passed object mapper that is used for projected writes. The copy registers
+   * {@link #createModule()} and uses the filter provider of {@link #ALL} as default. The passed mapper is not changed,
+   * so regular writes neither pay for filtering nor lose filters of the application.
+   *
+   * @param pMapper Object mapper whose configuration should be used. The parameter must not be null.
+   * @return {@link ObjectMapper} Object mapper for projected writes. The method never returns null.
+   */
+  public static ObjectMapper createProjectionMapper( ObjectMapper pMapper ) {
+    // Check parameter
+    Check.checkInvalidParameterNull(pMapper, "pMapper");
+
+    return pMapper.rebuild().addModule(createModule()).filterProvider(ALL.getFilterProvider()).build();
+  }
+
+  /**
+   * Method creates a module that assigns the filter of field projections to all classes that do not define a filter
+   * of their own. Together with the filter provider of {@link #ALL} all properties are written as before, but every
+   * property is written through the filter. The module should therefore only be registered on object mappers that are
+   * used for projected writes (see {@link #createProjectionMapper(ObjectMapper)}).
+   *
+   * @return {@link JacksonModule} Module that enables field projections. The method never returns null.
+   */
+  public static JacksonModule createModule( ) {
+    return new SimpleModule(FieldProjection.class.getName()) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public void setupModule( SetupContext pContext ) {
+        super.setupModule(pContext);
+        pContext.appendAnnotationIntrospector(new ProjectionIntrospector());
+      }
+    };
+  }
+
+  /**
+   * Method returns all selected paths.
+   *
+   * @return {@link Set} Selected paths in canonical order. For {@link #ALL} an empty set is returned. The method never
+   * returns null.
+   */
+  public Set<String> getPaths( ) {
+    return paths;
+  }
+
+  /**
+   * Method checks if the property with the passed path is written by this projection.
+   *
+   * @param pPath Path of the property, e.g. "address.city". The parameter must not be null.
+   * @return boolean Method returns true if the property is written.
+   */
+  public boolean includes( String pPath ) {
+    Check.checkInvalidParameterNull(pPath, "pPath");
+    Node lNode = root;
+    for (String lSegment : pPath.split("\\.")) {
+      lNode = lNode.getChild(lSegment);
+      if (lNode == null) {
+        break;
+      }
+    }
+    return lNode != null;
+  }
+
+  /**
+   * Method returns the filter provider that applies this projection. It has to be passed to
+   * {@link tools.jackson.databind.ObjectWriter#with(FilterProvider)}. Filters with other ids than {@link #FILTER_ID}
+   * write all properties.
+   *
+   * @return {@link FilterProvider} Filter provider of this projection. The method never returns null.
+   */
+  public FilterProvider getFilterProvider( ) {
+    return filterProvider;
+  }
+
+  @Override
+  public String toString( ) {
+    return this == ALL ? "*" : String.join(",", paths);
+  }
+
+  /**
+   * Node of the compiled path tree.
+   */
+  private static final class Node {
+    /**
+     * Node that selects everything below it.
+     */
+    static final Node ALL = new Node();
+
+    /**
+     * Selected child properties.
+     */
+    final Map<String, Node> children = new HashMap<>();
+
+    Node getChild( String pName ) {
+      return this == ALL ? ALL : children.get(pName);
+    }
+  }
+
+  /**
+   * Property filter that writes only the properties that are selected by the path tree. The node of the current object
+   * is resolved from the write context of the generator, so the filter does not keep any state.
+   */
+  private static final class ProjectionFilter implements PropertyFilter {
+    private final Node root;
+
+    ProjectionFilter( Node pRoot ) {
+      root = pRoot;
+    }
+
+    @Override
+    public void serializeAsProperty( Object pPOJO, JsonGenerator pGenerator, SerializationContext pContext,
+        PropertyWriter pWriter ) throws Exception {
+      Node lNode = root == Node.ALL ? Node.ALL : this.resolve(pGenerator.streamWriteContext());
+      if (lNode != null && lNode.getChild(pWriter.getName()) != null) {
+        pWriter.serializeAsProperty(pPOJO, pGenerator, pContext);
+      }
+      else if (pGenerator.canOmitProperties() == false) {
+        pWriter.serializeAsOmittedProperty(pPOJO, pGenerator, pContext);
+      }
+    }
+
+    @Override
+    public void serializeAsElement( Object pElement, JsonGenerator pGenerator, SerializationContext pContext,
+        PropertyWriter pWriter ) throws Exception {
+      pWriter.serializeAsElement(pElement, pGenerator, pContext);
+    }
+
+    @Override
+    public void depositSchemaProperty( PropertyWriter pWriter, JsonObjectFormatVisitor pVisitor,
+        SerializationContext pContext ) {
+      pWriter.depositSchemaProperty(pVisitor, pContext);
+    }
+
+    @Override
+    public PropertyFilter snapshot( ) {
+      return this;
+    }
+
+    private Node resolve( TokenStreamContext pObjectContext ) {
+      // Arrays do not add a level to paths.
+      TokenStreamContext lParent = pObjectContext.getParent();
+      while (lParent != null && lParent.inArray()) {
+        lParent = lParent.getParent();
+      }
+      Node lNode;
+      if (lParent == null || lParent.inRoot()) {
+        lNode = root;
+      }
+      else {
+        lNode = this.resolve(lParent);
+        if (lNode != null) {
+          lNode = lNode.getChild(lParent.currentName());
+        }
+      }
+      return lNode;
+    }
+  }
+
+  /**
+   * Filter provider that returns the filter of a projection.
+   */
+  private static final class ProjectionFilterProvider extends FilterProvider {
+    private final PropertyFilter filter;
+
+    ProjectionFilterProvider( PropertyFilter pFilter ) {
+      filter = pFilter;
+    }
+
+    @Override
+    public PropertyFilter findPropertyFilter( SerializationContext pContext, Object pFilterId, Object pValue ) {
+      return FILTER_ID.equals(pFilterId) ? filter : WRITE_ALL;
+    }
+
+    @Override
+    public FilterProvider snapshot( ) {
+      return this;
+    }
+  }
+
+  /**
+   * Annotation introspector that assigns the filter id of projections to all classes.
+   */
+  private static final class ProjectionIntrospector extends NopAnnotationIntrospector {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Object findFilterId( MapperConfig<?> pConfig, Annotated pAnnotated ) {
+      return pAnnotated instanceof AnnotatedClass ? FILTER_ID : null;
+    }
+  }
+}
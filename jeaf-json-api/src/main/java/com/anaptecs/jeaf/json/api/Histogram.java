@@ -0,0 +1,128 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class implements a lock-free histogram for non negative values. Values are counted in buckets whose bounds are powers
+ * of two, so bucket 0 contains value 0, bucket 1 value 1, bucket 2 values 2 to 3, bucket 3 values 4 to 7 and so on.
+ * This keeps the histogram small and recording cheap while percentiles are still accurate within a factor of two.
+ *
+ * All counters are striped so that concurrent recording does not cause contention. Bucket counters are only created
+ * when the first value is recorded in the bucket. As real latencies and sizes only span a few powers of two, most
+ * buckets stay empty and a histogram only uses the memory of the buckets that are really in use.
+ *
+ * @author JEAF Development Team
+ */
+public final class Histogram {
+  /**
+   * Number of buckets that are required to cover all positive long values.
+   */
+  static final int BUCKET_COUNT = Long.SIZE;
+
+  /**
+   * Counters for each bucket. Buckets in which no value was recorded yet are null.
+   */
+  private final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+
+  /**
+   * Sum of all recorded values.
+   */
+  private final LongAdder sum = new LongAdder();
+
+  /**
+   * Largest recorded value.
+   */
+  private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+  /**
+   * Initialize object.
+   */
+  public Histogram( ) {
+  }
+
+  /**
+   * Method records the passed value. Negative values are ignored.
+   *
+   * @param pValue Value that should be recorded.
+   */
+  public void record( long pValue ) {
+    if (pValue >= 0) {
+      this.getBucket(bucketOf(pValue)).increment();
+      sum.add(pValue);
+      max.accumulate(pValue);
+    }
+  }
+
+  /**
+   * Method resets all counters of the histogram.
+   */
+  public void reset( ) {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      LongAdder lBucket = buckets.get(i);
+      if (lBucket != null) {
+        lBucket.reset();
+      }
+    }
+    sum.reset();
+    max.reset();
+  }
+
+  /**
+   * Method returns a snapshot of the current state of the histogram. As recording is not blocked while the snapshot is
+   * taken, values that are recorded concurrently may only be partially reflected.
+   *
+   * @return {@link HistogramSnapshot} Snapshot of the histogram. The method never returns null.
+   */
+  public HistogramSnapshot snapshot( ) {
+    long[] lCounts = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      LongAdder lBucket = buckets.get(i);
+      lCounts[i] = lBucket != null ? lBucket.sum() : 0;
+    }
+    return new HistogramSnapshot(lCounts, sum.sum(), max.get());
+  }
+
+  /**
+   * Method returns the counter of the bucket with the passed index. If the bucket is not in use yet then its counter
+   * will be created.
+   *
+   * @param pBucket Index of the bucket.
+   * @return {@link LongAdder} Counter of the bucket. The method never returns null.
+   */
+  private LongAdder getBucket( int pBucket ) {
+    LongAdder lBucket = buckets.get(pBucket);
+    if (lBucket == null) {
+      // Only one of several concurrently created counters wins so that no recorded value gets lost.
+      buckets.compareAndSet(pBucket, null, new LongAdder());
+      lBucket = buckets.get(pBucket);
+    }
+    return lBucket;
+  }
+
+  /**
+   * Method returns the index of the bucket to which the passed value belongs.
+   *
+   * @param pValue Value whose bucket should be returned. The value must not be negative.
+   * @return int Index of the bucket.
+   */
+  static int bucketOf( long pValue ) {
+    return Long.SIZE - Long.numberOfLeadingZeros(pValue);
+  }
+
+  /**
+   * Method returns the largest value that belongs to the bucket with the passed index.
+   *
+   * @param pBucket Index of the bucket.
+   * @return long Upper bound of the bucket.
+   */
+  static long upperBoundOf( int pBucket ) {
+    return pBucket < Long.SIZE - 1 ? (1L << pBucket) - 1 : Long.MAX_VALUE;
+  }
+}
@@ -0,0 +1,167 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Class is the default implementation of {@link JSONMetricsCollector}. For every type and operation it keeps a
+ * {@link Histogram} of the latencies (in nanoseconds) and one of the payload sizes (in bytes) as well as a failure
+ * counter. All of them are lock-free and can be queried at any time. Metrics of an operation are only created when the
+ * operation is executed on the type for the first time.
+ *
+ * The class is not annotated itself so that metrics are only collected when an application asks for it. To activate it
+ * just add an empty subclass that is annotated with {@link com.anaptecs.jeaf.json.annotations.MetricsCollector}. The
+ * registered instance can be accessed using {@link JSONTools#getMetricsCollector(Class)}.
+ *
+ * @author JEAF Development Team
+ */
+public class HistogramMetricsCollector implements JSONMetricsCollector {
+  /**
+   * Metrics of all types that were read or written so far. As {@link ObjectType}s are canonical they can be used as
+   * keys directly.
+   */
+  private final ConcurrentHashMap<ObjectType, TypeMetrics> metrics = new ConcurrentHashMap<>();
+
+  @Override
+  public void recordOperation( JSONOperation pOperation, ObjectType pType, long pBytes, long pDurationNanos ) {
+    OperationMetrics lMetrics = this.getTypeMetrics(pType).getOperationMetrics(pOperation);
+    lMetrics.latencies.record(pDurationNanos);
+    lMetrics.sizes.record(pBytes);
+  }
+
+  @Override
+  public void recordFailure( JSONOperation pOperation, ObjectType pType, long pDurationNanos ) {
+    this.getTypeMetrics(pType).getOperationMetrics(pOperation).failures.increment();
+  }
+
+  /**
+   * Method returns all types for which metrics were recorded.
+   *
+   * @return {@link Set} Types with metrics. The method never returns null.
+   */
+  public Set<ObjectType> getTypes( ) {
+    return Collections.unmodifiableSet(metrics.keySet());
+  }
+
+  /**
+   * Method returns the latencies of the passed operation on the passed type.
+   *
+   * @param pType Type whose metrics should be returned. The parameter must not be null.
+   * @param pOperation Operation whose metrics should be returned. The parameter must not be null.
+   * @return {@link HistogramSnapshot} Latencies in nanoseconds. The method never returns null.
+   */
+  public HistogramSnapshot getLatencies( ObjectType pType, JSONOperation pOperation ) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pType, "pType");
+    Check.checkInvalidParameterNull(pOperation, "pOperation");
+
+    OperationMetrics lMetrics = this.findOperationMetrics(pType, pOperation);
+    return lMetrics != null ? lMetrics.latencies.snapshot() : HistogramSnapshot.EMPTY;
+  }
+
+  /**
+   * Method returns the payload sizes of the passed operation on the passed type.
+   *
+   * @param pType Type whose metrics should be returned. The parameter must not be null.
+   * @param pOperation Operation whose metrics should be returned. The parameter must not be null.
+   * @return {@link HistogramSnapshot} Payload sizes in bytes. Operations with unknown size are not included. The method
+   * never returns null.
+   */
+  public HistogramSnapshot getSizes( ObjectType pType, JSONOperation pOperation ) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pType, "pType");
+    Check.checkInvalidParameterNull(pOperation, "pOperation");
+
+    OperationMetrics lMetrics = this.findOperationMetrics(pType, pOperation);
+    return lMetrics != null ? lMetrics.sizes.snapshot() : HistogramSnapshot.EMPTY;
+  }
+
+  /**
+   * Method returns the number of failed operations on the passed type.
+   *
+   * @param pType Type whose metrics should be returned. The parameter must not be null.
+   * @param pOperation Operation whose metrics should be returned. The parameter must not be null.
+   * @return long Number of failed operations.
+   */
+  public long getFailures( ObjectType pType, JSONOperation pOperation ) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pType, "pType");
+    Check.checkInvalidParameterNull(pOperation, "pOperation");
+
+    OperationMetrics lMetrics = this.findOperationMetrics(pType, pOperation);
+    return lMetrics != null ? lMetrics.failures.sum() : 0;
+  }
+
+  /**
+   * Method removes all recorded metrics.
+   */
+  public void reset( ) {
+    metrics.clear();
+  }
+
+  /**
+   * Method returns the metrics of the passed type. If there are no metrics for the type yet then they will be created.
+   *
+   * @param pType Type whose metrics should be returned. The parameter must not be null.
+   * @return {@link TypeMetrics} Metrics of the type. The method never returns null.
+   */
+  private TypeMetrics getTypeMetrics( ObjectType pType ) {
+    // Lookup without locking first as computeIfAbsent(...) may lock even if the key is present.
+    TypeMetrics lMetrics = metrics.get(pType);
+    if (lMetrics == null) {
+      lMetrics = metrics.computeIfAbsent(pType, pKey -> new TypeMetrics());
+    }
+    return lMetrics;
+  }
+
+  /**
+   * Method returns the metrics of the passed operation on the passed type if there are any.
+   *
+   * @param pType Type whose metrics should be returned. The parameter must not be null.
+   * @param pOperation Operation whose metrics should be returned. The parameter must not be null.
+   * @return {@link OperationMetrics} Metrics of the operation or null if the operation was not recorded yet.
+   */
+  private OperationMetrics findOperationMetrics( ObjectType pType, JSONOperation pOperation ) {
+    TypeMetrics lMetrics = metrics.get(pType);
+    return lMetrics != null ? lMetrics.operations.get(pOperation.ordinal()) : null;
+  }
+
+  /**
+   * Class holds the metrics of one type for all operations. Metrics of operations that were not recorded yet are null.
+   */
+  private static final class TypeMetrics {
+    private final AtomicReferenceArray<OperationMetrics> operations =
+        new AtomicReferenceArray<>(JSONOperation.values().length);
+
+    OperationMetrics getOperationMetrics( JSONOperation pOperation ) {
+      int lIndex = pOperation.ordinal();
+      OperationMetrics lMetrics = operations.get(lIndex);
+      if (lMetrics == null) {
+        operations.compareAndSet(lIndex, null, new OperationMetrics());
+        lMetrics = operations.get(lIndex);
+      }
+      return lMetrics;
+    }
+  }
+
+  /**
+   * Class holds the metrics of one operation on one type.
+   */
+  private static final class OperationMetrics {
+    private final Histogram latencies = new Histogram();
+
+    private final Histogram sizes = new Histogram();
+
+    private final LongAdder failures = new LongAdder();
+  }
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+/**
+ * Class represents an immutable snapshot of a {@link Histogram}.
+ *
+ * @author JEAF Development Team
+ */
+public final class HistogramSnapshot {
+  /**
+   * Empty snapshot.
+   */
+  static final HistogramSnapshot EMPTY = new HistogramSnapshot(new long[Histogram.BUCKET_COUNT], 0, 0);
+
+  /**
+   * Number of values per bucket.
+   */
+  private final long[] bucketCounts;
+
+  /**
+   * Total number of recorded values.
+   */
+  private final long count;
+
+  /**
+   * Sum of all recorded values.
+   */
+  private final long sum;
+
+  /**
+   * Largest recorded value.
+   */
+  private final long max;
+
+  /**
+   * Initialize object.
+   *
+   * @param pBucketCounts Number of values per bucket. The array will not be copied.
+   * @param pSum Sum of all recorded values.
+   * @param pMax Largest recorded value.
+   */
+  HistogramSnapshot( long[] pBucketCounts, long pSum, long pMax ) {
+    bucketCounts = pBucketCounts;
+    long lCount = 0;
+    for (long lBucketCount : pBucketCounts) {
+      lCount += lBucketCount;
+    }
+    count = lCount;
+    sum = pSum;
+    max = pMax;
+  }
+
+  /**
+   * Method returns the number of recorded values.
+   *
+   * @return long Number of recorded values.
+   */
+  public long getCount( ) {
+    return count;
+  }
+
+  /**
+   * Method returns the sum of all recorded values.
+   *
+   * @return long Sum of all recorded values.
+   */
+  public long getSum( ) {
+    return sum;
+  }
+
+  /**
+   * Method returns the largest recorded value.
+   *
+   * @return long Largest recorded value or 0 if no value was recorded.
+   */
+  public long getMax( ) {
+    return max;
+  }
+
+  /**
+   * Method returns the mean of all recorded values.
+   *
+   * @return double Mean of all recorded values or 0 if no value was recorded.
+   */
+  public double getMean( ) {
+    return count > 0 ? (double) sum / count : 0;
+  }
+
+  /**
+   * Method returns an upper bound for the passed percentile. As buckets are powers of two the real value is at most
+   * half of the returned value smaller. The returned value never exceeds the largest recorded value.
+   *
+   * @param pPercentile Percentile that should be returned, e.g. 99.9. The value must be between 0 and 100.
+   * @return long Upper bound of the percentile or 0 if no value was recorded.
+   */
+  public long getPercentile( double pPercentile ) {
+    if (pPercentile < 0 || pPercentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100 but is " + pPercentile + ".");
+    }
+    long lValue = 0;
+    if (count > 0) {
+      long lRank = Math.max(1, (long) Math.ceil(count * pPercentile / 100));
+      long lSeen = 0;
+      for (int i = 0; i < bucketCounts.length; i++) {
+        lSeen += bucketCounts[i];
+        if (lSeen >= lRank) {
+          lValue = Math.min(Histogram.upperBoundOf(i), max);
+          break;
+        }
+      }
+    }
+    return lValue;
+  }
+
+  /**
+   * Method returns the number of recorded values in the passed bucket. Bucket 0 contains value 0, bucket n values from
+   * 2^(n-1) to 2^n - 1.
+   *
+   * @param pBucket Index of the bucket. The value must be between 0 and 63.
+   * @return long Number of recorded values in the bucket.
+   */
+  public long getBucketCount( int pBucket ) {
+    return bucketCounts[pBucket];
+  }
+
+  @Override
+  public String toString( ) {
+    StringBuilder lBuilder = new StringBuilder();
+    lBuilder.append("count=").append(count).append(", mean=").append(Math.round(this.getMean()));
+    lBuilder.append(", p50=").append(this.getPercentile(50)).append(", p99=").append(this.getPercentile(99));
+    lBuilder.append(", max=").append(max);
+    return lBuilder.toString();
+  }
+}
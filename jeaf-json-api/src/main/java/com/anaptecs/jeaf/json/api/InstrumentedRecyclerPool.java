@@ -0,0 +1,327 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+import java.lang.ref.SoftReference;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import tools.jackson.core.util.BufferRecycler;
+import tools.jackson.core.util.RecyclerPool;
+
+/**
+ * Class is the base class of all buffer recycler pools that are created through {@link RecyclerPoolType}. Besides
+ * pooling it counts hits and misses so that the right strategy can be chosen for each deployment. Counters are striped
+ * and do not add any locking to the pool.
+ *
+ * Instances are created using {@link RecyclerPoolType#createPool(int)}.
+ *
+ * @author JEAF Development Team
+ */
+public abstract class InstrumentedRecyclerPool implements RecyclerPool<BufferRecycler> {
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Type of the pool.
+   */
+  private final RecyclerPoolType type;
+
+  /**
+   * Maximum number of buffer recyclers that are kept by the pool.
+   */
+  private final int maxSize;
+
+  /**
+   * Number of acquisitions that could be served from the pool.
+   */
+  private final transient LongAdder hits = new LongAdder();
+
+  /**
+   * Number of acquisitions that required a new buffer recycler.
+   */
+  private final transient LongAdder misses = new LongAdder();
+
+  /**
+   * Number of buffer recyclers that were returned to the pool.
+   */
+  private final transient LongAdder releases = new LongAdder();
+
+  /**
+   * Number of buffer recyclers that could not be returned to the pool as it was full.
+   */
+  private final transient LongAdder discards = new LongAdder();
+
+  /**
+   * Initialize object.
+   *
+   * @param pType Type of the pool. The parameter must not be null.
+   * @param pMaxSize Maximum number of buffer recyclers that are kept by the pool.
+   */
+  private InstrumentedRecyclerPool( RecyclerPoolType pType, int pMaxSize ) {
+    type = pType;
+    maxSize = pMaxSize;
+  }
+
+  /**
+   * Method returns the type of this pool.
+   *
+   * @return {@link RecyclerPoolType} Type of this pool. The method never returns null.
+   */
+  public RecyclerPoolType getType( ) {
+    return type;
+  }
+
+  @Override
+  public BufferRecycler acquirePooled( ) {
+    BufferRecycler lRecycler = this.poll();
+    if (lRecycler != null) {
+      hits.increment();
+    }
+    else {
+      misses.increment();
+      lRecycler = new BufferRecycler();
+    }
+    return lRecycler;
+  }
+
+  @Override
+  public void releasePooled( BufferRecycler pRecycler ) {
+    if (this.offer(pRecycler)) {
+      releases.increment();
+    }
+    else {
+      discards.increment();
+    }
+  }
+
+  /**
+   * Method takes a buffer recycler from the pool.
+   *
+   * @return {@link BufferRecycler} Pooled buffer recycler or null if the pool is empty.
+   */
+  abstract BufferRecycler poll( );
+
+  /**
+   * Method returns the passed buffer recycler to the pool.
+   *
+   * @param pRecycler Buffer recycler that should be returned. The parameter must not be null.
+   * @return boolean Method returns true if the recycler was added to the pool and false if it was discarded.
+   */
+  abstract boolean offer( BufferRecycler pRecycler );
+
+  /**
+   * Method returns a snapshot of the statistics of this pool. Counters are not reset.
+   *
+   * @return {@link RecyclerPoolStatistics} Current statistics of this pool. The method never returns null.
+   */
+  public RecyclerPoolStatistics getStatistics( ) {
+    return new RecyclerPoolStatistics(type, hits.sum(), misses.sum(), releases.sum(), discards.sum(),
+        this.pooledCount());
+  }
+
+  /**
+   * Counters and pooled objects are not serialized. Instead a new empty pool of the same type is created.
+   *
+   * @return Object New pool of the same type and size.
+   */
+  protected Object readResolve( ) {
+    return type.createPool(maxSize == Integer.MAX_VALUE ? 0 : maxSize);
+  }
+
+  /**
+   * Pool that is based on a lock-free deque with an optional limit.
+   */
+  static final class DequePool extends InstrumentedRecyclerPool {
+    private static final long serialVersionUID = 1L;
+
+    private final int limit;
+
+    private final transient Deque<BufferRecycler> recyclers = new ConcurrentLinkedDeque<>();
+
+    private final transient AtomicInteger size = new AtomicInteger();
+
+    DequePool( RecyclerPoolType pType, int pLimit ) {
+      super(pType, pLimit);
+      limit = pLimit;
+    }
+
+    @Override
+    BufferRecycler poll( ) {
+      BufferRecycler lRecycler = recyclers.pollFirst();
+      if (lRecycler != null) {
+        size.decrementAndGet();
+      }
+      return lRecycler;
+    }
+
+    @Override
+    boolean offer( BufferRecycler pRecycler ) {
+      boolean lAdded;
+      if (size.incrementAndGet() <= limit) {
+        recyclers.offerFirst(pRecycler);
+        lAdded = true;
+      }
+      else {
+        size.decrementAndGet();
+        lAdded = false;
+      }
+      return lAdded;
+    }
+
+    @Override
+    public int pooledCount( ) {
+      return size.get();
+    }
+
+    @Override
+    public boolean clear( ) {
+      BufferRecycler lRecycler;
+      do {
+        lRecycler = this.poll();
+      }
+      while (lRecycler != null);
+      return true;
+    }
+  }
+
+  /**
+   * Pool that keeps at most one buffer recycler per thread in a plain {@link ThreadLocal}. The recycler stays in its
+   * slot and is only marked as in use while it is acquired, so acquiring and releasing do not allocate anything.
+   * Recyclers that are acquired while the one of the thread is in use are new ones and are discarded when they are
+   * released. As buffers stay with their (platform or virtual) thread this pool should not be used with virtual
+   * threads. The pooled count is the number of recyclers that are currently not in use and also includes recyclers
+   * whose soft reference was cleared but not yet noticed.
+   */
+  static final class ThreadLocalPool extends InstrumentedRecyclerPool {
+    private static final long serialVersionUID = 1L;
+
+    private final transient ThreadLocal<Slot> slots = new ThreadLocal<>();
+
+    private final transient LongAdder size = new LongAdder();
+
+    ThreadLocalPool( ) {
+      super(RecyclerPoolType.PER_THREAD, 1);
+    }
+
+    @Override
+    BufferRecycler poll( ) {
+      Slot lSlot = slots.get();
+      BufferRecycler lRecycler;
+      if (lSlot != null && lSlot.inUse == false && lSlot.reference != null) {
+        lRecycler = lSlot.reference.get();
+        if (lRecycler != null) {
+          lSlot.inUse = true;
+        }
+        else {
+          lSlot.reference = null;
+        }
+        size.decrement();
+      }
+      else {
+        lRecycler = null;
+      }
+      return lRecycler;
+    }
+
+    @Override
+    boolean offer( BufferRecycler pRecycler ) {
+      Slot lSlot = slots.get();
+      boolean lAdded;
+      if (lSlot == null) {
+        lSlot = new Slot();
+        lSlot.reference = new SoftReference<>(pRecycler);
+        slots.set(lSlot);
+        lAdded = true;
+      }
+      else if (lSlot.inUse) {
+        // Recycler of the slot is returned. If it was never returned but collected, the passed one takes its place.
+        BufferRecycler lRecycler = lSlot.reference.get();
+        if (lRecycler == pRecycler || lRecycler == null) {
+          if (lRecycler == null) {
+            lSlot.reference = new SoftReference<>(pRecycler);
+          }
+          lSlot.inUse = false;
+          lAdded = true;
+        }
+        else {
+          lAdded = false;
+        }
+      }
+      // Replace recyclers that were already collected.
+      else if (lSlot.reference == null) {
+        lSlot.reference = new SoftReference<>(pRecycler);
+        lAdded = true;
+      }
+      else {
+        lAdded = false;
+      }
+      if (lAdded) {
+        size.increment();
+      }
+      return lAdded;
+    }
+
+    @Override
+    public int pooledCount( ) {
+      return size.intValue();
+    }
+
+    /**
+     * Only the recycler of the current thread can be removed as recyclers of other threads are not accessible.
+     */
+    @Override
+    public boolean clear( ) {
+      Slot lSlot = slots.get();
+      if (lSlot != null && lSlot.inUse == false) {
+        this.poll();
+        slots.remove();
+      }
+      return false;
+    }
+
+    /**
+     * Slot of a thread that holds its buffer recycler.
+     */
+    private static final class Slot {
+      private SoftReference<BufferRecycler> reference;
+
+      private boolean inUse;
+    }
+  }
+
+  /**
+   * Pool that does not recycle at all.
+   */
+  static final class NonRecyclingPool extends InstrumentedRecyclerPool {
+    private static final long serialVersionUID = 1L;
+
+    NonRecyclingPool( ) {
+      super(RecyclerPoolType.NONE, 0);
+    }
+
+    @Override
+    public BufferRecycler acquireAndLinkPooled( ) {
+      return this.acquirePooled();
+    }
+
+    @Override
+    BufferRecycler poll( ) {
+      return null;
+    }
+
+    @Override
+    boolean offer( BufferRecycler pRecycler ) {
+      return false;
+    }
+
+    @Override
+    public int pooledCount( ) {
+      return 0;
+    }
+  }
+}
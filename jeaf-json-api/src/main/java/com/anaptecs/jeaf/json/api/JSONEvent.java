@@ -0,0 +1,93 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Class defines the Java Flight Recorder event that is emitted for every read and write operation of
+ * {@link JSONTools}. This makes JSON processing visible in recordings next to GC and I/O events.
+ *
+ * The event is disabled by default and can be enabled in a JFR configuration or on the command line using
+ * <code>-XX:StartFlightRecording:com.anaptecs.jeaf.json.Operation#enabled=true</code>. While it is disabled the JIT
+ * removes the event object completely so that it causes no overhead. Implementations therefore have to use the event as
+ * follows:
+ *
+ * <pre>
+ * JSONEvent lEvent = new JSONEvent();
+ * lEvent.begin();
+ * // read or write JSON
+ * lEvent.complete(JSONOperation.READ_OBJECT, lObjectType, lBytes, 1, false);
+ * </pre>
+ *
+ * @author JEAF Development Team
+ */
+@Name(JSONEvent.NAME)
+@Label("JSON Operation")
+@Description("Read or write operation of JEAF JSON Tools")
+@Category({ "JEAF", "JSON" })
+@Enabled(false)
+@StackTrace(false)
+public final class JSONEvent extends Event {
+  /**
+   * Name of the event.
+   */
+  public static final String NAME = "com.anaptecs.jeaf.json.Operation";
+
+  @Label("Operation")
+  private String operation;
+
+  @Label("Type")
+  @Description("Class of the objects that were read or written. For collections this is the class of the elements.")
+  private Class<?> type;
+
+  @Label("Object Type")
+  @Description("Full type of the objects including generic parameters")
+  private String objectType;
+
+  @Label("Bytes")
+  @Description("Number of bytes that were read or written or -1 if unknown")
+  @DataAmount(DataAmount.BYTES)
+  private long bytes;
+
+  @Label("Elements")
+  @Description("Number of objects that were read or written")
+  private long elements;
+
+  @Label("Failed")
+  private boolean failed;
+
+  /**
+   * Method ends the event and commits it if it is enabled and passes the configured threshold. Event fields are only
+   * set in this case.
+   *
+   * @param pOperation Kind of operation that was executed. The parameter must not be null.
+   * @param pType Type of the objects that were read or written. For collections this is the type of the collection
+   * elements. The parameter must not be null.
+   * @param pBytes Number of bytes that were read or written or -1 if unknown.
+   * @param pElements Number of objects that were read or written.
+   * @param pFailed Flag indicates whether the operation failed.
+   */
+  public void complete( JSONOperation pOperation, ObjectType pType, long pBytes, long pElements, boolean pFailed ) {
+    this.end();
+    if (this.shouldCommit()) {
+      operation = pOperation.name();
+      type = pType.getRawType();
+      objectType = pType.toString();
+      bytes = pBytes;
+      elements = pElements;
+      failed = pFailed;
+      this.commit();
+    }
+  }
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+/**
+ * Interface defines a collector that receives metrics about every read and write operation of {@link JSONTools}.
+ * Implementations are registered using annotation {@link com.anaptecs.jeaf.json.annotations.MetricsCollector}. In
+ * addition to the methods defined by the interface it is also required that implementations provide a public default
+ * constructor.
+ *
+ * Callbacks are made synchronously on the thread that executed the operation. Implementations therefore have to be
+ * thread safe and should neither block nor allocate. If no collector is registered then implementations of
+ * {@link JSONTools} must not even measure the duration of operations.
+ *
+ * @author JEAF Development Team
+ */
+public interface JSONMetricsCollector {
+  /**
+   * Method is called after an operation of {@link JSONTools} completed successfully.
+   *
+   * @param pOperation Kind of operation that was executed. The parameter is never null.
+   * @param pType Type of the objects that were read or written. For collections this is the type of the collection
+   * elements. The parameter is never null.
+   * @param pBytes Number of bytes that were read or written. When reading from {@link java.io.Reader}s and writing to
+   * {@link java.io.Writer}s the number of characters is reported. If the size is not known, e.g. when reading from
+   * streams that are not consumed completely, -1 is passed.
+   * @param pDurationNanos Duration of the operation in nanoseconds.
+   */
+  void recordOperation(JSONOperation pOperation, ObjectType pType, long pBytes, long pDurationNanos);
+
+  /**
+   * Method is called after an operation of {@link JSONTools} failed. By default failures are ignored.
+   *
+   * @param pOperation Kind of operation that was executed. The parameter is never null.
+   * @param pType Type of the objects that should have been read or written. The parameter is never null.
+   * @param pDurationNanos Duration of the operation until it failed in nanoseconds.
+   */
+  default void recordFailure( JSONOperation pOperation, ObjectType pType, long pDurationNanos ) {
+    // Nothing to do.
+  }
+}
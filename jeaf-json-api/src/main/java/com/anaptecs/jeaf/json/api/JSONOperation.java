@@ -0,0 +1,58 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+/**
+ * Enumeration defines the kinds of operations of {@link JSONTools} that are reported to {@link JSONMetricsCollector}s.
+ *
+ * @author JEAF Development Team
+ */
+public enum JSONOperation {
+  /**
+   * A single object was read from JSON.
+   */
+  READ_OBJECT(true),
+
+  /**
+   * A collection of objects was read from JSON. This also includes streaming reads (iterators, streams, publishers and
+   * JSON Lines) which are reported once all elements were read.
+   */
+  READ_COLLECTION(true),
+
+  /**
+   * A single object was written as JSON.
+   */
+  WRITE_OBJECT(false),
+
+  /**
+   * A collection of objects was written as JSON. This also includes JSON Lines and published objects which are reported
+   * once all elements were written.
+   */
+  WRITE_COLLECTION(false);
+
+  /**
+   * Flag indicates whether the operation is a read or a write operation.
+   */
+  private final boolean read;
+
+  /**
+   * Initialize object.
+   *
+   * @param pRead Flag indicates whether the operation is a read or a write operation.
+   */
+  private JSONOperation( boolean pRead ) {
+    read = pRead;
+  }
+
+  /**
+   * Method checks whether the operation reads JSON.
+   *
+   * @return boolean Method returns true if the operation reads JSON and false if it writes JSON.
+   */
+  public boolean isRead( ) {
+    return read;
+  }
+}
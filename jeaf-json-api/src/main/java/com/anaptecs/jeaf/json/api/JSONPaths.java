@@ -0,0 +1,306 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonPointer;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectReader;
+
+/**
+ * Class represents an immutable set of JSON Pointers (RFC 6901) together with the types to which the values at these
+ * locations should be bound. Pointers are compiled into a tree once so that an instance can be reused for any number
+ * of reads.
+ *
+ * When reading, the JSON content is streamed token by token. Subtrees that can not contain any of the pointers are
+ * skipped without binding them and reading stops as soon as all values were found. If one pointer is a prefix of
+ * another one then the enclosing value is read as a tree once and all values below it are bound from that tree.
+ *
+ * Instances are created using {@link #of(String, Class)} or {@link #builder()}.
+ *
+ * @author JEAF Development Team
+ */
+public final class JSONPaths {
+  /**
+   * Root of the compiled pointer tree.
+   */
+  private final Node root;
+
+  /**
+   * All pointers mapped to their target type.
+   */
+  private final Map<String, Object> paths;
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder with all pointers. The parameter must not be null.
+   */
+  private JSONPaths( Builder pBuilder ) {
+    root = new Node();
+    for (Map.Entry<String, Object> lEntry : pBuilder.paths.entrySet()) {
+      Node lNode = root;
+      JsonPointer lPointer = JsonPointer.compile(lEntry.getKey());
+      while (lPointer.matches() == false) {
+        lNode = lNode.getOrCreateChild(lPointer);
+        lPointer = lPointer.tail();
+      }
+      lNode.pointer = lEntry.getKey();
+      lNode.resultType = lEntry.getValue();
+    }
+    paths = Collections.unmodifiableMap(new LinkedHashMap<>(pBuilder.paths));
+  }
+
+  /**
+   * Method creates a new instance with exactly one pointer.
+   *
+   * @param pJSONPointer JSON Pointer of the value that should be read, e.g. "/order/items/0/id". The parameter must not
+   * be null.
+   * @param pResultType Type to which the value should be bound. The parameter must not be null.
+   * @return {@link JSONPaths} Created instance. The method never returns null.
+   * @throws IllegalArgumentException if the passed pointer is not a valid JSON Pointer.
+   */
+  public static JSONPaths of( String pJSONPointer, Class<?> pResultType ) {
+    return builder().add(pJSONPointer, pResultType).build();
+  }
+
+  /**
+   * Method returns a new builder to create instances with several pointers.
+   *
+   * @return {@link Builder} New builder. The method never returns null.
+   */
+  public static Builder builder( ) {
+    return new Builder();
+  }
+
+  /**
+   * Method returns all JSON Pointers of this instance.
+   *
+   * @return {@link Set} Pointers in the order in which they were added. The method never returns null.
+   */
+  public Set<String> getPaths( ) {
+    return paths.keySet();
+  }
+
+  /**
+   * Method reads all values that are addressed by the pointers of this instance from the passed parser.
+   * Implementations of {@link JSONTools} use this method for <code>readAt(...)</code>. Readers are taken from the
+   * passed JSON Tools so that their caches are used.
+   *
+   * @param pParser Parser from which the values should be read. The parser must either not be started yet or be
+   * positioned at the first token of the root value. The parser will not be closed. The parameter must not be null.
+   * @param pTools JSON Tools that provide the readers for the target types. The parameter must not be null.
+   * @return {@link Map} Map with the pointers as key and the bound values as value. Pointers that do not exist in the
+   * content are not contained. If the content contains <code>null</code> at the pointer's location then the map
+   * contains the pointer with value <code>null</code>. The method never returns null.
+   */
+  public Map<String, Object> read( JsonParser pParser, JSONTools pTools ) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pParser, "pParser");
+    Check.checkInvalidParameterNull(pTools, "pTools");
+
+    Map<String, Object> lResults = new HashMap<>();
+    if (pParser.currentToken() != null || pParser.nextToken() != null) {
+      this.read(pParser, root, pTools, lResults);
+    }
+    return lResults;
+  }
+
+  private void read( JsonParser pParser, Node pNode, JSONTools pTools, Map<String, Object> pResults ) {
+    // Value itself is requested as well as values below it.
+    if (pNode.pointer != null && pNode.hasChildren()) {
+      JsonNode lTree = pTools.readerFor(JsonNode.class).without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)
+          .readTree(pParser);
+      this.bind(lTree, pNode, pTools, pResults);
+    }
+    else if (pNode.pointer != null) {
+      // Values are bound in the middle of the content so the remaining tokens must not be treated as an error.
+      ObjectReader lReader = pNode.getReader(pTools).without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+      pResults.put(pNode.pointer, lReader.readValue(pParser));
+    }
+    else if (pParser.currentToken() == JsonToken.START_OBJECT && pNode.properties != null) {
+      while (pResults.size() < paths.size() && pParser.nextToken() == JsonToken.PROPERTY_NAME) {
+        Node lChild = pNode.properties.get(pParser.currentName());
+        pParser.nextToken();
+        if (lChild != null) {
+          this.read(pParser, lChild, pTools, pResults);
+        }
+        else {
+          pParser.skipChildren();
+        }
+      }
+    }
+    else if (pParser.currentToken() == JsonToken.START_ARRAY && pNode.elements != null) {
+      int lIndex = 0;
+      while (pResults.size() < paths.size() && pParser.nextToken() != JsonToken.END_ARRAY) {
+        Node lChild = pNode.elements.get(lIndex);
+        lIndex++;
+        if (lChild != null) {
+          this.read(pParser, lChild, pTools, pResults);
+        }
+        else {
+          pParser.skipChildren();
+        }
+      }
+    }
+    else {
+      pParser.skipChildren();
+    }
+  }
+
+  private void bind( JsonNode pTree, Node pNode, JSONTools pTools, Map<String, Object> pResults ) {
+    if (pTree != null && pTree.isMissingNode() == false) {
+      if (pNode.pointer != null) {
+        pResults.put(pNode.pointer, pNode.getReader(pTools).readValue(pTree));
+      }
+      if (pNode.properties != null && pTree.isObject()) {
+        for (Map.Entry<String, Node> lEntry : pNode.properties.entrySet()) {
+          this.bind(pTree.get(lEntry.getKey()), lEntry.getValue(), pTools, pResults);
+        }
+      }
+      if (pNode.elements != null && pTree.isArray()) {
+        for (Map.Entry<Integer, Node> lEntry : pNode.elements.entrySet()) {
+          this.bind(pTree.get(lEntry.getKey()), lEntry.getValue(), pTools, pResults);
+        }
+      }
+    }
+  }
+
+  /**
+   * Class is used to create instances of {@link JSONPaths}.
+   */
+  public static final class Builder {
+    /**
+     * Pointers and their target types (Class or ObjectType).
+     */
+    private final Map<String, Object> paths = new LinkedHashMap<>();
+
+    /**
+     * Initialize object. Instances are created using {@link JSONPaths#builder()}.
+     */
+    private Builder( ) {
+    }
+
+    /**
+     * Method adds a pointer. Adding the same pointer again replaces its type.
+     *
+     * @param pJSONPointer JSON Pointer of the value that should be read. The parameter must not be null.
+     * @param pResultType Type to which the value should be bound. The parameter must not be null.
+     * @return {@link Builder} Instance of this builder to support chaining of method calls. The method never returns
+     * null.
+     * @throws IllegalArgumentException if the passed pointer is not a valid JSON Pointer.
+     */
+    public Builder add( String pJSONPointer, Class<?> pResultType ) {
+      Check.checkInvalidParameterNull(pResultType, "pResultType");
+      return this.addPath(pJSONPointer, pResultType);
+    }
+
+    /**
+     * Method adds a pointer whose value is bound to a generic type. Adding the same pointer again replaces its type.
+     *
+     * @param pJSONPointer JSON Pointer of the value that should be read. The parameter must not be null.
+     * @param pResultType Type to which the value should be bound. The parameter must not be null.
+     * @return {@link Builder} Instance of this builder to support chaining of method calls. The method never returns
+     * null.
+     * @throws IllegalArgumentException if the passed pointer is not a valid JSON Pointer.
+     */
+    public Builder add( String pJSONPointer, ObjectType pResultType ) {
+      Check.checkInvalidParameterNull(pResultType, "pResultType");
+      return this.addPath(pJSONPointer, pResultType);
+    }
+
+    private Builder addPath( String pJSONPointer, Object pResultType ) {
+      Check.checkInvalidParameterNull(pJSONPointer, "pJSONPointer");
+      JsonPointer.compile(pJSONPointer);
+      paths.put(pJSONPointer, pResultType);
+      return this;
+    }
+
+    /**
+     * Method creates a new instance with all pointers that were added to this builder.
+     *
+     * @return {@link JSONPaths} Created instance. The method never returns null.
+     */
+    public JSONPaths build( ) {
+      return new JSONPaths(this);
+    }
+  }
+
+  /**
+   * Node of the compiled pointer tree.
+   */
+  private static final class Node {
+    /**
+     * Child nodes per property name or null if the node has no such children.
+     */
+    private Map<String, Node> properties;
+
+    /**
+     * Child nodes per array index or null if the node has no such children. A map is used as the indexes of pointers
+     * may be arbitrarily large.
+     */
+    private Map<Integer, Node> elements;
+
+    /**
+     * Pointer that ends at this node or null if no value has to be bound here.
+     */
+    private String pointer;
+
+    /**
+     * Type (Class or ObjectType) to which the value at this node is bound.
+     */
+    private Object resultType;
+
+    Node getOrCreateChild( JsonPointer pSegment ) {
+      // A segment like "0" addresses an array element as well as a property with that name.
+      Node lChild = null;
+      if (pSegment.getMatchingIndex() >= 0) {
+        if (elements == null) {
+          elements = new HashMap<>();
+        }
+        lChild = elements.get(pSegment.getMatchingIndex());
+        if (lChild == null && properties != null) {
+          lChild = properties.get(pSegment.getMatchingProperty());
+        }
+        if (lChild == null) {
+          lChild = new Node();
+        }
+        elements.put(pSegment.getMatchingIndex(), lChild);
+      }
+      if (properties == null) {
+        properties = new HashMap<>();
+      }
+      if (lChild != null) {
+        properties.putIfAbsent(pSegment.getMatchingProperty(), lChild);
+      }
+      return properties.computeIfAbsent(pSegment.getMatchingProperty(), k -> new Node());
+    }
+
+    boolean hasChildren( ) {
+      return properties != null || elements != null;
+    }
+
+    ObjectReader getReader( JSONTools pTools ) {
+      ObjectReader lReader;
+      if (resultType instanceof Class) {
+        lReader = pTools.readerFor((Class<?>) resultType);
+      }
+      else {
+        lReader = pTools.readerFor((ObjectType) resultType);
+      }
+      return lReader;
+    }
+  }
+}
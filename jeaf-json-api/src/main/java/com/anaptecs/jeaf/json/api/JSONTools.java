@@ -10,14 +10,28 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import com.anaptecs.jeaf.json.annotations.MetricsCollector;
 import com.anaptecs.jeaf.json.annotations.ModuleFactory;
 import com.anaptecs.jeaf.json.annotations.ObjectMapperConfig;
 import com.anaptecs.jeaf.tools.api.ToolsLoader;
 import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+import tools.jackson.core.StreamReadConstraints;
+import tools.jackson.databind.MappingIterator;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
 
 /**
  * Interface defines a set of method that simplify serialization and deserialization of objects into and from JSON.
@@ -26,6 +40,34 @@ import tools.jackson.databind.ObjectMapper;
  * be used instead of standard <code>read(...)</code> method. For further explanation about that please refer to:
  * https://www.baeldung.com/jackson-collection-array
  *
+ * Implementations have to cache ready to use {@link ObjectReader}s and {@link ObjectWriter}s per {@link Class} and per
+ * {@link ObjectType}. The cache has to be safe for concurrent access and bounded by
+ * {@link ObjectMapperConfig#readerWriterCacheSize()}. All read and write operations of this interface are expected to
+ * make use of this cache. Code on hot paths may also hold on to the reader or writer that is returned by
+ * <code>readerFor(...)</code> and <code>writerFor(...)</code> to avoid even the cache lookup. Readers for
+ * {@link ObjectType}s have to be created for {@link ObjectType#getJavaType(tools.jackson.databind.type.TypeFactory)}
+ * with the type factory of the object mapper so that type modifiers of registered modules are applied.
+ *
+ * Implementations have to report every read and write operation to all {@link JSONMetricsCollector}s that are
+ * registered using {@link MetricsCollector}. If no collector is registered then operations must not be measured at all.
+ * In addition every operation has to emit a {@link JSONEvent} for Java Flight Recorder.
+ *
+ * Projected writes ({@link FieldProjection}) use a separate object mapper per profile that is created using
+ * {@link FieldProjection#createProjectionMapper(ObjectMapper)}. Its writers are used together with
+ * {@link FieldProjection#getFilterProvider()}. All other writes use the regular object mapper without any filter.
+ *
+ * The token stream factories of all object mappers have to apply the read and write constraints that are created by
+ * {@link StreamLimits} from {@link ObjectMapperConfig}.
+ *
+ * Compressed reads and writes have to use the streams that are returned by {@link Compression#compress(OutputStream)}
+ * and {@link Compression#decompress(InputStream, DataFormat)} so that deflaters, inflaters and buffers are pooled.
+ *
+ * Parallel reads and writes of large arrays are based on {@link ParallelArrays}. The element reader or writer is the
+ * cached reader or writer of the element type.
+ *
+ * During initialization implementations have to warm up the types that are declared using
+ * {@link ObjectMapperConfig#warmUpTypes()} and resource {@link WarmUp#WARM_UP_TYPES_PATH} (see {@link WarmUp}).
+ *
  * @author JEAF Development Team
  */
 public interface JSONTools {
@@ -48,14 +90,172 @@ public interface JSONTools {
     return JSON_TOOLS;
   }
 
+  /**
+   * Method returns the configured implementation of the JSON Tools for the passed data format.
+   *
+   * @param pFormat Data format that should be used. The parameter must not be null.
+   * @return {@link JSONTools} Configured implementation of JSON tools for the passed format. The method never returns
+   * null.
+   * @see #forFormat(DataFormat)
+   */
+  static JSONTools getJSONTools( DataFormat pFormat ) {
+    return JSON_TOOLS.forFormat(pFormat);
+  }
+
+  /**
+   * Method returns the configured implementation of the JSON Tools for the passed profile.
+   *
+   * @param pProfileName Name of the profile that should be used. The parameter must not be null.
+   * @return {@link JSONTools} Configured implementation of JSON tools for the passed profile. The method never returns
+   * null.
+   * @see #profile(String)
+   */
+  static JSONTools getJSONTools( String pProfileName ) {
+    return JSON_TOOLS.profile(pProfileName);
+  }
+
   /**
    * Method returns a JSON {@link ObjectMapper} that is configured as defined using {@link ObjectMapperConfig} and
-   * {@link ModuleFactory}.
+   * {@link ModuleFactory}. The returned mapper belongs to the profile of this instance (see {@link #profile(String)}).
    *
    * @return {@link ObjectMapper} Object mapper that should be used for JSON serialization.
    */
   ObjectMapper getDefaultObjectMapper( );
 
+  /**
+   * Method returns the data format that is read and written by this instance.
+   *
+   * @return {@link DataFormat} Data format of this instance. The method never returns null.
+   */
+  DataFormat getFormat( );
+
+  /**
+   * Method returns an instance of JSON Tools that reads and writes the passed data format. Apart from the format the
+   * returned instance uses exactly the same configuration as this one including all modules from
+   * {@link ModuleFactory}s. Instances are created only once per format and can be kept.
+   *
+   * When a binary format is used all methods that work with {@link String}s, {@link Reader}s or {@link Writer}s throw
+   * a {@link JEAFSystemException} with error code {@link JSONMessages#JSON_SERIALIZATION_FAILED} or
+   * {@link JSONMessages#JSON_DESERIALIZATION_FAILED}.
+   *
+   * @param pFormat Data format that should be used. The parameter must not be null.
+   * @return {@link JSONTools} JSON Tools for the passed format. If the format is the one of this instance then
+   * <code>this</code> will be returned. The method never returns null.
+   * @throws JEAFSystemException if the Jackson module for the passed format is not available.
+   */
+  JSONTools forFormat(DataFormat pFormat) throws JEAFSystemException;
+
+  /**
+   * Method returns the name of the profile whose configuration is used by this instance.
+   *
+   * @return {@link String} Name of the profile. The method never returns null.
+   */
+  String getProfileName( );
+
+  /**
+   * Method returns the names of all configured profiles.
+   *
+   * @return {@link Set} Names of all profiles including {@link ObjectMapperConfig#DEFAULT_PROFILE}. The method never
+   * returns null.
+   */
+  Set<String> getProfileNames( );
+
+  /**
+   * Method returns an instance of JSON Tools that uses the configuration of the passed profile (see
+   * {@link ObjectMapperConfig#name()}). Every profile has its own pre-built object mapper as well as its own reader and
+   * writer caches so selecting a profile per call does not cause any reconfiguration. The data format of this instance
+   * is kept. Instances are created only once per profile and format and can be kept.
+   *
+   * @param pProfileName Name of the profile that should be used. The parameter must not be null.
+   * @return {@link JSONTools} JSON Tools for the passed profile. If the profile is the one of this instance then
+   * <code>this</code> will be returned. The method never returns null.
+   * @throws JEAFSystemException if no profile with the passed name is configured.
+   */
+  JSONTools profile(String pProfileName) throws JEAFSystemException;
+
+  /**
+   * Method returns the read constraints that are applied by this instance. They are defined by the limits of
+   * {@link ObjectMapperConfig} unless this instance was created using
+   * {@link #withReadConstraints(StreamReadConstraints)}.
+   *
+   * @return {@link StreamReadConstraints} Read constraints of this instance. The method never returns null.
+   */
+  StreamReadConstraints getReadConstraints( );
+
+  /**
+   * Method returns an instance of JSON Tools that applies the passed read constraints instead of the configured ones.
+   * This is intended for trusted sources like bulk imports that exceed the regular limits. All other settings including
+   * profile and data format are kept. The returned instance has its own object mapper, so it should be kept instead of
+   * being created per call.
+   *
+   * @param pConstraints Read constraints that should be applied. The parameter must not be null.
+   * @return {@link JSONTools} JSON Tools with the passed read constraints. If the constraints are the ones of this
+   * instance then <code>this</code> will be returned. The method never returns null.
+   */
+  JSONTools withReadConstraints(StreamReadConstraints pConstraints);
+
+  /**
+   * Method returns the current statistics of the buffer recycler pool that is used by the default object mapper. The
+   * pool is configured using {@link ObjectMapperConfig#recyclerPool()}.
+   *
+   * @return {@link RecyclerPoolStatistics} Snapshot of the pool's statistics. The method never returns null.
+   */
+  RecyclerPoolStatistics getRecyclerPoolStatistics( );
+
+  /**
+   * Method returns the registered {@link JSONMetricsCollector} of the passed type. Collectors are registered using
+   * {@link MetricsCollector}.
+   *
+   * @param pCollectorType Type of the collector that should be returned. Subclasses of the passed type are also taken
+   * into account. The parameter must not be null.
+   * @return T Registered collector of the passed type or null if no such collector is registered.
+   */
+  <T extends JSONMetricsCollector> T getMetricsCollector(Class<T> pCollectorType);
+
+  /**
+   * Method returns the report of the warm-up that was executed when this instance was initialized.
+   *
+   * @return {@link WarmUpReport} Report of the initial warm-up. If no warm-up types are declared then the report is
+   * empty. The method never returns null.
+   */
+  WarmUpReport getWarmUpReport( );
+
+  /**
+   * Method returns a pre-built {@link ObjectReader} that deserializes objects of the passed type. Readers are cached so
+   * that the type only has to be resolved once.
+   *
+   * @param pResultType Type of the objects that should be read. The parameter must not be null.
+   * @return {@link ObjectReader} Reader for the passed type. The method never returns null.
+   */
+  ObjectReader readerFor(Class<?> pResultType);
+
+  /**
+   * Method returns a pre-built {@link ObjectReader} that deserializes objects of the passed type. Readers are cached so
+   * that the type only has to be resolved once.
+   *
+   * @param pResultType Type of the objects that should be read. The parameter must not be null.
+   * @return {@link ObjectReader} Reader for the passed type. The method never returns null.
+   */
+  ObjectReader readerFor(ObjectType pResultType);
+
+  /**
+   * Method returns a pre-built {@link ObjectWriter} that serializes objects of the passed type. Writers are cached so
+   * that the type only has to be resolved once.
+   *
+   * @param pObjectType Type of the objects that should be written. The parameter must not be null.
+   * @return {@link ObjectWriter} Writer for the passed type. The method never returns null.
+   */
+  ObjectWriter writerFor(Class<?> pObjectType);
+
+  /**
+   * Method returns a pre-built {@link ObjectWriter} that serializes objects of the passed type. Writers are cached so
+   * that the type only has to be resolved once.
+   *
+   * @param pObjectType Type of the objects that should be written. The parameter must not be null.
+   * @return {@link ObjectWriter} Writer for the passed type. The method never returns null.
+   */
+  ObjectWriter writerFor(ObjectType pObjectType);
+
   /**
    * Method serializes the passed object to the passed stream.
    *
@@ -83,6 +283,29 @@ public interface JSONTools {
    */
   void writeObject(Object pObject, File pFile) throws JEAFSystemException;
 
+  /**
+   * Method serializes the passed object to the passed stream using the passed compression. The compressed data is
+   * completed before the method returns.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pOutputStream Stream to which the compressed object should be written. The parameter must not be null.
+   * @param pCompression Compression that should be used. {@link Compression#AUTO_DETECT} is not supported. The
+   * parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  void writeObject(Object pObject, OutputStream pOutputStream, Compression pCompression) throws JEAFSystemException;
+
+  /**
+   * Method serializes the passed object to the passed file using the passed compression.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pFile File to which the compressed object should be written. The parameter must not be null.
+   * @param pCompression Compression that should be used. {@link Compression#AUTO_DETECT} is not supported. The
+   * parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  void writeObject(Object pObject, File pFile, Compression pCompression) throws JEAFSystemException;
+
   /**
    * Method serializes the passed object as string.
    *
@@ -101,6 +324,76 @@ public interface JSONTools {
    */
   byte[] writeObjectToBytes(Object pObject) throws JEAFSystemException;
 
+  /**
+   * Method serializes only the selected properties of the passed object to the passed stream. Getters of properties
+   * that are not selected are not invoked.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pOutputStream Stream to which the object should be written. The parameter must not be null.
+   * @param pProjection Properties that should be written. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  void writeObject(Object pObject, OutputStream pOutputStream, FieldProjection pProjection)
+    throws JEAFSystemException;
+
+  /**
+   * Method serializes only the selected properties of the passed object as string. Getters of properties that are not
+   * selected are not invoked.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pProjection Properties that should be written. The parameter must not be null.
+   * @return {@link String} JSON serialized object as String. The method never returns null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  String writeObjectToString(Object pObject, FieldProjection pProjection) throws JEAFSystemException;
+
+  /**
+   * Method serializes only the selected properties of the passed object as byte array. Getters of properties that are
+   * not selected are not invoked.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pProjection Properties that should be written. The parameter must not be null.
+   * @return byte[] JSON serialized object as byte array. The method never returns null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  byte[] writeObjectToBytes(Object pObject, FieldProjection pProjection) throws JEAFSystemException;
+
+  /**
+   * Method serializes the passed object into the passed buffer. Data is written starting at the current position of
+   * the buffer and the position is advanced by the number of written bytes. This way objects can be serialized directly
+   * into direct buffers without any copy on the Java heap.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pBuffer Buffer to which the object should be written. The parameter must not be null.
+   * @return int Number of bytes that were written.
+   * @throws JEAFSystemException if an error occurs during serialization or if the remaining space of the buffer is not
+   * sufficient. In the latter case the position of the buffer is not changed.
+   */
+  int writeObject(Object pObject, ByteBuffer pBuffer) throws JEAFSystemException;
+
+  /**
+   * Method serializes the passed object to the passed channel. The channel is not closed.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @param pChannel Channel to which the object should be written. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  void writeObject(Object pObject, WritableByteChannel pChannel) throws JEAFSystemException;
+
+  /**
+   * Method serializes the passed object into direct buffers that are taken from a pool. Size and number of pooled
+   * buffers are defined by {@link ObjectMapperConfig#pooledBufferSize()} and
+   * {@link ObjectMapperConfig#maxPooledBuffers()}. Large objects span several buffers so the data never has to be
+   * copied into one growing array.
+   *
+   * Callers have to release the returned buffer explicitly.
+   *
+   * @param pObject Object that should be serialized as JSON. The parameter may be null.
+   * @return {@link PooledBuffer} Pooled buffers containing the serialized object. The method never returns null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  PooledBuffer writeObjectToPooledBuffer(Object pObject) throws JEAFSystemException;
+
   /**
    * Method serializes the passed {@link Collection} to the passed stream.
    *
@@ -113,6 +406,21 @@ public interface JSONTools {
   void writeObjects(Collection<?> pObjects, OutputStream pOutputStream, Class<?> pObjectType)
     throws JEAFSystemException;
 
+  /**
+   * Method serializes the passed {@link Collection} to the passed stream. Elements are serialized in parallel as
+   * defined by the passed options and written in their original order. For binary formats the elements are written
+   * sequentially.
+   *
+   * @param pObjects Collection of objects that should be serialized as JSON. The parameter must not be null.
+   * @param pOutputStream Stream to which the object should be written. The parameter must not be null.
+   * @param pObjectType {@link Class} object representing the type of objects that are inside the collection. As type
+   * info of Java generics is not present at runtime this information has to be passed as additional parameter.
+   * @param pOptions Options that define how the elements are processed in parallel. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  void writeObjects(Collection<?> pObjects, OutputStream pOutputStream, Class<?> pObjectType, ParallelOptions pOptions)
+    throws JEAFSystemException;
+
   /**
    * Method serializes the passed {@link Collection} to the passed writer.
    *
@@ -135,6 +443,51 @@ public interface JSONTools {
    */
   void writeObjects(Collection<?> pObjects, File pFile, Class<?> pObjectType) throws JEAFSystemException;
 
+  /**
+   * Method serializes the passed {@link Collection} to the passed file. Elements are serialized in parallel as defined
+   * by the passed options and written in their original order. For binary formats the elements are written
+   * sequentially.
+   *
+   * @param pObjects Collection of objects that should be serialized as JSON. The parameter must not be null.
+   * @param pFile File to which the object should be written. The parameter must not be null.
+   * @param pObjectType {@link Class} object representing the type of objects that are inside the collection. As type
+   * info of Java generics is not present at runtime this information has to be passed as additional parameter.
+   * @param pOptions Options that define how the elements are processed in parallel. The parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  void writeObjects(Collection<?> pObjects, File pFile, Class<?> pObjectType, ParallelOptions pOptions)
+    throws JEAFSystemException;
+
+  /**
+   * Method serializes the passed {@link Collection} to the passed stream using the passed compression. The compressed
+   * data is completed before the method returns.
+   *
+   * @param pObjects Collection of objects that should be serialized as JSON. The parameter may be null.
+   * @param pOutputStream Stream to which the compressed objects should be written. The parameter must not be null.
+   * @param pObjectType {@link Class} object representing the type of objects that are inside the collection. As type
+   * info of Java generics is not present at runtime this information has to be passed as additional parameter.
+   * @param pCompression Compression that should be used. {@link Compression#AUTO_DETECT} is not supported. The
+   * parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  void writeObjects(Collection<?> pObjects, OutputStream pOutputStream, Class<?> pObjectType,
+      Compression pCompression)
+    throws JEAFSystemException;
+
+  /**
+   * Method serializes the passed {@link Collection} to the passed file using the passed compression.
+   *
+   * @param pObjects Collection of objects that should be serialized as JSON. The parameter may be null.
+   * @param pFile File to which the compressed objects should be written. The parameter must not be null.
+   * @param pObjectType {@link Class} object representing the type of objects that are inside the collection. As type
+   * info of Java generics is not present at runtime this information has to be passed as additional parameter.
+   * @param pCompression Compression that should be used. {@link Compression#AUTO_DETECT} is not supported. The
+   * parameter must not be null.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  void writeObjects(Collection<?> pObjects, File pFile, Class<?> pObjectType, Compression pCompression)
+    throws JEAFSystemException;
+
   /**
    * Method serializes the passed {@link Collection} as string.
    *
@@ -157,6 +510,65 @@ public interface JSONTools {
    */
   byte[] writeObjectsToBytes(Collection<?> pObjects, Class<?> pObjectType) throws JEAFSystemException;
 
+  /**
+   * Method serializes the passed {@link Collection} as JSON Lines (NDJSON) to the passed stream. Every object is
+   * written as one JSON document followed by a line break. One generator is used for the whole stream. The stream is
+   * flushed after all objects were written.
+   *
+   * @param pObjects Collection of objects that should be serialized as JSON Lines. The parameter may be null.
+   * @param pOutputStream Stream to which the objects should be written. The parameter must not be null.
+   * @param pObjectType {@link Class} object representing the type of objects that are inside the collection. As type
+   * info of Java generics is not present at runtime this information has to be passed as additional parameter.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  void writeObjectsAsJSONLines(Collection<?> pObjects, OutputStream pOutputStream, Class<?> pObjectType)
+    throws JEAFSystemException;
+
+  /**
+   * Method serializes the passed {@link Collection} as JSON Lines (NDJSON) to the passed stream. Every object is
+   * written as one JSON document followed by a line break. One generator is used for the whole stream.
+   *
+   * @param pObjects Collection of objects that should be serialized as JSON Lines. The parameter may be null.
+   * @param pOutputStream Stream to which the objects should be written. The parameter must not be null.
+   * @param pObjectType {@link Class} object representing the type of objects that are inside the collection. As type
+   * info of Java generics is not present at runtime this information has to be passed as additional parameter.
+   * @param pFlushInterval Number of objects after which the stream is flushed. 0 means that the stream is only flushed
+   * after all objects were written. The value must be zero or greater.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  void writeObjectsAsJSONLines(Collection<?> pObjects, OutputStream pOutputStream, Class<?> pObjectType,
+      int pFlushInterval)
+    throws JEAFSystemException;
+
+  /**
+   * Method serializes the passed {@link Collection} as JSON Lines (NDJSON) to the passed file. Every object is written
+   * as one JSON document followed by a line break. One generator is used for the whole file.
+   *
+   * @param pObjects Collection of objects that should be serialized as JSON Lines. The parameter may be null.
+   * @param pFile File to which the objects should be written. The parameter must not be null.
+   * @param pObjectType {@link Class} object representing the type of objects that are inside the collection. As type
+   * info of Java generics is not present at runtime this information has to be passed as additional parameter.
+   * @throws JEAFSystemException if an error occurs during serialization
+   */
+  void writeObjectsAsJSONLines(Collection<?> pObjects, File pFile, Class<?> pObjectType) throws JEAFSystemException;
+
+  /**
+   * Method subscribes to the passed publisher and serializes all published objects as JSON array to the passed stream.
+   * Objects are requested from the publisher in small batches and only when the previous ones were written, so that
+   * slow output leads to backpressure instead of buffering. The stream is flushed but not closed when the publisher
+   * completes.
+   *
+   * @param pPublisher Publisher whose objects should be serialized as JSON. The parameter must not be null.
+   * @param pOutputStream Stream to which the objects should be written. The parameter must not be null.
+   * @param pObjectType {@link Class} object representing the type of the published objects. As type info of Java
+   * generics is not present at runtime this information has to be passed as additional parameter.
+   * @return {@link CompletableFuture} Future that completes when the publisher completed and the closing bracket of the
+   * JSON array was written. In case of an error during serialization or an error signaled by the publisher the future
+   * completes exceptionally with a {@link JEAFSystemException}. The method never returns null.
+   */
+  <T> CompletableFuture<Void> writePublishedObjects(Flow.Publisher<? extends T> pPublisher,
+      OutputStream pOutputStream, Class<T> pObjectType);
+
   /**
    * Method deserializes the passed string into an object of the passed type.
    *
@@ -207,6 +619,65 @@ public interface JSONTools {
    */
   <T> T read(File pFile, Class<T> pResultType) throws JEAFSystemException;
 
+  /**
+   * Method deserializes the remaining bytes of the passed buffer into an object of the passed type. Heap buffers are
+   * parsed from their backing array and direct buffers are parsed in place, so no copy of the data is created. The
+   * position of the buffer is not changed.
+   *
+   * @param pBuffer Buffer from which the data should be read. The parameter must not be null.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return T Object of passed type that was created. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  <T> T read(ByteBuffer pBuffer, Class<T> pResultType) throws JEAFSystemException;
+
+  /**
+   * Method deserializes the data from the passed channel into an object of the passed type. The channel is read until
+   * its end but not closed.
+   *
+   * @param pChannel Channel from which the data should be read. The parameter must not be null.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return T Object of passed type that was created. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  <T> T read(ReadableByteChannel pChannel, Class<T> pResultType) throws JEAFSystemException;
+
+  /**
+   * Method deserializes the data from the passed file into an object of the passed type. The file is memory mapped
+   * read-only and parsed directly from the mapped memory instead of being copied into the heap through a stream. This
+   * is intended for large files that are read often.
+   *
+   * @param pFile File from which the data should be read. The parameter must not be null.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return T Object of passed type that was created. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  <T> T readMapped(File pFile, Class<T> pResultType) throws JEAFSystemException;
+
+  /**
+   * Method deserializes the compressed data from the passed stream into an object of the passed type.
+   *
+   * @param pInputStream Stream from which the compressed data should be read. The parameter must not be null.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @param pCompression Compression of the data. Using {@link Compression#AUTO_DETECT} the compression is detected
+   * from the first bytes of the data which is only supported for textual JSON. The parameter must not be null.
+   * @return T Object of passed type that was created. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  <T> T read(InputStream pInputStream, Class<T> pResultType, Compression pCompression) throws JEAFSystemException;
+
+  /**
+   * Method deserializes the compressed data from the passed file into an object of the passed type.
+   *
+   * @param pFile File from which the compressed data should be read. The parameter must not be null.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @param pCompression Compression of the data. Using {@link Compression#AUTO_DETECT} the compression is detected
+   * from the first bytes of the data which is only supported for textual JSON. The parameter must not be null.
+   * @return T Object of passed type that was created. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  <T> T read(File pFile, Class<T> pResultType, Compression pCompression) throws JEAFSystemException;
+
   /**
    * Method deserializes the passed string into an object of the passed type.
    *
@@ -257,6 +728,99 @@ public interface JSONTools {
    */
   <T> T read(File pFile, ObjectType pResultType) throws JEAFSystemException;
 
+  /**
+   * Method deserializes the remaining bytes of the passed buffer into an object of the passed type. Heap buffers are
+   * parsed from their backing array and direct buffers are parsed in place, so no copy of the data is created. The
+   * position of the buffer is not changed.
+   *
+   * @param pBuffer Buffer from which the data should be read. The parameter must not be null.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return T Object of passed type that was created. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  <T> T read(ByteBuffer pBuffer, ObjectType pResultType) throws JEAFSystemException;
+
+  /**
+   * Method deserializes the data from the passed channel into an object of the passed type. The channel is read until
+   * its end but not closed.
+   *
+   * @param pChannel Channel from which the data should be read. The parameter must not be null.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return T Object of passed type that was created. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  <T> T read(ReadableByteChannel pChannel, ObjectType pResultType) throws JEAFSystemException;
+
+  /**
+   * Method deserializes the data from the passed file into an object of the passed type. The file is memory mapped
+   * read-only and parsed directly from the mapped memory instead of being copied into the heap through a stream. This
+   * is intended for large files that are read often.
+   *
+   * @param pFile File from which the data should be read. The parameter must not be null.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return T Object of passed type that was created. The method may return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  <T> T readMapped(File pFile, ObjectType pResultType) throws JEAFSystemException;
+
+  /**
+   * Method reads only the value at the passed JSON Pointer (RFC 6901) from the passed stream and binds it to the passed
+   * type. All other values are skipped without binding them and reading stops as soon as the value was found.
+   *
+   * @param pInputStream Stream from which the data should be read. The parameter must not be null.
+   * @param pJSONPointer JSON Pointer of the value that should be read, e.g. "/order/status". The parameter must not be
+   * null.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return T Object of passed type that was created. The method returns null if null was serialized or if the content
+   * does not contain the pointer.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   * @see JSONPaths
+   */
+  <T> T readAt(InputStream pInputStream, String pJSONPointer, Class<T> pResultType) throws JEAFSystemException;
+
+  /**
+   * Method reads only the value at the passed JSON Pointer (RFC 6901) from the passed bytes and binds it to the passed
+   * type. All other values are skipped without binding them and reading stops as soon as the value was found.
+   *
+   * @param pBytes Bytes from which the data should be read. The parameter must not be null.
+   * @param pJSONPointer JSON Pointer of the value that should be read, e.g. "/order/status". The parameter must not be
+   * null.
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return T Object of passed type that was created. The method returns null if null was serialized or if the content
+   * does not contain the pointer.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   * @see JSONPaths
+   */
+  <T> T readAt(byte[] pBytes, String pJSONPointer, Class<T> pResultType) throws JEAFSystemException;
+
+  /**
+   * Method reads only the values at the passed JSON Pointers from the passed stream in one pass. All other values are
+   * skipped without binding them and reading stops as soon as all values were found.
+   *
+   * @param pInputStream Stream from which the data should be read. The parameter must not be null.
+   * @param pPaths Pointers of the values that should be read together with their types. The parameter must not be
+   * null.
+   * @return {@link Map} Map with the pointers as key and the created objects as value. Pointers that are not contained
+   * in the content are not contained in the map (see {@link JSONPaths#read(tools.jackson.core.JsonParser, JSONTools)}).
+   * The method never returns null.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  Map<String, Object> readAt(InputStream pInputStream, JSONPaths pPaths) throws JEAFSystemException;
+
+  /**
+   * Method reads only the values at the passed JSON Pointers from the passed bytes in one pass. All other values are
+   * skipped without binding them and reading stops as soon as all values were found.
+   *
+   * @param pBytes Bytes from which the data should be read. The parameter must not be null.
+   * @param pPaths Pointers of the values that should be read together with their types. The parameter must not be
+   * null.
+   * @return {@link Map} Map with the pointers as key and the created objects as value. Pointers that are not contained
+   * in the content are not contained in the map (see {@link JSONPaths#read(tools.jackson.core.JsonParser, JSONTools)}).
+   * The method never returns null.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  Map<String, Object> readAt(byte[] pBytes, JSONPaths pPaths) throws JEAFSystemException;
+
   /**
    * Method deserializes the data of passed stream into a {@link List} of objects of the passed type.
    *
@@ -399,4 +963,298 @@ public interface JSONTools {
   <T extends Collection<?>> T readToCollection(byte[] pBytes, Class<T> pCollectionType, ObjectType pObjectType)
     throws JEAFSystemException;
 
+  /**
+   * Method deserializes the remaining bytes of the passed buffer into a {@link Collection} of objects of the passed
+   * type. The position of the buffer is not changed.
+   *
+   * @param pBuffer Buffer from which the data should be read. The parameter must not be null.
+   * @param pCollectionType Type of collection that should be used to store the created objects. The parameter must not
+   * be null.
+   * @param pObjectType Type of the object that should be created. The parameter must not be null.
+   * @return {@link Collection} Collection of objects of passed type that was created from the JSON data. The method may
+   * return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  <T extends Collection<?>> T readToCollection(ByteBuffer pBuffer, Class<T> pCollectionType, ObjectType pObjectType)
+    throws JEAFSystemException;
+
+  /**
+   * Method deserializes the data from the passed channel into a {@link Collection} of objects of the passed type. The
+   * channel is read until its end but not closed.
+   *
+   * @param pChannel Channel from which the data should be read. The parameter must not be null.
+   * @param pCollectionType Type of collection that should be used to store the created objects. The parameter must not
+   * be null.
+   * @param pObjectType Type of the object that should be created. The parameter must not be null.
+   * @return {@link Collection} Collection of objects of passed type that was created from the JSON data. The method may
+   * return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  <T extends Collection<?>> T readToCollection(ReadableByteChannel pChannel, Class<T> pCollectionType,
+      ObjectType pObjectType)
+    throws JEAFSystemException;
+
+  /**
+   * Method deserializes the data from the passed file into a {@link Collection} of objects of the passed type. The file
+   * is memory mapped read-only and parsed directly from the mapped memory.
+   *
+   * @param pFile File from which the data should be read. The parameter must not be null.
+   * @param pCollectionType Type of collection that should be used to store the created objects. The parameter must not
+   * be null.
+   * @param pObjectType Type of the object that should be created. The parameter must not be null.
+   * @return {@link Collection} Collection of objects of passed type that was created from the JSON data. The method may
+   * return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  <T extends Collection<?>> T readMappedToCollection(File pFile, Class<T> pCollectionType, ObjectType pObjectType)
+    throws JEAFSystemException;
+
+  /**
+   * Method deserializes the passed bytes into a {@link Collection} of objects of the passed type. The elements of the
+   * top level array are bound in parallel as defined by the passed options. The order of the elements is kept. For
+   * binary formats the elements are read sequentially.
+   *
+   * @param pBytes Byte array from which the data should be read. The parameter must not be null.
+   * @param pCollectionType Type of collection that should be used to store the created objects. The parameter must not
+   * be null.
+   * @param pObjectType Type of the object that should be created. The parameter must not be null.
+   * @param pOptions Options that define how the elements are processed in parallel. The parameter must not be null.
+   * @return {@link Collection} Collection of objects of passed type that was created from the JSON data. The method
+   * never returns null.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  <T extends Collection<?>> T readToCollection(byte[] pBytes, Class<T> pCollectionType, ObjectType pObjectType,
+      ParallelOptions pOptions)
+    throws JEAFSystemException;
+
+  /**
+   * Method deserializes the data from the passed file into a {@link Collection} of objects of the passed type. The
+   * elements of the top level array are bound in parallel as defined by the passed options. The order of the elements
+   * is kept. For binary formats the elements are read sequentially.
+   *
+   * @param pFile File from which the data should be read. The parameter must not be null.
+   * @param pCollectionType Type of collection that should be used to store the created objects. The parameter must not
+   * be null.
+   * @param pObjectType Type of the object that should be created. The parameter must not be null.
+   * @param pOptions Options that define how the elements are processed in parallel. The parameter must not be null.
+   * @return {@link Collection} Collection of objects of passed type that was created from the JSON data. The method
+   * never returns null.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  <T extends Collection<?>> T readToCollection(File pFile, Class<T> pCollectionType, ObjectType pObjectType,
+      ParallelOptions pOptions)
+    throws JEAFSystemException;
+
+  /**
+   * Method deserializes the compressed data from the passed stream into a {@link Collection} of objects of the passed
+   * type.
+   *
+   * @param pInputStream Stream from which the compressed data should be read. The parameter must not be null.
+   * @param pCollectionType Type of collection that should be used to store the created objects. The parameter must not
+   * be null.
+   * @param pObjectType Type of the object that should be created. The parameter must not be null.
+   * @param pCompression Compression of the data. Using {@link Compression#AUTO_DETECT} the compression is detected
+   * from the first bytes of the data which is only supported for textual JSON. The parameter must not be null.
+   * @return {@link Collection} Collection of objects of passed type that was created from the JSON data. The method may
+   * return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  <T extends Collection<?>> T readToCollection(InputStream pInputStream, Class<T> pCollectionType,
+      ObjectType pObjectType, Compression pCompression)
+    throws JEAFSystemException;
+
+  /**
+   * Method deserializes the compressed data from the passed file into a {@link Collection} of objects of the passed
+   * type.
+   *
+   * @param pFile File from which the compressed data should be read. The parameter must not be null.
+   * @param pCollectionType Type of collection that should be used to store the created objects. The parameter must not
+   * be null.
+   * @param pObjectType Type of the object that should be created. The parameter must not be null.
+   * @param pCompression Compression of the data. Using {@link Compression#AUTO_DETECT} the compression is detected
+   * from the first bytes of the data which is only supported for textual JSON. The parameter must not be null.
+   * @return {@link Collection} Collection of objects of passed type that was created from the JSON data. The method may
+   * return null if null was serialized.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  <T extends Collection<?>> T readToCollection(File pFile, Class<T> pCollectionType, ObjectType pObjectType,
+      Compression pCompression)
+    throws JEAFSystemException;
+
+  /**
+   * Method deserializes JSON Lines (NDJSON) from the passed stream into a {@link Collection} of objects of the passed
+   * type. Records are read directly from the stream using one parser for the whole stream.
+   *
+   * @param pInputStream Stream from which the data should be read. The parameter must not be null.
+   * @param pCollectionType Type of collection that should be used to store the created objects. The parameter must not
+   * be null.
+   * @param pObjectType Type of the objects that should be created. The parameter must not be null.
+   * @return {@link Collection} Collection of objects of passed type that was created from the JSON Lines. The method
+   * never returns null.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  <T extends Collection<?>> T readJSONLinesToCollection(InputStream pInputStream, Class<T> pCollectionType,
+      ObjectType pObjectType)
+    throws JEAFSystemException;
+
+  /**
+   * Method deserializes JSON Lines (NDJSON) from the passed file into a {@link Collection} of objects of the passed
+   * type. Records are read directly from the file using one parser for the whole file.
+   *
+   * @param pFile File from which the data should be read. The parameter must not be null.
+   * @param pCollectionType Type of collection that should be used to store the created objects. The parameter must not
+   * be null.
+   * @param pObjectType Type of the objects that should be created. The parameter must not be null.
+   * @return {@link Collection} Collection of objects of passed type that was created from the JSON Lines. The method
+   * never returns null.
+   * @throws JEAFSystemException if an error occurs during deserialization
+   */
+  <T extends Collection<?>> T readJSONLinesToCollection(File pFile, Class<T> pCollectionType, ObjectType pObjectType)
+    throws JEAFSystemException;
+
+  /**
+   * Method returns an iterator that reads JSON Lines (NDJSON) from the passed stream one record after the other. Only
+   * the current record is bound so memory usage does not depend on the number of records.
+   *
+   * Closing the returned iterator also closes the passed stream.
+   *
+   * @param pInputStream Stream from which the data should be read. The parameter must not be null.
+   * @param pObjectType Type of the objects that should be created. The parameter must not be null.
+   * @return {@link MappingIterator} Iterator over the records. The method never returns null.
+   * @throws JEAFSystemException if an error occurs when starting deserialization
+   */
+  <T> MappingIterator<T> readJSONLinesAsIterator(InputStream pInputStream, ObjectType pObjectType)
+    throws JEAFSystemException;
+
+  /**
+   * Method returns an iterator that reads JSON Lines (NDJSON) from the passed file one record after the other. Only the
+   * current record is bound so memory usage does not depend on the number of records.
+   *
+   * Closing the returned iterator also closes the file.
+   *
+   * @param pFile File from which the data should be read. The parameter must not be null.
+   * @param pObjectType Type of the objects that should be created. The parameter must not be null.
+   * @return {@link MappingIterator} Iterator over the records. The method never returns null.
+   * @throws JEAFSystemException if an error occurs when starting deserialization
+   */
+  <T> MappingIterator<T> readJSONLinesAsIterator(File pFile, ObjectType pObjectType) throws JEAFSystemException;
+
+  /**
+   * Method returns an iterator that reads the elements of the top level JSON array from the passed stream one after the
+   * other. Only the current element is bound so memory usage does not depend on the size of the array.
+   *
+   * Closing the returned iterator also closes the passed stream.
+   *
+   * @param pInputStream Stream from which the data should be read. The parameter must not be null.
+   * @param pElementType Type of the elements of the array. The parameter must not be null.
+   * @return {@link MappingIterator} Iterator over the elements of the array. The method never returns null.
+   * @throws JEAFSystemException if an error occurs when starting deserialization
+   */
+  <T> MappingIterator<T> readAsIterator(InputStream pInputStream, ObjectType pElementType) throws JEAFSystemException;
+
+  /**
+   * Method returns an iterator that reads the elements of the top level JSON array from the passed reader one after the
+   * other. Only the current element is bound so memory usage does not depend on the size of the array.
+   *
+   * Closing the returned iterator also closes the passed reader.
+   *
+   * @param pReader Reader from which the data should be read. The parameter must not be null.
+   * @param pElementType Type of the elements of the array. The parameter must not be null.
+   * @return {@link MappingIterator} Iterator over the elements of the array. The method never returns null.
+   * @throws JEAFSystemException if an error occurs when starting deserialization
+   */
+  <T> MappingIterator<T> readAsIterator(Reader pReader, ObjectType pElementType) throws JEAFSystemException;
+
+  /**
+   * Method returns an iterator that reads the elements of the top level JSON array from the passed file one after the
+   * other. Only the current element is bound so memory usage does not depend on the size of the array.
+   *
+   * Closing the returned iterator also closes the file.
+   *
+   * @param pFile File from which the data should be read. The parameter must not be null.
+   * @param pElementType Type of the elements of the array. The parameter must not be null.
+   * @return {@link MappingIterator} Iterator over the elements of the array. The method never returns null.
+   * @throws JEAFSystemException if an error occurs when starting deserialization
+   */
+  <T> MappingIterator<T> readAsIterator(File pFile, ObjectType pElementType) throws JEAFSystemException;
+
+  /**
+   * Method returns a sequential {@link Stream} that reads the elements of the top level JSON array from the passed
+   * stream one after the other. Only the current element is bound so memory usage does not depend on the size of the
+   * array.
+   *
+   * Closing the returned stream also closes the passed input stream. Errors that occur while the returned stream is
+   * consumed are reported as {@link JEAFSystemException}.
+   *
+   * @param pInputStream Stream from which the data should be read. The parameter must not be null.
+   * @param pElementType Type of the elements of the array. The parameter must not be null.
+   * @return {@link Stream} Stream of the elements of the array. The method never returns null.
+   * @throws JEAFSystemException if an error occurs when starting deserialization
+   */
+  <T> Stream<T> readAsStream(InputStream pInputStream, ObjectType pElementType) throws JEAFSystemException;
+
+  /**
+   * Method returns a sequential {@link Stream} that reads the elements of the top level JSON array from the passed
+   * reader one after the other. Only the current element is bound so memory usage does not depend on the size of the
+   * array.
+   *
+   * Closing the returned stream also closes the passed reader. Errors that occur while the returned stream is consumed
+   * are reported as {@link JEAFSystemException}.
+   *
+   * @param pReader Reader from which the data should be read. The parameter must not be null.
+   * @param pElementType Type of the elements of the array. The parameter must not be null.
+   * @return {@link Stream} Stream of the elements of the array. The method never returns null.
+   * @throws JEAFSystemException if an error occurs when starting deserialization
+   */
+  <T> Stream<T> readAsStream(Reader pReader, ObjectType pElementType) throws JEAFSystemException;
+
+  /**
+   * Method returns a sequential {@link Stream} that reads the elements of the top level JSON array from the passed file
+   * one after the other. Only the current element is bound so memory usage does not depend on the size of the array.
+   *
+   * Closing the returned stream also closes the file. Errors that occur while the returned stream is consumed are
+   * reported as {@link JEAFSystemException}.
+   *
+   * @param pFile File from which the data should be read. The parameter must not be null.
+   * @param pElementType Type of the elements of the array. The parameter must not be null.
+   * @return {@link Stream} Stream of the elements of the array. The method never returns null.
+   * @throws JEAFSystemException if an error occurs when starting deserialization
+   */
+  <T> Stream<T> readAsStream(File pFile, ObjectType pElementType) throws JEAFSystemException;
+
+  /**
+   * Method returns a publisher that emits the elements of the top level JSON array from the passed stream. Elements are
+   * bound one after the other only when they are requested by the subscriber and on the thread that calls
+   * {@link Flow.Subscription#request(long)}. The publisher supports exactly one subscriber.
+   *
+   * The passed stream is closed when all elements were emitted, when the subscription is cancelled or when an error
+   * occurs. Errors are signaled to the subscriber as {@link JEAFSystemException}.
+   *
+   * @param pInputStream Stream from which the data should be read. The parameter must not be null.
+   * @param pElementType Type of the elements of the array. The parameter must not be null.
+   * @return {@link Flow.Publisher} Publisher for the elements of the array. The method never returns null.
+   */
+  <T> Flow.Publisher<T> readAsPublisher(InputStream pInputStream, ObjectType pElementType);
+
+  /**
+   * Method creates a new non-blocking reader that deserializes one object of the passed type from data that is fed to
+   * it chunk by chunk.
+   *
+   * @param pResultType Type of the object that should be created. The parameter must not be null.
+   * @return {@link AsyncJSONReader} Reader whose result is the created object. The result may be null if null was
+   * serialized. The method never returns null.
+   */
+  <T> AsyncJSONReader<T> createAsyncReader(ObjectType pResultType);
+
+  /**
+   * Method creates a new non-blocking reader that deserializes the elements of a top level JSON array from data that is
+   * fed to it chunk by chunk. Every element is passed to the callback as soon as it is complete. Callbacks are invoked
+   * on the thread that feeds the chunk which completed the element.
+   *
+   * @param pElementType Type of the elements of the array. The parameter must not be null.
+   * @param pElementCallback Callback that receives the elements of the array. The parameter must not be null.
+   * @return {@link AsyncJSONReader} Reader whose result is the number of elements that were read. The method never
+   * returns null.
+   */
+  <T> AsyncJSONReader<Long> createAsyncArrayReader(ObjectType pElementType, Consumer<? super T> pElementCallback);
 }
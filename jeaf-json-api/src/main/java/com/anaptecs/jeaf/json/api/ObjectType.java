@@ -5,19 +5,75 @@
  */
 package com.anaptecs.jeaf.json.api;
 
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import com.anaptecs.jeaf.xfun.api.checks.Check;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.type.TypeFactory;
 
 /**
  * Class can be used to define the expected result type when deserializing JSON into objects.
- * 
+ *
+ * Instances are canonical. All factory methods return the same instance for the same type so object types can be
+ * compared and used as cache keys. In addition every object type carries the Jackson {@link JavaType} it represents.
+ * The {@link JavaType} is resolved lazily on first access and then kept for the type factory that was used, so that
+ * type resolution only happens once per object mapper and not once per request.
+ *
+ * Canonical instances are only referenced weakly, so object types do not prevent the involved classes from being
+ * unloaded.
+ *
  * @author JEAF Development Team
  */
 public abstract class ObjectType {
+  /**
+   * Type factory that is used by {@link #getJavaType()}.
+   */
+  private static final TypeFactory TYPE_FACTORY = TypeFactory.createDefaultInstance();
+
+  /**
+   * Object types for single objects. {@link ClassValue} is used so that classes can still be unloaded.
+   */
+  private static final ClassValue<ObjectType> SINGLE_OBJECT_TYPES = new ClassValue<ObjectType>() {
+    @Override
+    protected ObjectType computeValue( Class<?> pType ) {
+      return new SingleObjectType(pType);
+    }
+  };
+
+  /**
+   * Canonical instances of all collection and generics object types per raw class. Instances are only referenced weakly
+   * so that they are removed once they are not used anymore.
+   */
+  private static final ClassValue<Map<ObjectType, WeakReference<ObjectType>>> OBJECT_TYPES =
+      new ClassValue<Map<ObjectType, WeakReference<ObjectType>>>() {
+        @Override
+        protected Map<ObjectType, WeakReference<ObjectType>> computeValue( Class<?> pType ) {
+          return new WeakHashMap<>();
+        }
+      };
+
+  /**
+   * Maximum number of type factories for which the resolved Jackson type is kept. Every object mapper has its own type
+   * factory, so a few entries cover the profiles and formats that are usually used by an application.
+   */
+  private static final int RESOLVED_TYPES_SIZE = 4;
+
+  /**
+   * Jackson representations of this object type together with the type factories that resolved them. Entries are
+   * resolved lazily. If all entries are used the entry that belongs to the hash of the type factory is replaced.
+   */
+  private final AtomicReferenceArray<ResolvedType> resolvedTypes = new AtomicReferenceArray<>(RESOLVED_TYPES_SIZE);
+
   /**
    * Method can be used to define the expected return type when reading a single object.
-   * 
+   *
    * @param pObjectType Class representing the expected type that should be returned. The parameter must not be null.
    * @return {@link ObjectType} Object representing the type of the created object. The method never returns null.
    */
@@ -25,12 +81,12 @@ public abstract class ObjectType {
     // Check parameter
     Check.checkInvalidParameterNull(pObjectType, "pObjectType");
 
-    return new SingleObjectType(pObjectType);
+    return SINGLE_OBJECT_TYPES.get(pObjectType);
   }
 
   /**
    * Method can be used to define the expected return type when reading multiple objects from JSON into a collection.
-   * 
+   *
    * @param pCollectionType Class representing the collection type that should contain objects of passed type. The
    * parameter must not be null.
    * @param pObjectType Class representing the expected type that should be returned. The parameter must not be null.
@@ -42,15 +98,34 @@ public abstract class ObjectType {
     Check.checkInvalidParameterNull(pCollectionType, "pCollectionType");
     Check.checkInvalidParameterNull(pObjectType, "pObjectType");
 
-    return new CollectionObjectType(pCollectionType, pObjectType);
+    return createCollectionObjectType(pCollectionType, createObjectType(pObjectType));
+  }
+
+  /**
+   * Method can be used to define the expected return type when reading multiple objects from JSON into a collection
+   * whose elements are generic types themselves (e.g. <code>List&lt;Wrapper&lt;T&gt;&gt;</code>).
+   *
+   * @param pCollectionType Class representing the collection type that should contain objects of passed type. The
+   * parameter must not be null.
+   * @param pElementType Object type representing the type of the elements of the collection. The parameter must not be
+   * null.
+   * @return {@link ObjectType} Object representing the type of the created object. The method never returns null.
+   */
+  public static ObjectType createCollectionObjectType( @SuppressWarnings("rawtypes")
+  Class<? extends Collection> pCollectionType, ObjectType pElementType ) {
+    // Check parameter
+    Check.checkInvalidParameterNull(pCollectionType, "pCollectionType");
+    Check.checkInvalidParameterNull(pElementType, "pElementType");
+
+    return intern(new CollectionObjectType(pCollectionType, pElementType));
   }
 
   /**
    * Method can be used to define the expected return type when reading a generic type from JSON.
-   * 
+   *
    * Please be aware that this type is intended to be used for business classes working with generics. If you want to
    * deserialize collection classes then please use {@link #createObjectType(Class, Class)} instead.
-   * 
+   *
    * @param pGenericType Class object representing the generic type that should be read. The parameter must not be null.
    * @param pParameterType Class object representing the parameter type for the generic class. The parameter must not be
    * null.
@@ -61,7 +136,49 @@ public abstract class ObjectType {
     Check.checkInvalidParameterNull(pGenericType, "pGenericType");
     Check.checkInvalidParameterNull(pParameterType, "pParameterType");
 
-    return new GenericsObjectType(pGenericType, pParameterType);
+    return createGenericsObjectType(pGenericType, createObjectType(pParameterType));
+  }
+
+  /**
+   * Method can be used to define the expected return type when reading a generic type with one or more type parameters
+   * from JSON. As type parameters are object types themselves this method also supports nested generics like
+   * <code>Map&lt;K, V&gt;</code> or <code>Wrapper&lt;List&lt;T&gt;&gt;</code>.
+   *
+   * @param pGenericType Class object representing the generic type that should be read. The parameter must not be null.
+   * @param pParameterTypes Object types representing the type parameters of the generic class. The number of passed
+   * types has to match the number of type parameters of the generic class. The parameter must not be null.
+   * @return {@link ObjectType} Object representing the type of the created object. The method never returns null.
+   */
+  public static ObjectType createGenericsObjectType( Class<?> pGenericType, ObjectType... pParameterTypes ) {
+    // Check parameter
+    Check.checkInvalidParameterNull(pGenericType, "pGenericType");
+    Check.checkInvalidParameterNull(pParameterTypes, "pParameterTypes");
+    for (ObjectType lNext : pParameterTypes) {
+      Check.checkInvalidParameterNull(lNext, "pParameterTypes[]");
+    }
+    int lExpectedParameters = pGenericType.getTypeParameters().length;
+    Check.checkIsPartOfSet(lExpectedParameters, lExpectedParameters, pParameterTypes.length);
+
+    return intern(new GenericsObjectType(pGenericType, pParameterTypes.clone()));
+  }
+
+  /**
+   * Method returns the canonical instance for the passed object type.
+   *
+   * @param pObjectType Object type for which the canonical instance should be returned. The parameter must not be null.
+   * @return {@link ObjectType} Canonical instance. The method never returns null.
+   */
+  private static ObjectType intern( ObjectType pObjectType ) {
+    Map<ObjectType, WeakReference<ObjectType>> lObjectTypes = OBJECT_TYPES.get(pObjectType.getRawType());
+    synchronized (lObjectTypes) {
+      WeakReference<ObjectType> lReference = lObjectTypes.get(pObjectType);
+      ObjectType lExisting = lReference != null ? lReference.get() : null;
+      if (lExisting == null) {
+        lObjectTypes.put(pObjectType, new WeakReference<>(pObjectType));
+        lExisting = pObjectType;
+      }
+      return lExisting;
+    }
   }
 
   /**
@@ -70,6 +187,65 @@ public abstract class ObjectType {
   private ObjectType( ) {
   }
 
+  /**
+   * Method returns the raw class of this object type. For collections this is the collection class and for generic
+   * types the generic class itself.
+   *
+   * @return {@link Class} Raw class of this object type. The method never returns null.
+   */
+  public abstract Class<?> getRawType( );
+
+  /**
+   * Method returns the Jackson representation of this object type using Jackson's default type factory. Type
+   * modifiers of modules are not applied. Object mappers should use {@link #getJavaType(TypeFactory)} instead.
+   *
+   * @return {@link JavaType} Jackson type representing this object type. The method never returns null.
+   */
+  public final JavaType getJavaType( ) {
+    return this.getJavaType(TYPE_FACTORY);
+  }
+
+  /**
+   * Method returns the Jackson representation of this object type as it is resolved by the passed type factory. The
+   * type is resolved once per type factory. Resolved types are kept for up to four type factories.
+   *
+   * @param pTypeFactory Type factory that should be used, usually the one of the object mapper. The parameter must not
+   * be null.
+   * @return {@link JavaType} Jackson type representing this object type. The method never returns null.
+   */
+  public final JavaType getJavaType( TypeFactory pTypeFactory ) {
+    // Check parameter
+    Check.checkInvalidParameterNull(pTypeFactory, "pTypeFactory");
+
+    // Look up the type factory among the entries that are already used.
+    ResolvedType lResolvedType = null;
+    int lFreeIndex = -1;
+    for (int i = 0; i < RESOLVED_TYPES_SIZE && lResolvedType == null && lFreeIndex < 0; i++) {
+      ResolvedType lEntry = resolvedTypes.get(i);
+      if (lEntry == null) {
+        lFreeIndex = i;
+      }
+      else if (lEntry.typeFactory == pTypeFactory) {
+        lResolvedType = lEntry;
+      }
+    }
+    if (lResolvedType == null) {
+      lResolvedType = new ResolvedType(pTypeFactory, this.resolveJavaType(pTypeFactory));
+      if (lFreeIndex < 0 || resolvedTypes.compareAndSet(lFreeIndex, null, lResolvedType) == false) {
+        resolvedTypes.set(Math.floorMod(System.identityHashCode(pTypeFactory), RESOLVED_TYPES_SIZE), lResolvedType);
+      }
+    }
+    return lResolvedType.javaType;
+  }
+
+  /**
+   * Method resolves the Jackson representation of this object type.
+   *
+   * @param pTypeFactory Type factory that should be used. The parameter must not be null.
+   * @return {@link JavaType} Resolved type. The method never returns null.
+   */
+  abstract JavaType resolveJavaType( TypeFactory pTypeFactory );
+
   /**
    * Class implements an object type that can be used to represent single object.
    */
@@ -84,6 +260,41 @@ public abstract class ObjectType {
     public Class<?> getObjectType( ) {
       return objectType;
     }
+
+    @Override
+    public Class<?> getRawType( ) {
+      return objectType;
+    }
+
+    @Override
+    JavaType resolveJavaType( TypeFactory pTypeFactory ) {
+      return pTypeFactory.constructType(objectType);
+    }
+
+    @Override
+    public int hashCode( ) {
+      return objectType.hashCode();
+    }
+
+    @Override
+    public boolean equals( Object pObject ) {
+      boolean lEquals;
+      if (this == pObject) {
+        lEquals = true;
+      }
+      else if (pObject instanceof SingleObjectType) {
+        lEquals = objectType == ((SingleObjectType) pObject).objectType;
+      }
+      else {
+        lEquals = false;
+      }
+      return lEquals;
+    }
+
+    @Override
+    public String toString( ) {
+      return objectType.getName();
+    }
   }
 
   /**
@@ -93,12 +304,12 @@ public abstract class ObjectType {
     @SuppressWarnings("rawtypes")
     private final Class<? extends Collection> collectionType;
 
-    private final Class<?> objectType;
+    private final ObjectType elementType;
 
     private CollectionObjectType( @SuppressWarnings("rawtypes")
-    Class<? extends Collection> pCollectionType, Class<?> pObjectType ) {
+    Class<? extends Collection> pCollectionType, ObjectType pElementType ) {
       collectionType = pCollectionType;
-      objectType = pObjectType;
+      elementType = pElementType;
     }
 
     @SuppressWarnings("rawtypes")
@@ -107,7 +318,47 @@ public abstract class ObjectType {
     }
 
     public Class<?> getObjectType( ) {
-      return objectType;
+      return elementType.getRawType();
+    }
+
+    public ObjectType getElementType( ) {
+      return elementType;
+    }
+
+    @Override
+    public Class<?> getRawType( ) {
+      return collectionType;
+    }
+
+    @Override
+    JavaType resolveJavaType( TypeFactory pTypeFactory ) {
+      return pTypeFactory.constructCollectionType(collectionType, elementType.getJavaType(pTypeFactory));
+    }
+
+    @Override
+    public int hashCode( ) {
+      return 31 * collectionType.hashCode() + elementType.hashCode();
+    }
+
+    @Override
+    public boolean equals( Object pObject ) {
+      boolean lEquals;
+      if (this == pObject) {
+        lEquals = true;
+      }
+      else if (pObject instanceof CollectionObjectType) {
+        CollectionObjectType lOther = (CollectionObjectType) pObject;
+        lEquals = collectionType == lOther.collectionType && elementType.equals(lOther.elementType);
+      }
+      else {
+        lEquals = false;
+      }
+      return lEquals;
+    }
+
+    @Override
+    public String toString( ) {
+      return collectionType.getName() + '<' + elementType + '>';
     }
   }
 
@@ -117,11 +368,19 @@ public abstract class ObjectType {
   public static class GenericsObjectType extends ObjectType {
     private final Class<?> genericType;
 
-    private final Class<?> parameterType;
+    private final ObjectType[] parameterTypes;
 
+    /**
+     * Constructor does not return canonical instances. Please use
+     * {@link ObjectType#createGenericsObjectType(Class, Class)} if object types are compared by identity.
+     */
     public GenericsObjectType( Class<?> pGenericType, Class<?> pParameterType ) {
+      this(pGenericType, new ObjectType[] { createObjectType(pParameterType) });
+    }
+
+    private GenericsObjectType( Class<?> pGenericType, ObjectType[] pParameterTypes ) {
       genericType = pGenericType;
-      parameterType = pParameterType;
+      parameterTypes = pParameterTypes;
     }
 
     public Class<?> getGenericType( ) {
@@ -129,7 +388,74 @@ public abstract class ObjectType {
     }
 
     public Class<?> getParameterType( ) {
-      return parameterType;
+      return parameterTypes[0].getRawType();
+    }
+
+    public List<ObjectType> getParameterTypes( ) {
+      return Collections.unmodifiableList(Arrays.asList(parameterTypes));
+    }
+
+    @Override
+    public Class<?> getRawType( ) {
+      return genericType;
+    }
+
+    @Override
+    JavaType resolveJavaType( TypeFactory pTypeFactory ) {
+      JavaType[] lParameters = new JavaType[parameterTypes.length];
+      for (int i = 0; i < parameterTypes.length; i++) {
+        lParameters[i] = parameterTypes[i].getJavaType(pTypeFactory);
+      }
+      return pTypeFactory.constructParametricType(genericType, lParameters);
+    }
+
+    @Override
+    public int hashCode( ) {
+      return 31 * genericType.hashCode() + Arrays.hashCode(parameterTypes);
+    }
+
+    @Override
+    public boolean equals( Object pObject ) {
+      boolean lEquals;
+      if (this == pObject) {
+        lEquals = true;
+      }
+      else if (pObject instanceof GenericsObjectType) {
+        GenericsObjectType lOther = (GenericsObjectType) pObject;
+        lEquals = genericType == lOther.genericType && Arrays.equals(parameterTypes, lOther.parameterTypes);
+      }
+      else {
+        lEquals = false;
+      }
+      return lEquals;
+    }
+
+    @Override
+    public String toString( ) {
+      StringBuilder lBuilder = new StringBuilder(genericType.getName());
+      lBuilder.append('<');
+      for (int i = 0; i < parameterTypes.length; i++) {
+        if (i > 0) {
+          lBuilder.append(", ");
+        }
+        lBuilder.append(parameterTypes[i]);
+      }
+      lBuilder.append('>');
+      return lBuilder.toString();
+    }
+  }
+
+  /**
+   * Class holds a resolved Jackson type together with the type factory that resolved it.
+   */
+  private static final class ResolvedType {
+    private final TypeFactory typeFactory;
+
+    private final JavaType javaType;
+
+    ResolvedType( TypeFactory pTypeFactory, JavaType pJavaType ) {
+      typeFactory = pTypeFactory;
+      javaType = pJavaType;
     }
   }
 }
@@ -0,0 +1,271 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.exc.MismatchedInputException;
+
+/**
+ * Class reads and writes large top level JSON arrays in parallel. Implementations of {@link JSONTools} use it for all
+ * methods that take {@link ParallelOptions}.
+ *
+ * When reading, the input is scanned once on the calling thread to find the boundaries of the array elements. This
+ * only requires tokenizing, which is much cheaper than data binding. Ranges of {@link ParallelOptions#getChunkSize()}
+ * elements are then bound concurrently while scanning continues. Results are collected in the original order.
+ *
+ * When writing, chunks of elements are serialized concurrently into segment buffers. The calling thread writes the
+ * segments to the output in the original order and adds the array separators between them. Segment buffers are
+ * reused for later chunks, so at most {@link ParallelOptions#getMaxInFlightChunks()} of them exist per write.
+ *
+ * Parallel processing is only supported for textual JSON. Binary formats use back-references that can only be
+ * resolved sequentially.
+ *
+ * @author JEAF Development Team
+ */
+public final class ParallelArrays {
+  /**
+   * Initial size of segment buffers. Buffers grow with the first chunks and keep their size when they are reused.
+   */
+  private static final int SEGMENT_SIZE = 8 * 1024;
+
+  /**
+   * Constructor is private as class only provides static methods.
+   */
+  private ParallelArrays( ) {
+  }
+
+  /**
+   * Method binds the elements of the top level JSON array in the passed bytes in parallel.
+   *
+   * @param pBytes JSON content with an array as root value. The parameter must not be null.
+   * @param pElementReader Reader that binds single array elements. The parameter must not be null.
+   * @param pOptions Options that define how the elements are processed. The parameter must not be null.
+   * @return {@link List} Bound elements in the order of the array. The method never returns null.
+   * @throws tools.jackson.core.JacksonException if the content is not a valid JSON array or an element can not be
+   * bound.
+   */
+  public static List<Object> read( byte[] pBytes, ObjectReader pElementReader, ParallelOptions pOptions ) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pBytes, "pBytes");
+    Check.checkInvalidParameterNull(pElementReader, "pElementReader");
+    Check.checkInvalidParameterNull(pOptions, "pOptions");
+
+    List<Object> lResult = new ArrayList<>();
+    Deque<CompletableFuture<List<Object>>> lInFlight = new ArrayDeque<>();
+    try (JsonParser lParser = pElementReader.createParser(pBytes)) {
+      if (lParser.nextToken() != JsonToken.START_ARRAY) {
+        throw MismatchedInputException.from(lParser, List.class, "Root value is not a JSON array.");
+      }
+      int lChunkSize = pOptions.getChunkSize();
+      // Only the start of every element is tracked. Its end is derived from the start of the next element as the end
+      // location of deferred tokens like strings is not known after skipping them.
+      int[] lOffsets = new int[lChunkSize + 1];
+      int lCount = 0;
+      JsonToken lToken;
+      while ((lToken = lParser.nextToken()) != JsonToken.END_ARRAY) {
+        if (lToken == null) {
+          throw MismatchedInputException.from(lParser, List.class, "Unexpected end of JSON array.");
+        }
+        lOffsets[lCount++] = (int) lParser.currentTokenLocation().getByteOffset();
+        lParser.skipChildren();
+
+        // Chunk is complete as soon as the start of the next element or the end of the array is known.
+        if (lCount == lChunkSize + 1) {
+          submit(pBytes, pElementReader, lOffsets, lChunkSize, pOptions, lInFlight, lResult);
+          int lNext = lOffsets[lChunkSize];
+          lOffsets = new int[lChunkSize + 1];
+          lOffsets[0] = lNext;
+          lCount = 1;
+        }
+      }
+      if (lCount > 0) {
+        lOffsets[lCount] = (int) lParser.currentTokenLocation().getByteOffset();
+        submit(pBytes, pElementReader, lOffsets, lCount, pOptions, lInFlight, lResult);
+      }
+      while (lInFlight.isEmpty() == false) {
+        lResult.addAll(await(lInFlight.removeFirst()));
+      }
+    }
+    catch (RuntimeException e) {
+      for (Future<?> lFuture : lInFlight) {
+        lFuture.cancel(false);
+      }
+      throw e;
+    }
+    return lResult;
+  }
+
+  /**
+   * Method serializes the passed objects in parallel as JSON array to the passed stream. The stream is flushed but not
+   * closed.
+   *
+   * @param pObjects Objects that should be serialized. The parameter must not be null.
+   * @param pOutputStream Stream to which the array should be written. The parameter must not be null.
+   * @param pElementWriter Writer that serializes single elements. The parameter must not be null.
+   * @param pOptions Options that define how the elements are processed. The parameter must not be null.
+   * @throws IOException if the array can not be written to the passed stream.
+   * @throws tools.jackson.core.JacksonException if an element can not be serialized.
+   */
+  public static void write( Collection<?> pObjects, OutputStream pOutputStream, ObjectWriter pElementWriter,
+      ParallelOptions pOptions ) throws IOException {
+    // Check parameters
+    Check.checkInvalidParameterNull(pObjects, "pObjects");
+    Check.checkInvalidParameterNull(pOutputStream, "pOutputStream");
+    Check.checkInvalidParameterNull(pElementWriter, "pElementWriter");
+    Check.checkInvalidParameterNull(pOptions, "pOptions");
+
+    // Segments are only written once complete, so flushing after every element would just copy bytes more often.
+    // Separators between elements are written explicitly as pretty printers ignore the root value separator.
+    ObjectWriter lWriter =
+        pElementWriter.withRootValueSeparator((String) null).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    Queue<ByteArrayOutputStream> lSegmentPool = new ConcurrentLinkedQueue<>();
+    Deque<CompletableFuture<ByteArrayOutputStream>> lInFlight = new ArrayDeque<>();
+    try {
+      pOutputStream.write('[');
+      int lChunkSize = pOptions.getChunkSize();
+      Object[] lChunk = new Object[lChunkSize];
+      int lCount = 0;
+      boolean lFirst = true;
+      for (Object lObject : pObjects) {
+        lChunk[lCount++] = lObject;
+        if (lCount == lChunkSize) {
+          submit(lChunk, lCount, lFirst, lWriter, lSegmentPool, pOptions, lInFlight, pOutputStream);
+          lChunk = new Object[lChunkSize];
+          lCount = 0;
+          lFirst = false;
+        }
+      }
+      if (lCount > 0) {
+        submit(lChunk, lCount, lFirst, lWriter, lSegmentPool, pOptions, lInFlight, pOutputStream);
+      }
+      while (lInFlight.isEmpty() == false) {
+        writeSegment(lInFlight.removeFirst(), lSegmentPool, pOutputStream);
+      }
+      pOutputStream.write(']');
+      pOutputStream.flush();
+    }
+    catch (IOException | RuntimeException e) {
+      for (Future<?> lFuture : lInFlight) {
+        lFuture.cancel(false);
+      }
+      throw e;
+    }
+  }
+
+  private static void submit( Object[] pChunk, int pCount, boolean pFirst, ObjectWriter pWriter,
+      Queue<ByteArrayOutputStream> pSegmentPool, ParallelOptions pOptions,
+      Deque<CompletableFuture<ByteArrayOutputStream>> pInFlight, OutputStream pOutputStream )
+    throws IOException {
+    // Write the oldest segment if the limit is reached so that its buffer can be reused.
+    if (pInFlight.size() >= pOptions.getMaxInFlightChunks()) {
+      writeSegment(pInFlight.removeFirst(), pSegmentPool, pOutputStream);
+    }
+    pInFlight.addLast(CompletableFuture.supplyAsync(( ) -> {
+      ByteArrayOutputStream lSegment = pSegmentPool.poll();
+      if (lSegment == null) {
+        lSegment = new ByteArrayOutputStream(SEGMENT_SIZE);
+      }
+      // All segments except the first one start with the separator to the previous segment.
+      if (pFirst == false) {
+        lSegment.write(',');
+      }
+      try (JsonGenerator lGenerator = pWriter.createGenerator(lSegment)) {
+        for (int i = 0; i < pCount; i++) {
+          if (i > 0) {
+            lGenerator.writeRaw(',');
+          }
+          pWriter.writeValue(lGenerator, pChunk[i]);
+        }
+      }
+      return lSegment;
+    }, pOptions.getExecutor()));
+  }
+
+  private static void writeSegment( Future<ByteArrayOutputStream> pSegment,
+      Queue<ByteArrayOutputStream> pSegmentPool, OutputStream pOutputStream )
+    throws IOException {
+    ByteArrayOutputStream lSegment = await(pSegment);
+    lSegment.writeTo(pOutputStream);
+    lSegment.reset();
+    pSegmentPool.offer(lSegment);
+  }
+
+  private static void submit( byte[] pBytes, ObjectReader pReader, int[] pOffsets, int pCount, ParallelOptions pOptions,
+      Deque<CompletableFuture<List<Object>>> pInFlight, List<Object> pResult ) {
+    // Wait for the oldest chunk if the limit is reached.
+    if (pInFlight.size() >= pOptions.getMaxInFlightChunks()) {
+      pResult.addAll(await(pInFlight.removeFirst()));
+    }
+    pInFlight.addLast(CompletableFuture.supplyAsync(( ) -> {
+      List<Object> lElements = new ArrayList<>(pCount);
+      for (int i = 0; i < pCount; i++) {
+        int lEnd = end(pBytes, pOffsets[i + 1]);
+        lElements.add(pReader.readValue(pBytes, pOffsets[i], lEnd - pOffsets[i]));
+      }
+      return lElements;
+    }, pOptions.getExecutor()));
+  }
+
+  /**
+   * Method returns the end of the element that is followed by the passed offset. Jackson requires root level scalars
+   * to be followed by whitespace or the end of the input, so the separator must not be part of the element.
+   *
+   * @param pBytes JSON content. The parameter must not be null.
+   * @param pNext Offset of the next element or of the end of the array.
+   * @return int Offset directly after the last byte of the element.
+   */
+  private static int end( byte[] pBytes, int pNext ) {
+    int lEnd = pNext;
+    while (lEnd > 0 && isSeparator(pBytes[lEnd - 1])) {
+      lEnd--;
+    }
+    return lEnd;
+  }
+
+  private static boolean isSeparator( byte pByte ) {
+    return pByte == ',' || pByte == ' ' || pByte == '\n' || pByte == '\r' || pByte == '\t';
+  }
+
+  private static <T> T await( Future<T> pFuture ) {
+    try {
+      return pFuture.get();
+    }
+    catch (ExecutionException e) {
+      Throwable lCause = e.getCause();
+      if (lCause instanceof RuntimeException) {
+        throw (RuntimeException) lCause;
+      }
+      if (lCause instanceof Error) {
+        throw (Error) lCause;
+      }
+      throw new IllegalStateException(lCause);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for parallel processing.", e);
+    }
+  }
+}
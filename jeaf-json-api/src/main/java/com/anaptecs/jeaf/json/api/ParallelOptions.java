@@ -0,0 +1,179 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Class defines how large top level arrays are read or written in parallel. Elements are processed in chunks of
+ * {@link #getChunkSize()} elements. Chunks are handed to {@link #getExecutor()} and at most
+ * {@link #getMaxInFlightChunks()} chunks are processed or waiting to be processed at the same time so that memory usage
+ * stays bounded. The order of the elements is always kept.
+ *
+ * Instances are immutable and can be shared. They are created using {@link #builder()} or {@link #defaults()}.
+ *
+ * @author JEAF Development Team
+ */
+public final class ParallelOptions {
+  /**
+   * Default number of elements per chunk.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+  /**
+   * Options with all default values.
+   */
+  private static final ParallelOptions DEFAULTS = builder().build();
+
+  /**
+   * Executor to which chunks are submitted.
+   */
+  private final Executor executor;
+
+  /**
+   * Number of elements per chunk.
+   */
+  private final int chunkSize;
+
+  /**
+   * Maximum number of chunks that are processed or waiting to be processed at the same time.
+   */
+  private final int maxInFlightChunks;
+
+  /**
+   * Initialize object.
+   *
+   * @param pBuilder Builder with the values of the options. The parameter must not be null.
+   */
+  private ParallelOptions( Builder pBuilder ) {
+    executor = pBuilder.executor != null ? pBuilder.executor : ForkJoinPool.commonPool();
+    chunkSize = pBuilder.chunkSize;
+    if (pBuilder.maxInFlightChunks > 0) {
+      maxInFlightChunks = pBuilder.maxInFlightChunks;
+    }
+    else {
+      maxInFlightChunks = 2 * Runtime.getRuntime().availableProcessors();
+    }
+  }
+
+  /**
+   * Method returns options with all default values. Chunks are processed in the common fork join pool.
+   *
+   * @return {@link ParallelOptions} Default options. The method never returns null.
+   */
+  public static ParallelOptions defaults( ) {
+    return DEFAULTS;
+  }
+
+  /**
+   * Method returns a new builder.
+   *
+   * @return {@link Builder} New builder. The method never returns null.
+   */
+  public static Builder builder( ) {
+    return new Builder();
+  }
+
+  /**
+   * Method returns the executor to which chunks are submitted.
+   *
+   * @return {@link Executor} Executor that processes chunks. The method never returns null.
+   */
+  public Executor getExecutor( ) {
+    return executor;
+  }
+
+  /**
+   * Method returns the number of elements per chunk.
+   *
+   * @return int Number of elements per chunk. The value is always greater than 0.
+   */
+  public int getChunkSize( ) {
+    return chunkSize;
+  }
+
+  /**
+   * Method returns the maximum number of chunks that are processed or waiting to be processed at the same time.
+   *
+   * @return int Maximum number of chunks in flight. The value is always greater than 0.
+   */
+  public int getMaxInFlightChunks( ) {
+    return maxInFlightChunks;
+  }
+
+  /**
+   * Class is used to create instances of {@link ParallelOptions}.
+   */
+  public static final class Builder {
+    private Executor executor;
+
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    private int maxInFlightChunks;
+
+    /**
+     * Use {@link ParallelOptions#builder()} instead of private constructor to create new builder.
+     */
+    private Builder( ) {
+    }
+
+    /**
+     * Method sets the executor to which chunks are submitted. By default the common fork join pool is used.
+     *
+     * @param pExecutor Executor that should process chunks. The parameter may be null.
+     * @return {@link Builder} Instance of this builder to support chaining of method calls. The method never returns
+     * null.
+     */
+    public Builder setExecutor( Executor pExecutor ) {
+      executor = pExecutor;
+      return this;
+    }
+
+    /**
+     * Method sets the number of elements per chunk. Larger chunks reduce coordination overhead, smaller chunks spread
+     * the work more evenly. By default {@link ParallelOptions#DEFAULT_CHUNK_SIZE} is used.
+     *
+     * @param pChunkSize Number of elements per chunk. The value must be greater than 0.
+     * @return {@link Builder} Instance of this builder to support chaining of method calls. The method never returns
+     * null.
+     * @throws IllegalArgumentException if the passed value is not greater than 0.
+     */
+    public Builder setChunkSize( int pChunkSize ) {
+      if (pChunkSize < 1) {
+        throw new IllegalArgumentException("Chunk size must be greater than 0.");
+      }
+      chunkSize = pChunkSize;
+      return this;
+    }
+
+    /**
+     * Method sets the maximum number of chunks that are processed or waiting to be processed at the same time. By
+     * default twice the number of available processors is used.
+     *
+     * @param pMaxInFlightChunks Maximum number of chunks in flight. The value must be greater than 0.
+     * @return {@link Builder} Instance of this builder to support chaining of method calls. The method never returns
+     * null.
+     * @throws IllegalArgumentException if the passed value is not greater than 0.
+     */
+    public Builder setMaxInFlightChunks( int pMaxInFlightChunks ) {
+      if (pMaxInFlightChunks < 1) {
+        throw new IllegalArgumentException("Maximum number of chunks in flight must be greater than 0.");
+      }
+      maxInFlightChunks = pMaxInFlightChunks;
+      return this;
+    }
+
+    /**
+     * Method creates new options with the values of this builder.
+     *
+     * @return {@link ParallelOptions} Created options. The method never returns null.
+     */
+    public ParallelOptions build( ) {
+      return new ParallelOptions(this);
+    }
+  }
+}
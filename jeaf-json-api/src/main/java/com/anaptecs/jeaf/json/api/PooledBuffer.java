@@ -0,0 +1,49 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Interface defines serialized JSON data that is stored in one or more direct buffers taken from a pool. As the data
+ * lives outside the Java heap it can be handed over to NIO channels or network libraries without copying it.
+ *
+ * Buffers are returned to the pool only when {@link #release()} is called, so callers are responsible for releasing
+ * every pooled buffer exactly once, e.g. using try-with-resources. After release the buffers must not be accessed
+ * anymore.
+ *
+ * @author JEAF Development Team
+ */
+public interface PooledBuffer extends AutoCloseable {
+  /**
+   * Method returns the buffers that contain the serialized data in the order in which they have to be written. Each
+   * buffer is positioned at the start of its data and limited to its end. The returned array can be passed directly to
+   * {@link java.nio.channels.GatheringByteChannel#write(ByteBuffer[])}.
+   *
+   * @return {@link ByteBuffer} Read-only buffers containing the serialized data. The method never returns null.
+   */
+  ByteBuffer[] getBuffers( );
+
+  /**
+   * Method returns the total number of bytes of the serialized data.
+   *
+   * @return long Number of bytes in all buffers.
+   */
+  long getSize( );
+
+  /**
+   * Method returns all buffers to the pool. Calling the method more than once has no further effect.
+   */
+  void release( );
+
+  /**
+   * Method releases the buffers. It is the same as {@link #release()}.
+   */
+  @Override
+  default void close( ) {
+    this.release();
+  }
+}
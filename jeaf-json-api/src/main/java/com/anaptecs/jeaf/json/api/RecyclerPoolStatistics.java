@@ -0,0 +1,136 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+/**
+ * Class represents an immutable snapshot of the statistics of a buffer recycler pool.
+ *
+ * @author JEAF Development Team
+ */
+public final class RecyclerPoolStatistics {
+  /**
+   * Type of the pool.
+   */
+  private final RecyclerPoolType poolType;
+
+  /**
+   * Number of acquisitions that could be served from the pool.
+   */
+  private final long hits;
+
+  /**
+   * Number of acquisitions that required a new buffer recycler.
+   */
+  private final long misses;
+
+  /**
+   * Number of buffer recyclers that were returned to the pool.
+   */
+  private final long releases;
+
+  /**
+   * Number of buffer recyclers that could not be returned to the pool as it was full.
+   */
+  private final long discards;
+
+  /**
+   * Number of buffer recyclers that are currently pooled.
+   */
+  private final int pooledCount;
+
+  /**
+   * Initialize object.
+   *
+   * @param pPoolType Type of the pool. The parameter must not be null.
+   * @param pHits Number of acquisitions that could be served from the pool.
+   * @param pMisses Number of acquisitions that required a new buffer recycler.
+   * @param pReleases Number of buffer recyclers that were returned to the pool.
+   * @param pDiscards Number of buffer recyclers that could not be returned to the pool.
+   * @param pPooledCount Number of buffer recyclers that are currently pooled.
+   */
+  RecyclerPoolStatistics( RecyclerPoolType pPoolType, long pHits, long pMisses, long pReleases, long pDiscards,
+      int pPooledCount ) {
+    poolType = pPoolType;
+    hits = pHits;
+    misses = pMisses;
+    releases = pReleases;
+    discards = pDiscards;
+    pooledCount = pPooledCount;
+  }
+
+  /**
+   * Method returns the type of the pool.
+   *
+   * @return {@link RecyclerPoolType} Type of the pool. The method never returns null.
+   */
+  public RecyclerPoolType getPoolType( ) {
+    return poolType;
+  }
+
+  /**
+   * Method returns the number of acquisitions that could be served from the pool.
+   *
+   * @return long Number of pool hits.
+   */
+  public long getHits( ) {
+    return hits;
+  }
+
+  /**
+   * Method returns the number of acquisitions that required a new buffer recycler.
+   *
+   * @return long Number of pool misses.
+   */
+  public long getMisses( ) {
+    return misses;
+  }
+
+  /**
+   * Method returns the number of buffer recyclers that were returned to the pool.
+   *
+   * @return long Number of releases.
+   */
+  public long getReleases( ) {
+    return releases;
+  }
+
+  /**
+   * Method returns the number of buffer recyclers that could not be returned to the pool as it was full.
+   *
+   * @return long Number of discarded buffer recyclers.
+   */
+  public long getDiscards( ) {
+    return discards;
+  }
+
+  /**
+   * Method returns the number of buffer recyclers that were pooled when the snapshot was taken.
+   *
+   * @return int Number of pooled buffer recyclers.
+   */
+  public int getPooledCount( ) {
+    return pooledCount;
+  }
+
+  /**
+   * Method returns the ratio of acquisitions that could be served from the pool.
+   *
+   * @return double Hit rate between 0 and 1. If nothing was acquired yet then 0 will be returned.
+   */
+  public double getHitRate( ) {
+    long lAcquisitions = hits + misses;
+    return lAcquisitions > 0 ? (double) hits / lAcquisitions : 0;
+  }
+
+  @Override
+  public String toString( ) {
+    StringBuilder lBuilder = new StringBuilder();
+    lBuilder.append(poolType).append(" pool: hits=").append(hits).append(", misses=").append(misses);
+    lBuilder.append(", releases=").append(releases).append(", discards=").append(discards);
+    lBuilder.append(", pooled=").append(pooledCount);
+    return lBuilder.toString();
+  }
+}
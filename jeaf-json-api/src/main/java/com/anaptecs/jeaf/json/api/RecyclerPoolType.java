@@ -0,0 +1,72 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Enumeration defines the strategies that can be used to recycle the internal buffers of Jackson's parsers and
+ * generators. Which strategy fits best depends on the threading model of the application.
+ *
+ * @author JEAF Development Team
+ */
+public enum RecyclerPoolType {
+  /**
+   * One pool shared by all threads that is based on a lock-free deque without size limit. This is also Jackson's
+   * default and works well with platform as well as virtual threads.
+   */
+  LOCK_FREE,
+
+  /**
+   * One pool shared by all threads that is based on a lock-free deque but keeps at most the configured number of
+   * buffers. Buffers that are released to a full pool are left to the garbage collector.
+   */
+  BOUNDED,
+
+  /**
+   * Every thread keeps its own buffers (softly referenced) in a plain {@link ThreadLocal}. Acquiring and releasing them
+   * neither allocates nor touches state that is shared with other threads. This suits a small number of long living
+   * platform threads but should not be used with virtual threads. Buffers are bound to the thread and not to its
+   * carrier, so every virtual thread would allocate its own buffers.
+   */
+  PER_THREAD,
+
+  /**
+   * Buffers are not recycled at all but allocated for every parser and generator.
+   */
+  NONE;
+
+  /**
+   * Method creates a new pool of this type.
+   *
+   * @param pMaxSize Maximum number of buffers that are kept by the pool. The value is only relevant for
+   * {@link #BOUNDED} pools and must be zero or greater.
+   * @return {@link InstrumentedRecyclerPool} Created pool. The method never returns null.
+   */
+  public InstrumentedRecyclerPool createPool( int pMaxSize ) {
+    // Check parameter
+    Check.checkIsZeroOrGreater(pMaxSize, "pMaxSize");
+
+    InstrumentedRecyclerPool lPool;
+    switch (this) {
+      case LOCK_FREE:
+        lPool = new InstrumentedRecyclerPool.DequePool(this, Integer.MAX_VALUE);
+        break;
+
+      case BOUNDED:
+        lPool = new InstrumentedRecyclerPool.DequePool(this, pMaxSize);
+        break;
+
+      case PER_THREAD:
+        lPool = new InstrumentedRecyclerPool.ThreadLocalPool();
+        break;
+
+      default:
+        lPool = new InstrumentedRecyclerPool.NonRecyclingPool();
+    }
+    return lPool;
+  }
+}
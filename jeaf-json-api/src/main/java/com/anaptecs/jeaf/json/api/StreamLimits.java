@@ -0,0 +1,61 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+import com.anaptecs.jeaf.json.annotations.ObjectMapperConfig;
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+import tools.jackson.core.StreamReadConstraints;
+import tools.jackson.core.StreamWriteConstraints;
+
+/**
+ * Class maps the limits that are configured using {@link ObjectMapperConfig} to Jackson's
+ * {@link StreamReadConstraints} and {@link StreamWriteConstraints}. Implementations of {@link JSONTools} use it to
+ * configure the token stream factories of their object mappers.
+ *
+ * Limits are checked by the parser while the input is read. A document that exceeds a limit fails as soon as the limit
+ * is reached. The rest of the input is neither read nor buffered.
+ *
+ * @author JEAF Development Team
+ */
+public final class StreamLimits {
+  /**
+   * Constructor is private as class only provides static methods.
+   */
+  private StreamLimits( ) {
+  }
+
+  /**
+   * Method creates the read constraints for the passed configuration.
+   *
+   * @param pConfig Configuration of the object mapper. The parameter must not be null.
+   * @return {@link StreamReadConstraints} Read constraints as defined by the passed configuration. The method never
+   * returns null.
+   * @throws IllegalArgumentException if one of the configured limits is invalid.
+   */
+  public static StreamReadConstraints createReadConstraints( ObjectMapperConfig pConfig ) {
+    // Check parameter
+    Check.checkInvalidParameterNull(pConfig, "pConfig");
+
+    return StreamReadConstraints.builder().maxDocumentLength(pConfig.maxDocumentLength())
+        .maxNestingDepth(pConfig.maxNestingDepth()).maxStringLength(pConfig.maxStringLength())
+        .maxNumberLength(pConfig.maxNumberLength()).maxNameLength(pConfig.maxNameLength()).build();
+  }
+
+  /**
+   * Method creates the write constraints for the passed configuration.
+   *
+   * @param pConfig Configuration of the object mapper. The parameter must not be null.
+   * @return {@link StreamWriteConstraints} Write constraints as defined by the passed configuration. The method never
+   * returns null.
+   * @throws IllegalArgumentException if one of the configured limits is invalid.
+   */
+  public static StreamWriteConstraints createWriteConstraints( ObjectMapperConfig pConfig ) {
+    // Check parameter
+    Check.checkInvalidParameterNull(pConfig, "pConfig");
+
+    return StreamWriteConstraints.builder().maxNestingDepth(pConfig.maxNestingDepth()).build();
+  }
+}
@@ -0,0 +1,210 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.anaptecs.jeaf.json.annotations.ObjectMapperConfig;
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * Class warms up {@link JSONTools} for a set of hot types. Jackson builds serializers and deserializers lazily on first
+ * use which makes the first requests after a deployment noticeably slower. Warming up builds and caches the readers and
+ * writers for the declared types in advance using {@link JSONTools#readerFor(Class)} and
+ * {@link JSONTools#writerFor(Class)}. Types are processed in parallel in the common fork join pool.
+ *
+ * Optionally round trips are executed for each type so that the JIT compiler also sees the serialization code paths.
+ * Round trips write a sample object and read it back. Samples can be passed to
+ * {@link #run(JSONTools, Map, int)}. For all other types an instance is created using the default constructor. With the
+ * default property inclusion such an instance usually only contains empty values and is written as <code>{}</code>, so
+ * its round trips only exercise the code paths of empty objects.
+ *
+ * Hot types can be declared using {@link ObjectMapperConfig#warmUpTypes()} or in resource {@link #WARM_UP_TYPES_PATH}
+ * which contains one fully qualified class name per line. Empty lines and lines starting with '#' are ignored.
+ * Implementations of {@link JSONTools} call {@link #run(JSONTools, ObjectMapperConfig, ClassLoader)} during their
+ * initialization and provide the result through {@link JSONTools#getWarmUpReport()}.
+ *
+ * @author JEAF Development Team
+ */
+public final class WarmUp {
+  /**
+   * Name of the resource that contains the names of the types that should be warmed up.
+   */
+  public static final String WARM_UP_TYPES_RESOURCE_NAME = "WarmUpTypes";
+
+  /**
+   * Path under which the resource with the types that should be warmed up is stored.
+   */
+  public static final String WARM_UP_TYPES_PATH = JSONTools.JSON_BASE_PATH + '/' + WARM_UP_TYPES_RESOURCE_NAME;
+
+  /**
+   * Constructor is private as class only provides static methods.
+   */
+  private WarmUp( ) {
+  }
+
+  /**
+   * Method warms up all types that are declared in the passed configuration and in all resources
+   * {@link #WARM_UP_TYPES_PATH} that are visible to the passed class loader.
+   *
+   * @param pTools JSON Tools that should be warmed up. The parameter must not be null.
+   * @param pConfig Object mapper configuration with the declared warm-up types. The parameter must not be null.
+   * @param pClassLoader Class loader that is used to find resources and to load the declared types. The parameter must
+   * not be null.
+   * @return {@link WarmUpReport} Report about the warm-up. The method never returns null.
+   */
+  public static WarmUpReport run( JSONTools pTools, ObjectMapperConfig pConfig, ClassLoader pClassLoader ) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pTools, "pTools");
+    Check.checkInvalidParameterNull(pConfig, "pConfig");
+    Check.checkInvalidParameterNull(pClassLoader, "pClassLoader");
+
+    long lStart = System.nanoTime();
+    Set<Class<?>> lTypes = new LinkedHashSet<>(Arrays.asList(pConfig.warmUpTypes()));
+    Map<String, String> lFailures = new ConcurrentHashMap<>();
+    for (String lClassName : readTypeNames(pClassLoader, lFailures)) {
+      try {
+        lTypes.add(Class.forName(lClassName, false, pClassLoader));
+      }
+      catch (ClassNotFoundException | LinkageError e) {
+        lFailures.put(lClassName, "Class can not be loaded: " + e);
+      }
+    }
+    return warmUp(pTools, lTypes, Collections.emptyMap(), pConfig.warmUpRoundTrips(), lFailures, lStart);
+  }
+
+  /**
+   * Method warms up the passed types.
+   *
+   * @param pTools JSON Tools that should be warmed up. The parameter must not be null.
+   * @param pTypes Types that should be warmed up. The parameter must not be null.
+   * @param pRoundTrips Number of round trips per type. Round trips require a default constructor. 0 means that only
+   * readers and writers are built.
+   * @return {@link WarmUpReport} Report about the warm-up. The method never returns null.
+   */
+  public static WarmUpReport run( JSONTools pTools, Collection<Class<?>> pTypes, int pRoundTrips ) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pTools, "pTools");
+    Check.checkInvalidParameterNull(pTypes, "pTypes");
+    Check.checkIsZeroOrGreater(pRoundTrips, "pRoundTrips");
+
+    return warmUp(pTools, new LinkedHashSet<>(pTypes), Collections.emptyMap(), pRoundTrips, new ConcurrentHashMap<>(),
+        System.nanoTime());
+  }
+
+  /**
+   * Method warms up the types of the passed samples. Round trips write the sample of a type and read it back, so that
+   * the code paths of all properties that are set in the sample are exercised.
+   *
+   * @param pTools JSON Tools that should be warmed up. The parameter must not be null.
+   * @param pSamples Sample object per type that should be warmed up. Every sample has to be an instance of its type.
+   * The parameter must not be null.
+   * @param pRoundTrips Number of round trips per type. 0 means that only readers and writers are built.
+   * @return {@link WarmUpReport} Report about the warm-up. The method never returns null.
+   */
+  public static WarmUpReport run( JSONTools pTools, Map<Class<?>, ?> pSamples, int pRoundTrips ) {
+    // Check parameters
+    Check.checkInvalidParameterNull(pTools, "pTools");
+    Check.checkInvalidParameterNull(pSamples, "pSamples");
+    Check.checkIsZeroOrGreater(pRoundTrips, "pRoundTrips");
+
+    return warmUp(pTools, new LinkedHashSet<>(pSamples.keySet()), pSamples, pRoundTrips, new ConcurrentHashMap<>(),
+        System.nanoTime());
+  }
+
+  private static WarmUpReport warmUp( JSONTools pTools, Set<Class<?>> pTypes, Map<Class<?>, ?> pSamples,
+      int pRoundTrips, Map<String, String> pFailures, long pStart ) {
+    // Types are independent from each other so readers and writers can be built in parallel.
+    pTypes.parallelStream().forEach(lType -> {
+      try {
+        warmUp(pTools, lType, pSamples.get(lType), pRoundTrips);
+      }
+      catch (RuntimeException | LinkageError e) {
+        pFailures.put(lType.getName(), e.toString());
+      }
+    });
+    List<Class<?>> lWarmedUpTypes = new ArrayList<>(pTypes.size());
+    for (Class<?> lType : pTypes) {
+      if (pFailures.containsKey(lType.getName()) == false) {
+        lWarmedUpTypes.add(lType);
+      }
+    }
+    Duration lDuration = Duration.ofNanos(System.nanoTime() - pStart);
+    return new WarmUpReport(lWarmedUpTypes, new TreeMap<>(pFailures), pRoundTrips, lDuration);
+  }
+
+  private static void warmUp( JSONTools pTools, Class<?> pType, Object pSample, int pRoundTrips ) {
+    ObjectReader lReader = pTools.readerFor(pType);
+    ObjectWriter lWriter = pTools.writerFor(pType);
+    if (lReader == null || lWriter == null) {
+      throw new IllegalStateException("JSON Tools did not provide a reader and writer.");
+    }
+    // Round trips use reader and writer directly so that they are not reported to metrics collectors.
+    if (pRoundTrips > 0) {
+      Object lObject = pSample != null ? pSample : newInstance(pType);
+      if (pType.isInstance(lObject) == false) {
+        throw new IllegalArgumentException("Sample is not an instance of " + pType.getName() + '.');
+      }
+      for (int i = 0; i < pRoundTrips; i++) {
+        lReader.readValue(lWriter.writeValueAsBytes(lObject));
+      }
+    }
+  }
+
+  private static Object newInstance( Class<?> pType ) {
+    try {
+      Constructor<?> lConstructor = pType.getDeclaredConstructor();
+      lConstructor.setAccessible(true);
+      return lConstructor.newInstance();
+    }
+    catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Round trips require a default constructor: " + e, e);
+    }
+  }
+
+  private static List<String> readTypeNames( ClassLoader pClassLoader, Map<String, String> pFailures ) {
+    List<String> lTypeNames = new ArrayList<>();
+    try {
+      Enumeration<URL> lResources = pClassLoader.getResources(WARM_UP_TYPES_PATH);
+      while (lResources.hasMoreElements()) {
+        URL lResource = lResources.nextElement();
+        try (BufferedReader lReader =
+            new BufferedReader(new InputStreamReader(lResource.openStream(), StandardCharsets.UTF_8))) {
+          String lLine;
+          while ((lLine = lReader.readLine()) != null) {
+            lLine = lLine.trim();
+            if (lLine.isEmpty() == false && lLine.startsWith("#") == false) {
+              lTypeNames.add(lLine);
+            }
+          }
+        }
+      }
+    }
+    catch (IOException e) {
+      pFailures.put(WARM_UP_TYPES_PATH, "Resource can not be read: " + e);
+    }
+    return lTypeNames;
+  }
+}
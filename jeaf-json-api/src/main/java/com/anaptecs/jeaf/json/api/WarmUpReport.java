@@ -0,0 +1,111 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.api;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class represents the immutable result of warming up readers and writers using {@link WarmUp}.
+ *
+ * @author JEAF Development Team
+ */
+public final class WarmUpReport {
+  /**
+   * Types for which readers and writers were built successfully.
+   */
+  private final List<Class<?>> warmedUpTypes;
+
+  /**
+   * Types that could not be warmed up. Key is the name of the type and value the reason of the failure.
+   */
+  private final Map<String, String> failures;
+
+  /**
+   * Number of synthetic round trips per type.
+   */
+  private final int roundTrips;
+
+  /**
+   * Time that it took to warm up all types.
+   */
+  private final Duration duration;
+
+  /**
+   * Initialize object.
+   *
+   * @param pWarmedUpTypes Types that were warmed up successfully. The list will not be copied.
+   * @param pFailures Types that could not be warmed up. The map will not be copied.
+   * @param pRoundTrips Number of synthetic round trips per type.
+   * @param pDuration Time that it took to warm up all types. The parameter must not be null.
+   */
+  WarmUpReport( List<Class<?>> pWarmedUpTypes, Map<String, String> pFailures, int pRoundTrips, Duration pDuration ) {
+    warmedUpTypes = Collections.unmodifiableList(pWarmedUpTypes);
+    failures = Collections.unmodifiableMap(pFailures);
+    roundTrips = pRoundTrips;
+    duration = pDuration;
+  }
+
+  /**
+   * Method returns all types for which readers and writers were built successfully.
+   *
+   * @return {@link List} Warmed up types in the order in which they were declared. The method never returns null.
+   */
+  public List<Class<?>> getWarmedUpTypes( ) {
+    return warmedUpTypes;
+  }
+
+  /**
+   * Method returns all types that could not be warmed up. This includes types that are declared in
+   * {@link WarmUp#WARM_UP_TYPES_PATH} but can not be loaded.
+   *
+   * @return {@link Map} Map with the name of the type as key and the reason of the failure as value. The method never
+   * returns null.
+   */
+  public Map<String, String> getFailures( ) {
+    return failures;
+  }
+
+  /**
+   * Method checks if all declared types could be warmed up.
+   *
+   * @return boolean Method returns true if no failure occurred.
+   */
+  public boolean isSuccessful( ) {
+    return failures.isEmpty();
+  }
+
+  /**
+   * Method returns the number of synthetic round trips that were executed per type.
+   *
+   * @return int Number of round trips per type. 0 means that only readers and writers were built.
+   */
+  public int getRoundTrips( ) {
+    return roundTrips;
+  }
+
+  /**
+   * Method returns the time that it took to warm up all types.
+   *
+   * @return {@link Duration} Duration of the warm-up. The method never returns null.
+   */
+  public Duration getDuration( ) {
+    return duration;
+  }
+
+  @Override
+  public String toString( ) {
+    StringBuilder lBuilder = new StringBuilder();
+    lBuilder.append("Warmed up ").append(warmedUpTypes.size()).append(" types in ").append(duration.toMillis());
+    lBuilder.append(" ms (round trips: ").append(roundTrips).append(", failures: ").append(failures.size()).append(')');
+    for (Map.Entry<String, String> lFailure : failures.entrySet()) {
+      lBuilder.append("\n  ").append(lFailure.getKey()).append(": ").append(lFailure.getValue());
+    }
+    return lBuilder.toString();
+  }
+}
@@ -5,19 +5,88 @@
  */
 package com.anaptecs.jeaf.json.api.test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
 
+import com.anaptecs.jeaf.json.annotations.ObjectMapperConfig;
+import com.anaptecs.jeaf.json.api.Compression;
+import com.anaptecs.jeaf.json.api.DataFormat;
+import com.anaptecs.jeaf.json.api.FieldProjection;
+import com.anaptecs.jeaf.json.api.HistogramMetricsCollector;
+import com.anaptecs.jeaf.json.api.HistogramSnapshot;
+import com.anaptecs.jeaf.json.api.InstrumentedRecyclerPool;
+import com.anaptecs.jeaf.json.api.JSONEvent;
 import com.anaptecs.jeaf.json.api.JSONMessages;
+import com.anaptecs.jeaf.json.api.JSONOperation;
+import com.anaptecs.jeaf.json.api.JSONPaths;
 import com.anaptecs.jeaf.json.api.JSONTools;
 import com.anaptecs.jeaf.json.api.ObjectType;
 import com.anaptecs.jeaf.json.api.ObjectType.CollectionObjectType;
+import com.anaptecs.jeaf.json.api.ObjectType.GenericsObjectType;
 import com.anaptecs.jeaf.json.api.ObjectType.SingleObjectType;
+import com.anaptecs.jeaf.json.api.ParallelArrays;
+import com.anaptecs.jeaf.json.api.ParallelOptions;
+import com.anaptecs.jeaf.json.api.RecyclerPoolStatistics;
+import com.anaptecs.jeaf.json.api.RecyclerPoolType;
+import com.anaptecs.jeaf.json.api.StreamLimits;
+import com.anaptecs.jeaf.json.api.WarmUp;
+import com.anaptecs.jeaf.json.api.WarmUpReport;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.StreamReadConstraints;
+import tools.jackson.core.exc.StreamConstraintsException;
+import tools.jackson.core.json.JsonFactory;
+import tools.jackson.core.util.BufferRecycler;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.type.TypeBindings;
+import tools.jackson.databind.type.TypeFactory;
+import tools.jackson.databind.type.TypeModifier;
 
 class JSONTest {
 
@@ -73,4 +142,728 @@ class JSONTest {
       assertEquals("Check failed. pCollectionType must not be NULL.", e.getMessage());
     }
   }
+
+  @Test
+  void testCanonicalObjectTypes( ) {
+    // Factory methods have to return the same instance for the same type.
+    assertSame(ObjectType.createObjectType(String.class), ObjectType.createObjectType(String.class));
+    assertSame(ObjectType.createObjectType(List.class, Long.class),
+        ObjectType.createObjectType(List.class, Long.class));
+    assertSame(ObjectType.createGenericsObjectType(Optional.class, String.class),
+        ObjectType.createGenericsObjectType(Optional.class, ObjectType.createObjectType(String.class)));
+    assertEquals(ObjectType.createGenericsObjectType(Optional.class, Integer.class),
+        new GenericsObjectType(Optional.class, Integer.class));
+
+    // Java type has to be resolved once only.
+    ObjectType lListType = ObjectType.createObjectType(List.class, Long.class);
+    JavaType lJavaType = lListType.getJavaType();
+    assertSame(lJavaType, lListType.getJavaType());
+    assertEquals(List.class, lJavaType.getRawClass());
+    assertEquals(Long.class, lJavaType.getContentType().getRawClass());
+    assertEquals("java.util.List<java.lang.Long>", lListType.toString());
+
+    // Type modifiers of the passed type factory are applied.
+    AtomicInteger lModifications = new AtomicInteger();
+    TypeFactory lTypeFactory = TypeFactory.createDefaultInstance().withModifier(new TypeModifier() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public JavaType modifyType( JavaType pType, Type pJDKType, TypeBindings pBindings, TypeFactory pTypeFactory ) {
+        lModifications.incrementAndGet();
+        return pType;
+      }
+    });
+    JavaType lModifiedType = lListType.getJavaType(lTypeFactory);
+    assertTrue(lModifications.get() > 0);
+    assertSame(lModifiedType, lListType.getJavaType(lTypeFactory));
+    assertEquals(lJavaType, lModifiedType);
+
+    // Alternating type factories do not resolve the type again.
+    int lModificationCount = lModifications.get();
+    assertSame(lJavaType, lListType.getJavaType());
+    assertSame(lModifiedType, lListType.getJavaType(lTypeFactory));
+    assertEquals(lModificationCount, lModifications.get());
+
+    // Test nested generics.
+    ObjectType lSetType = ObjectType.createCollectionObjectType(Set.class,
+        ObjectType.createGenericsObjectType(Optional.class, Integer.class));
+    ObjectType lMapType =
+        ObjectType.createGenericsObjectType(Map.class, ObjectType.createObjectType(String.class), lSetType);
+    GenericsObjectType lGenericsType = (GenericsObjectType) lMapType;
+    assertEquals(Map.class, lGenericsType.getGenericType());
+    assertEquals(String.class, lGenericsType.getParameterType());
+    assertEquals(2, lGenericsType.getParameterTypes().size());
+    assertEquals("java.util.Map<java.lang.String, java.util.Set<java.util.Optional<java.lang.Integer>>>",
+        lMapType.toString());
+    JavaType lMapJavaType = lMapType.getJavaType();
+    assertEquals(Map.class, lMapJavaType.getRawClass());
+    assertEquals(String.class, lMapJavaType.getKeyType().getRawClass());
+    assertEquals(Set.class, lMapJavaType.getContentType().getRawClass());
+    assertEquals(Optional.class, lMapJavaType.getContentType().getContentType().getRawClass());
+
+    CollectionObjectType lNestedCollection = (CollectionObjectType) ObjectType.createCollectionObjectType(List.class,
+        ObjectType.createGenericsObjectType(Optional.class, String.class));
+    assertEquals(Optional.class, lNestedCollection.getObjectType());
+    assertEquals(List.class, lNestedCollection.getRawType());
+
+    // Number of type parameters has to match.
+    try {
+      ObjectType.createGenericsObjectType(Map.class, String.class);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Check failed. Value '1' is not part of set [2;2].", e.getMessage());
+    }
+  }
+
+  @Test
+  void testRecyclerPools( ) {
+    // Bounded pool keeps at most the configured number of recyclers.
+    InstrumentedRecyclerPool lPool = RecyclerPoolType.BOUNDED.createPool(1);
+    BufferRecycler lFirst = lPool.acquireAndLinkPooled();
+    BufferRecycler lSecond = lPool.acquireAndLinkPooled();
+    assertNotSame(lFirst, lSecond);
+    lFirst.releaseToPool();
+    lSecond.releaseToPool();
+    assertEquals(1, lPool.pooledCount());
+    assertSame(lFirst, lPool.acquireAndLinkPooled());
+
+    RecyclerPoolStatistics lStatistics = RecyclerPoolType.BOUNDED.createPool(1).getStatistics();
+    assertEquals(0, lStatistics.getHits());
+    assertEquals(0.0, lStatistics.getHitRate());
+
+    lStatistics = lPool.getStatistics();
+    assertEquals(RecyclerPoolType.BOUNDED, lStatistics.getPoolType());
+    assertEquals(1, lStatistics.getHits());
+    assertEquals(2, lStatistics.getMisses());
+    assertEquals(1, lStatistics.getReleases());
+    assertEquals(1, lStatistics.getDiscards());
+    assertEquals(0, lStatistics.getPooledCount());
+    assertEquals(1.0 / 3, lStatistics.getHitRate());
+    assertEquals("BOUNDED pool: hits=1, misses=2, releases=1, discards=1, pooled=0", lStatistics.toString());
+
+    // Per thread pool keeps one recycler per thread.
+    lPool = RecyclerPoolType.PER_THREAD.createPool(0);
+    BufferRecycler lRecycler = lPool.acquireAndLinkPooled();
+    BufferRecycler lNested = lPool.acquireAndLinkPooled();
+    assertNotSame(lRecycler, lNested);
+    lRecycler.releaseToPool();
+    lNested.releaseToPool();
+    assertEquals(1, lPool.pooledCount());
+    assertSame(lRecycler, lPool.acquireAndLinkPooled());
+    assertEquals(0, lPool.pooledCount());
+    assertEquals("PER_THREAD pool: hits=1, misses=2, releases=1, discards=1, pooled=0",
+        lPool.getStatistics().toString());
+
+    // Recyclers that are acquired while the one of the thread is in use are discarded.
+    lNested = lPool.acquireAndLinkPooled();
+    assertNotSame(lRecycler, lNested);
+    lNested.releaseToPool();
+    assertEquals(0, lPool.pooledCount());
+    lRecycler.releaseToPool();
+    assertEquals(1, lPool.pooledCount());
+    assertSame(lRecycler, lPool.acquireAndLinkPooled());
+    assertEquals("PER_THREAD pool: hits=2, misses=3, releases=2, discards=2, pooled=0",
+        lPool.getStatistics().toString());
+
+    // No recycling at all.
+    lPool = RecyclerPoolType.NONE.createPool(0);
+    lRecycler = lPool.acquireAndLinkPooled();
+    lRecycler.releaseToPool();
+    assertNotSame(lRecycler, lPool.acquireAndLinkPooled());
+    assertEquals(0, lPool.pooledCount());
+  }
+
+  @Test
+  void testHistogramMetricsCollector( ) {
+    HistogramMetricsCollector lCollector = new HistogramMetricsCollector();
+    ObjectType lType = ObjectType.createObjectType(String.class);
+    ObjectType lListType = ObjectType.createObjectType(List.class, String.class);
+    assertEquals(0, lCollector.getLatencies(lType, JSONOperation.READ_OBJECT).getCount());
+    assertEquals(0, lCollector.getLatencies(lType, JSONOperation.READ_OBJECT).getPercentile(99));
+
+    lCollector.recordOperation(JSONOperation.READ_OBJECT, lType, 0, 1000);
+    lCollector.recordOperation(JSONOperation.READ_OBJECT, lType, 100, 3000);
+    lCollector.recordOperation(JSONOperation.READ_OBJECT, ObjectType.createObjectType(String.class), -1, 5000);
+    lCollector.recordOperation(JSONOperation.WRITE_COLLECTION, lListType, 4096, 20000);
+    lCollector.recordFailure(JSONOperation.WRITE_COLLECTION, lListType, 500);
+    assertEquals(Set.of(lType, lListType), lCollector.getTypes());
+
+    HistogramSnapshot lLatencies = lCollector.getLatencies(lType, JSONOperation.READ_OBJECT);
+    assertEquals(3, lLatencies.getCount());
+    assertEquals(9000, lLatencies.getSum());
+    assertEquals(3000, lLatencies.getMean());
+    assertEquals(5000, lLatencies.getMax());
+    // 1000 is in bucket 512..1023, 3000 in bucket 2048..4095 and 5000 in bucket 4096..8191
+    assertEquals(1, lLatencies.getBucketCount(10));
+    assertEquals(1023, lLatencies.getPercentile(10));
+    assertEquals(4095, lLatencies.getPercentile(50));
+    assertEquals(5000, lLatencies.getPercentile(100));
+    assertEquals("count=3, mean=3000, p50=4095, p99=5000, max=5000", lLatencies.toString());
+
+    // Unknown sizes are not recorded.
+    HistogramSnapshot lSizes = lCollector.getSizes(lType, JSONOperation.READ_OBJECT);
+    assertEquals(2, lSizes.getCount());
+    assertEquals(1, lSizes.getBucketCount(0));
+    assertEquals(0, lSizes.getPercentile(50));
+    assertEquals(100, lSizes.getPercentile(100));
+
+    assertEquals(1, lCollector.getSizes(lListType, JSONOperation.WRITE_COLLECTION).getCount());
+    assertEquals(0, lCollector.getSizes(lListType, JSONOperation.READ_COLLECTION).getCount());
+    assertEquals(1, lCollector.getFailures(lListType, JSONOperation.WRITE_COLLECTION));
+    assertEquals(0, lCollector.getFailures(lType, JSONOperation.WRITE_COLLECTION));
+    assertTrue(JSONOperation.READ_COLLECTION.isRead());
+    assertFalse(JSONOperation.WRITE_OBJECT.isRead());
+
+    try {
+      lSizes.getPercentile(100.1);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Percentile must be between 0 and 100 but is 100.1.", e.getMessage());
+    }
+
+    lCollector.reset();
+    assertTrue(lCollector.getTypes().isEmpty());
+  }
+
+  @Test
+  void testJSONEvent( ) throws IOException {
+    // Events are disabled by default.
+    assertFalse(EventType.getEventType(JSONEvent.class).isEnabled());
+    JSONEvent lEvent = new JSONEvent();
+    lEvent.begin();
+    lEvent.complete(JSONOperation.READ_OBJECT, ObjectType.createObjectType(String.class), 10, 1, false);
+
+    Path lFile = Files.createTempFile("jeaf-json-", ".jfr");
+    try (Recording lRecording = new Recording()) {
+      lRecording.enable(JSONEvent.class);
+      lRecording.start();
+      lEvent = new JSONEvent();
+      lEvent.begin();
+      ObjectType lElementType = ObjectType.createGenericsObjectType(Optional.class, String.class);
+      lEvent.complete(JSONOperation.WRITE_COLLECTION, lElementType, 4711, 3, true);
+      lRecording.stop();
+      lRecording.dump(lFile);
+
+      List<RecordedEvent> lEvents = RecordingFile.readAllEvents(lFile);
+      lEvents.removeIf(e -> !e.getEventType().getName().equals(JSONEvent.NAME));
+      assertEquals(1, lEvents.size());
+      RecordedEvent lRecorded = lEvents.get(0);
+      assertEquals("WRITE_COLLECTION", lRecorded.getString("operation"));
+      assertEquals(Optional.class.getName(), lRecorded.getClass("type").getName());
+      assertEquals("java.util.Optional<java.lang.String>", lRecorded.getString("objectType"));
+      assertEquals(4711, lRecorded.getLong("bytes"));
+      assertEquals(3, lRecorded.getLong("elements"));
+      assertTrue(lRecorded.getBoolean("failed"));
+    }
+    finally {
+      Files.delete(lFile);
+    }
+  }
+
+  @Test
+  void testDataFormats( ) {
+    assertFalse(DataFormat.JSON.isBinary());
+    assertTrue(DataFormat.SMILE.isBinary());
+    assertTrue(DataFormat.CBOR.isBinary());
+    assertEquals("application/json", DataFormat.JSON.getMediaType());
+    assertEquals("application/x-jackson-smile", DataFormat.SMILE.getMediaType());
+    assertEquals("application/cbor", DataFormat.CBOR.getMediaType());
+  }
+
+  @Test
+  void testWarmUp( ) {
+    JsonMapper lMapper = JsonMapper.builder().build();
+    AtomicInteger lWrites = new AtomicInteger();
+    JSONTools lTools = new TestJSONToolsImpl() {
+      @Override
+      public ObjectReader readerFor( Class<?> pResultType ) {
+        return pResultType == Thread.class ? null : lMapper.readerFor(pResultType);
+      }
+
+      @Override
+      public ObjectWriter writerFor( Class<?> pObjectType ) {
+        lWrites.incrementAndGet();
+        return lMapper.writerFor(pObjectType);
+      }
+    };
+
+    // Build readers and writers only.
+    WarmUpReport lReport = WarmUp.run(lTools, Arrays.asList(WarmUpDTO.class, String.class, WarmUpDTO.class), 0);
+    assertTrue(lReport.isSuccessful());
+    assertEquals(Arrays.asList(WarmUpDTO.class, String.class), lReport.getWarmedUpTypes());
+    assertEquals(0, lReport.getRoundTrips());
+    assertEquals(2, lWrites.get());
+    assertFalse(lReport.getDuration().isNegative());
+
+    // Round trips require a default constructor and a reader.
+    lReport = WarmUp.run(lTools, Arrays.asList(WarmUpDTO.class, Integer.class, Thread.class), 3);
+    assertFalse(lReport.isSuccessful());
+    assertEquals(Arrays.asList(WarmUpDTO.class), lReport.getWarmedUpTypes());
+    assertEquals(Set.of(Integer.class.getName(), Thread.class.getName()), lReport.getFailures().keySet());
+    assertTrue(lReport.getFailures().get(Integer.class.getName()).contains("default constructor"));
+    assertTrue(lReport.toString().startsWith("Warmed up 1 types in "));
+    assertTrue(lReport.toString().contains("(round trips: 3, failures: 2)\n  java.lang.Integer: "));
+
+    // Round trips with samples do not require a default constructor.
+    Map<Class<?>, Object> lSamples = new LinkedHashMap<>();
+    lSamples.put(WarmUpDTO.class, new WarmUpDTO());
+    lSamples.put(Integer.class, 4711);
+    lSamples.put(String.class, 4711);
+    lReport = WarmUp.run(lTools, lSamples, 2);
+    assertEquals(Arrays.asList(WarmUpDTO.class, Integer.class), lReport.getWarmedUpTypes());
+    assertEquals(Set.of(String.class.getName()), lReport.getFailures().keySet());
+  }
+
+  @Test
+  void testJSONPaths( ) {
+    JsonMapper lMapper = JsonMapper.builder().build();
+    JSONTools lTools = new TestJSONToolsImpl() {
+      @Override
+      public ObjectReader readerFor( Class<?> pResultType ) {
+        return lMapper.readerFor(pResultType);
+      }
+
+      @Override
+      public ObjectReader readerFor( ObjectType pResultType ) {
+        return lMapper.readerFor(pResultType.getJavaType(lMapper.getTypeFactory()));
+      }
+    };
+    String lJSON = "{\"skip\":{\"deep\":[1,{\"id\":9}]},\"id\":4711,\"status\":null,\"0\":\"zero\","
+        + "\"items\":[{\"id\":1,\"tags\":[\"a\"]},{\"id\":2,\"tags\":[\"b\",\"c\"]}],\"a/b\":true}";
+
+    JSONPaths lPaths = JSONPaths.builder().add("/id", Long.class).add("/status", String.class)
+        .add("/missing", Integer.class).add("/items/1/id", Integer.class).add("/items/1", Map.class)
+        .add("/items/1/tags", ObjectType.createObjectType(List.class, String.class)).add("/0", String.class)
+        .add("/a~1b", Boolean.class).build();
+    assertEquals(List.of("/id", "/status", "/missing", "/items/1/id", "/items/1", "/items/1/tags", "/0", "/a~1b"),
+        List.copyOf(lPaths.getPaths()));
+    Map<String, Object> lValues = lPaths.read(lMapper.createParser(lJSON), lTools);
+    assertEquals(7, lValues.size());
+    assertEquals(4711L, lValues.get("/id"));
+    assertTrue(lValues.containsKey("/status"));
+    assertNull(lValues.get("/status"));
+    assertFalse(lValues.containsKey("/missing"));
+    assertEquals(2, lValues.get("/items/1/id"));
+    assertEquals(2, ((Map<?, ?>) lValues.get("/items/1")).get("id"));
+    assertEquals(List.of("b", "c"), lValues.get("/items/1/tags"));
+    assertEquals("zero", lValues.get("/0"));
+    assertEquals(Boolean.TRUE, lValues.get("/a~1b"));
+
+    // Reading stops as soon as all values were found.
+    JsonParser lParser = lMapper.createParser(lJSON);
+    lValues = JSONPaths.of("/skip/deep/1/id", Integer.class).read(lParser, lTools);
+    assertEquals(Map.of("/skip/deep/1/id", 9), lValues);
+    assertEquals(JsonToken.END_OBJECT, lParser.nextToken());
+    assertEquals(JsonToken.END_ARRAY, lParser.nextToken());
+
+    // Large array indexes do not require memory proportional to the index.
+    lValues = JSONPaths.builder().add("/items/2147483647", Integer.class).add("/items/100000000/id", Integer.class)
+        .add("/items/0/id", Integer.class).build().read(lMapper.createParser(lJSON), lTools);
+    assertEquals(Map.of("/items/0/id", 1), lValues);
+
+    // Root pointer and empty content.
+    Map<?, ?> lRoot = (Map<?, ?>) JSONPaths.of("", Map.class).read(lMapper.createParser(lJSON), lTools).get("");
+    assertEquals(4711, lRoot.get("id"));
+    assertTrue(JSONPaths.of("/id", Long.class).read(lMapper.createParser(""), lTools).isEmpty());
+    try {
+      JSONPaths.of("id", Long.class);
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      // Expected
+    }
+  }
+
+  @Test
+  void testFieldProjection( ) {
+    // Projections are compiled once and interned.
+    FieldProjection lProjection = FieldProjection.compile(" name , address.city,lines.city,name");
+    assertSame(lProjection, FieldProjection.of("address.city", "lines.city", "name"));
+    assertEquals(Set.of("address.city", "lines.city", "name"), lProjection.getPaths());
+    assertEquals("address.city,lines.city,name", lProjection.toString());
+    assertTrue(lProjection.includes("name"));
+    assertTrue(lProjection.includes("address.city"));
+    assertFalse(lProjection.includes("address.street"));
+    assertFalse(lProjection.includes("expensive"));
+    assertTrue(FieldProjection.of("address").includes("address.street"));
+    assertTrue(FieldProjection.ALL.includes("anything.below"));
+    try {
+      FieldProjection.compile("address..city");
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Path 'address..city' contains an empty segment.", e.getMessage());
+    }
+
+    JsonMapper lRegularMapper = JsonMapper.builder().build();
+    ObjectMapper lMapper = FieldProjection.createProjectionMapper(lRegularMapper);
+    ProjectionDTO lDTO = new ProjectionDTO();
+    String lAll = "{\"address\":{\"city\":\"Reutlingen\",\"street\":\"Burgstr.\"},\"expensive\":\"value\","
+        + "\"lines\":[{\"city\":\"Berlin\",\"street\":\"Unter den Linden\"}],\"name\":\"JEAF\"}";
+    assertEquals(lAll, lMapper.writeValueAsString(lDTO));
+    assertEquals(1, lDTO.expensiveCalls);
+
+    // Regular mapper is not changed.
+    assertNull(lRegularMapper.serializationConfig().getFilterProvider());
+    assertEquals(lAll, lRegularMapper.writeValueAsString(lDTO));
+    assertEquals(2, lDTO.expensiveCalls);
+
+    // Getters of excluded properties are not invoked.
+    ObjectWriter lWriter = lMapper.writer().with(lProjection.getFilterProvider());
+    assertEquals("{\"address\":{\"city\":\"Reutlingen\"},\"lines\":[{\"city\":\"Berlin\"}],\"name\":\"JEAF\"}",
+        lWriter.writeValueAsString(lDTO));
+    assertEquals(2, lDTO.expensiveCalls);
+    assertEquals("[{\"name\":\"JEAF\"}]",
+        lMapper.writer().with(FieldProjection.of("name").getFilterProvider()).writeValueAsString(List.of(lDTO)));
+    assertEquals("{}", lMapper.writer().with(FieldProjection.of().getFilterProvider()).writeValueAsString(lDTO));
+  }
+
+  @Test
+  void testParallelArrays( ) {
+    ParallelOptions lDefaults = ParallelOptions.defaults();
+    assertEquals(ParallelOptions.DEFAULT_CHUNK_SIZE, lDefaults.getChunkSize());
+    assertEquals(ForkJoinPool.commonPool(), lDefaults.getExecutor());
+    assertEquals(2 * Runtime.getRuntime().availableProcessors(), lDefaults.getMaxInFlightChunks());
+    try {
+      ParallelOptions.builder().setChunkSize(0);
+      fail("Expecting exception");
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Chunk size must be greater than 0.", e.getMessage());
+    }
+    try {
+      ParallelOptions.builder().setMaxInFlightChunks(0);
+      fail("Expecting exception");
+    }
+    catch (IllegalArgumentException e) {
+      assertEquals("Maximum number of chunks in flight must be greater than 0.", e.getMessage());
+    }
+
+    JsonMapper lMapper = JsonMapper.builder().build();
+    ObjectReader lReader = lMapper.readerFor(Object.class);
+    byte[] lBytes = (" [ \"a,]\" , 4711,-1.5e3,null,true ,{\"id\":[1,{\"x\":\"]\"}]},[ ],\"\\u00e4\\\"\",{} ]\n")
+        .getBytes(StandardCharsets.UTF_8);
+    List<Object> lExpected = lMapper.readerForListOf(Object.class).readValue(lBytes);
+    AtomicInteger lSubmitted = new AtomicInteger();
+    Executor lExecutor = pCommand -> {
+      lSubmitted.incrementAndGet();
+      ForkJoinPool.commonPool().execute(pCommand);
+    };
+    for (int lChunkSize : new int[] { 1, 3, 9, 10, 1000 }) {
+      ParallelOptions lOptions =
+          ParallelOptions.builder().setChunkSize(lChunkSize).setMaxInFlightChunks(2).setExecutor(lExecutor).build();
+      lSubmitted.set(0);
+      assertEquals(lExpected, ParallelArrays.read(lBytes, lReader, lOptions));
+      assertEquals((8 + lChunkSize) / lChunkSize, lSubmitted.get());
+    }
+    assertEquals(List.of(), ParallelArrays.read("[]".getBytes(StandardCharsets.UTF_8), lReader, lDefaults));
+
+    // Order is kept for larger arrays.
+    StringBuilder lBuilder = new StringBuilder("[");
+    for (int i = 0; i < 5000; i++) {
+      lBuilder.append(i > 0 ? "," : "").append("{\"count\":").append(i).append('}');
+    }
+    lBuilder.append(']');
+    ParallelOptions lOptions = ParallelOptions.builder().setChunkSize(64).build();
+    List<Object> lDTOs = ParallelArrays.read(lBuilder.toString().getBytes(StandardCharsets.UTF_8),
+        lMapper.readerFor(WarmUpDTO.class), lOptions);
+    assertEquals(5000, lDTOs.size());
+    for (int i = 0; i < lDTOs.size(); i++) {
+      assertEquals(i, ((WarmUpDTO) lDTOs.get(i)).count);
+    }
+
+    // Errors while scanning or binding are passed to the caller.
+    for (String lJSON : new String[] { "{}", "[1,2", "[{\"count\":1},{\"count\":\"x\"}]" }) {
+      try {
+        ParallelArrays.read(lJSON.getBytes(StandardCharsets.UTF_8), lMapper.readerFor(WarmUpDTO.class), lOptions);
+        fail("Expecting exception");
+      }
+      catch (JacksonException e) {
+        // Expected
+      }
+    }
+  }
+
+  @Test
+  void testParallelWrite( ) throws IOException {
+    JsonMapper lMapper = JsonMapper.builder().build();
+    ObjectWriter lWriter = lMapper.writerFor(WarmUpDTO.class);
+    List<WarmUpDTO> lDTOs = new ArrayList<>();
+    for (int i = 0; i < 2500; i++) {
+      WarmUpDTO lDTO = new WarmUpDTO();
+      lDTO.count = i;
+      lDTOs.add(i % 7 == 0 ? null : lDTO);
+    }
+    AtomicInteger lSubmitted = new AtomicInteger();
+    Executor lExecutor = pCommand -> {
+      lSubmitted.incrementAndGet();
+      ForkJoinPool.commonPool().execute(pCommand);
+    };
+    for (int lChunkSize : new int[] { 1, 7, 2500, 5000 }) {
+      for (List<WarmUpDTO> lObjects : List.of(lDTOs, lDTOs.subList(0, 1), List.<WarmUpDTO> of())) {
+        ParallelOptions lOptions = ParallelOptions.builder().setChunkSize(lChunkSize).setMaxInFlightChunks(3)
+            .setExecutor(lExecutor).build();
+        lSubmitted.set(0);
+        ByteArrayOutputStream lOutputStream = new ByteArrayOutputStream();
+        ParallelArrays.write(lObjects, lOutputStream, lWriter, lOptions);
+        assertEquals(lMapper.writeValueAsString(lObjects), lOutputStream.toString(StandardCharsets.UTF_8));
+        assertEquals((lObjects.size() + lChunkSize - 1) / lChunkSize, lSubmitted.get());
+      }
+    }
+
+    // Writers that pretty print the elements still produce valid JSON.
+    List<Map<String, Object>> lMaps = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      lMaps.add(Map.of("index", i, "name", "Element " + i));
+    }
+    ByteArrayOutputStream lPrettyOutputStream = new ByteArrayOutputStream();
+    ParallelArrays.write(lMaps, lPrettyOutputStream, lMapper.writer().with(SerializationFeature.INDENT_OUTPUT),
+        ParallelOptions.builder().setChunkSize(2).build());
+    assertEquals(lMaps, lMapper.readValue(lPrettyOutputStream.toByteArray(), List.class));
+
+    // Errors of single elements are passed to the caller.
+    Map<String, Object> lCycle = new HashMap<>();
+    lCycle.put("self", lCycle);
+    List<Object> lInvalid = new ArrayList<>(lDTOs);
+    lInvalid.set(1234, lCycle);
+    try {
+      ParallelArrays.write(lInvalid, new ByteArrayOutputStream(), lMapper.writer(),
+          ParallelOptions.builder().setChunkSize(10).build());
+      fail("Expecting exception");
+    }
+    catch (JacksonException e) {
+      // Expected
+    }
+  }
+
+  @Test
+  void testCompression( ) throws IOException {
+    assertEquals(Compression.GZIP, Compression.detect(new byte[] { 0x1F, (byte) 0x8B, 8 }, 3));
+    assertEquals(Compression.DEFLATE, Compression.detect(new byte[] { 0x78, (byte) 0x9C }, 2));
+    assertEquals(Compression.DEFLATE, Compression.detect(new byte[] { 0x78, 0x01 }, 2));
+    assertEquals(Compression.DEFLATE, Compression.detect(new byte[] { 0x78, (byte) 0xDA }, 2));
+    for (String lJSON : new String[] { "{}", "[]", "80", "8E", "\"x\"", "null", " {", "1" }) {
+      byte[] lBytes = lJSON.getBytes(StandardCharsets.UTF_8);
+      assertEquals(Compression.NONE, Compression.detect(lBytes, lBytes.length), lJSON);
+    }
+    assertEquals(Compression.NONE, Compression.detect(new byte[] { 0x1F, (byte) 0x8B }, 1));
+
+    // Binary formats can not be detected reliably.
+    assertEquals(Compression.DEFLATE, Compression.detect(new byte[] { 0x18, 0x19 }, 2));
+    try {
+      Compression.AUTO_DETECT.decompress(new ByteArrayInputStream(new byte[] { 0x18, 0x19 }), DataFormat.CBOR);
+      fail("Expecting exception");
+    }
+    catch (IllegalStateException e) {
+      assertEquals("Compression AUTO_DETECT can only be used for textual formats.", e.getMessage());
+    }
+
+    StringBuilder lBuilder = new StringBuilder("[");
+    for (int i = 0; i < 10000; i++) {
+      lBuilder.append(i > 0 ? "," : "").append("{\"count\":").append(i).append('}');
+    }
+    byte[] lJSON = lBuilder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+    // Compressed data can be read by java.util.zip and vice versa.
+    ByteArrayOutputStream lGZIP = new ByteArrayOutputStream();
+    try (OutputStream lOutputStream = Compression.GZIP.compress(lGZIP)) {
+      lOutputStream.write(lJSON, 0, 100);
+      lOutputStream.write(lJSON[100]);
+      lOutputStream.write(lJSON, 101, lJSON.length - 101);
+    }
+    assertArrayEquals(lJSON, new GZIPInputStream(new ByteArrayInputStream(lGZIP.toByteArray())).readAllBytes());
+    ByteArrayOutputStream lDeflate = new ByteArrayOutputStream();
+    try (OutputStream lOutputStream = Compression.DEFLATE.compress(lDeflate)) {
+      lOutputStream.write(lJSON);
+    }
+    assertArrayEquals(lJSON, new InflaterInputStream(new ByteArrayInputStream(lDeflate.toByteArray())).readAllBytes());
+    ByteArrayOutputStream lJDKGZIP = new ByteArrayOutputStream();
+    try (OutputStream lOutputStream = new GZIPOutputStream(lJDKGZIP)) {
+      lOutputStream.write(lJSON);
+    }
+    ByteArrayOutputStream lJDKDeflate = new ByteArrayOutputStream();
+    try (OutputStream lOutputStream = new DeflaterOutputStream(lJDKDeflate)) {
+      lOutputStream.write(lJSON);
+    }
+    assertArrayEquals(lJSON, decompress(Compression.GZIP, lGZIP.toByteArray()));
+    assertArrayEquals(lJSON, decompress(Compression.GZIP, lJDKGZIP.toByteArray()));
+    assertArrayEquals(lJSON, decompress(Compression.DEFLATE, lDeflate.toByteArray()));
+    assertArrayEquals(lJSON, decompress(Compression.DEFLATE, lJDKDeflate.toByteArray()));
+    assertArrayEquals(lJSON, decompress(Compression.AUTO_DETECT, lGZIP.toByteArray()));
+    assertArrayEquals(lJSON, decompress(Compression.AUTO_DETECT, lJDKDeflate.toByteArray()));
+    assertArrayEquals(lJSON, decompress(Compression.AUTO_DETECT, lJSON));
+    assertArrayEquals(new byte[0], decompress(Compression.AUTO_DETECT, new byte[0]));
+    assertArrayEquals(lJSON, decompress(Compression.NONE, lJSON));
+
+    // Concatenated GZIP members.
+    ByteArrayOutputStream lMembers = new ByteArrayOutputStream();
+    lMembers.write(lGZIP.toByteArray());
+    lMembers.write(lJDKGZIP.toByteArray());
+    byte[] lDecompressed = decompress(Compression.GZIP, lMembers.toByteArray());
+    assertEquals(2 * lJSON.length, lDecompressed.length);
+    assertArrayEquals(lJSON, Arrays.copyOfRange(lDecompressed, lJSON.length, lDecompressed.length));
+
+    // Corrupt data
+    byte[] lCorrupt = lGZIP.toByteArray();
+    lCorrupt[lCorrupt.length - 5]++;
+    try {
+      decompress(Compression.GZIP, lCorrupt);
+      fail("Expecting exception");
+    }
+    catch (ZipException e) {
+      assertEquals("Corrupt GZIP trailer.", e.getMessage());
+    }
+    try {
+      decompress(Compression.GZIP, lJSON);
+      fail("Expecting exception");
+    }
+    catch (ZipException e) {
+      assertEquals("Not in GZIP format.", e.getMessage());
+    }
+    try {
+      Compression.AUTO_DETECT.compress(new ByteArrayOutputStream());
+      fail("Expecting exception");
+    }
+    catch (IllegalStateException e) {
+      assertEquals("Compression AUTO_DETECT can only be used for reading.", e.getMessage());
+    }
+
+    // Closed streams must not be used anymore as their resources are already pooled again.
+    OutputStream lClosed = Compression.GZIP.compress(new ByteArrayOutputStream());
+    lClosed.close();
+    lClosed.close();
+    try {
+      lClosed.write(1);
+      fail("Expecting exception");
+    }
+    catch (IOException e) {
+      assertEquals("Stream closed", e.getMessage());
+    }
+  }
+
+  private static byte[] decompress( Compression pCompression, byte[] pBytes ) throws IOException {
+    try (InputStream lInputStream = pCompression.decompress(new ByteArrayInputStream(pBytes))) {
+      return lInputStream.readAllBytes();
+    }
+  }
+
+  @Test
+  void testStreamLimits( ) {
+    StreamReadConstraints lDefaults = StreamLimits.createReadConstraints(DefaultLimits.class.getAnnotation(
+        ObjectMapperConfig.class));
+    StreamReadConstraints lJacksonDefaults = StreamReadConstraints.defaults();
+    assertEquals(lJacksonDefaults.getMaxDocumentLength(), lDefaults.getMaxDocumentLength());
+    assertEquals(lJacksonDefaults.getMaxNestingDepth(), lDefaults.getMaxNestingDepth());
+    assertEquals(lJacksonDefaults.getMaxStringLength(), lDefaults.getMaxStringLength());
+    assertEquals(lJacksonDefaults.getMaxNumberLength(), lDefaults.getMaxNumberLength());
+    assertEquals(lJacksonDefaults.getMaxNameLength(), lDefaults.getMaxNameLength());
+
+    ObjectMapperConfig lConfig = StrictLimits.class.getAnnotation(ObjectMapperConfig.class);
+    StreamReadConstraints lReadConstraints = StreamLimits.createReadConstraints(lConfig);
+    assertEquals(10000, lReadConstraints.getMaxDocumentLength());
+    assertEquals(10, lReadConstraints.getMaxNestingDepth());
+    assertEquals(100, lReadConstraints.getMaxStringLength());
+    assertEquals(20, lReadConstraints.getMaxNumberLength());
+    assertEquals(30, lReadConstraints.getMaxNameLength());
+    assertEquals(10, StreamLimits.createWriteConstraints(lConfig).getMaxNestingDepth());
+
+    JsonMapper lMapper = JsonMapper.builder(JsonFactory.builder().streamReadConstraints(lReadConstraints)
+        .streamWriteConstraints(StreamLimits.createWriteConstraints(lConfig)).build()).build();
+    assertEquals(List.of(List.of("x")), lMapper.readValue("[[\"x\"]]", List.class));
+    String[] lInvalid = { "[".repeat(11) + "]".repeat(11), "[\"" + "x".repeat(101) + "\"]", "[" + "1".repeat(21) + "]",
+      "{\"" + "x".repeat(31) + "\":1}" };
+    for (String lJSON : lInvalid) {
+      try {
+        lMapper.readValue(lJSON, Object.class);
+        fail("Expecting exception");
+      }
+      catch (StreamConstraintsException e) {
+        // Expected
+      }
+    }
+
+    // Reading stops as soon as the maximum document length is reached.
+    AtomicInteger lBytesRead = new AtomicInteger();
+    InputStream lEndless = new InputStream() {
+      @Override
+      public int read( ) {
+        int lPosition = lBytesRead.getAndIncrement();
+        return lPosition == 0 ? '[' : (lPosition % 2 == 1 ? '1' : ',');
+      }
+    };
+    try {
+      lMapper.readValue(lEndless, List.class);
+      fail("Expecting exception");
+    }
+    catch (StreamConstraintsException e) {
+      assertTrue(lBytesRead.get() < 100000, "Bytes read: " + lBytesRead.get());
+    }
+
+    // Write constraints
+    List<Object> lNested = new ArrayList<>();
+    List<Object> lCurrent = lNested;
+    for (int i = 0; i < 10; i++) {
+      List<Object> lChild = new ArrayList<>();
+      lCurrent.add(lChild);
+      lCurrent = lChild;
+    }
+    try {
+      lMapper.writeValueAsString(lNested);
+      fail("Expecting exception");
+    }
+    catch (StreamConstraintsException e) {
+      // Expected
+    }
+  }
+
+  @ObjectMapperConfig
+  static class DefaultLimits {
+  }
+
+  @ObjectMapperConfig(maxDocumentLength = 10000, maxNestingDepth = 10, maxStringLength = 100, maxNumberLength = 20,
+      maxNameLength = 30)
+  static class StrictLimits {
+  }
+
+  @JsonPropertyOrder(alphabetic = true)
+  public static class ProjectionDTO {
+    int expensiveCalls;
+
+    public String getName( ) {
+      return "JEAF";
+    }
+
+    public ProjectionAddress getAddress( ) {
+      return new ProjectionAddress("Reutlingen", "Burgstr.");
+    }
+
+    public List<ProjectionAddress> getLines( ) {
+      return List.of(new ProjectionAddress("Berlin", "Unter den Linden"));
+    }
+
+    public String getExpensive( ) {
+      expensiveCalls++;
+      return "value";
+    }
+  }
+
+  @JsonPropertyOrder(alphabetic = true)
+  public static class ProjectionAddress {
+    public final String city;
+
+    public final String street;
+
+    ProjectionAddress( String pCity, String pStreet ) {
+      city = pCity;
+      street = pStreet;
+    }
+  }
+
+  public static class WarmUpDTO {
+    public String name = "warm";
+
+    public int count = 42;
+  }
 }
@@ -10,13 +10,36 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Collection;
-
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import com.anaptecs.jeaf.json.api.AsyncJSONReader;
+import com.anaptecs.jeaf.json.api.Compression;
+import com.anaptecs.jeaf.json.api.DataFormat;
+import com.anaptecs.jeaf.json.api.FieldProjection;
+import com.anaptecs.jeaf.json.api.JSONMetricsCollector;
+import com.anaptecs.jeaf.json.api.JSONPaths;
 import com.anaptecs.jeaf.json.api.JSONTools;
 import com.anaptecs.jeaf.json.api.ObjectType;
+import com.anaptecs.jeaf.json.api.ParallelOptions;
+import com.anaptecs.jeaf.json.api.PooledBuffer;
+import com.anaptecs.jeaf.json.api.RecyclerPoolStatistics;
+import com.anaptecs.jeaf.json.api.WarmUpReport;
 import com.anaptecs.jeaf.tools.annotations.ToolsImplementation;
 import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+import tools.jackson.core.StreamReadConstraints;
+import tools.jackson.databind.MappingIterator;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
 
 @ToolsImplementation(toolsInterface = JSONTools.class)
 public class TestJSONToolsImpl implements JSONTools {
@@ -185,4 +208,338 @@ public class TestJSONToolsImpl implements JSONTools {
     throws JEAFSystemException {
     return null;
   }
+
+  @Override
+  public ObjectReader readerFor(Class<?> pResultType) {
+    return null;
+  }
+
+  @Override
+  public ObjectReader readerFor(ObjectType pResultType) {
+    return null;
+  }
+
+  @Override
+  public ObjectWriter writerFor(Class<?> pObjectType) {
+    return null;
+  }
+
+  @Override
+  public ObjectWriter writerFor(ObjectType pObjectType) {
+    return null;
+  }
+
+  @Override
+  public <T> MappingIterator<T> readAsIterator(InputStream pInputStream, ObjectType pElementType)
+    throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T> MappingIterator<T> readAsIterator(Reader pReader, ObjectType pElementType) throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T> MappingIterator<T> readAsIterator(File pFile, ObjectType pElementType) throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T> Stream<T> readAsStream(InputStream pInputStream, ObjectType pElementType) throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T> Stream<T> readAsStream(Reader pReader, ObjectType pElementType) throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T> Stream<T> readAsStream(File pFile, ObjectType pElementType) throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public void writeObjectsAsJSONLines(Collection<?> pObjects, OutputStream pOutputStream, Class<?> pObjectType)
+    throws JEAFSystemException {
+  }
+
+  @Override
+  public void writeObjectsAsJSONLines(Collection<?> pObjects, OutputStream pOutputStream, Class<?> pObjectType,
+      int pFlushInterval)
+    throws JEAFSystemException {
+  }
+
+  @Override
+  public void writeObjectsAsJSONLines(Collection<?> pObjects, File pFile, Class<?> pObjectType)
+    throws JEAFSystemException {
+  }
+
+  @Override
+  public <T extends Collection<?>> T readJSONLinesToCollection(InputStream pInputStream, Class<T> pCollectionType,
+      ObjectType pObjectType)
+    throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T extends Collection<?>> T readJSONLinesToCollection(File pFile, Class<T> pCollectionType,
+      ObjectType pObjectType)
+    throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T> MappingIterator<T> readJSONLinesAsIterator(InputStream pInputStream, ObjectType pObjectType)
+    throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T> MappingIterator<T> readJSONLinesAsIterator(File pFile, ObjectType pObjectType)
+    throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T> CompletableFuture<Void> writePublishedObjects(Flow.Publisher<? extends T> pPublisher,
+      OutputStream pOutputStream, Class<T> pObjectType) {
+    return null;
+  }
+
+  @Override
+  public <T> Flow.Publisher<T> readAsPublisher(InputStream pInputStream, ObjectType pElementType) {
+    return null;
+  }
+
+  @Override
+  public <T> AsyncJSONReader<T> createAsyncReader(ObjectType pResultType) {
+    return null;
+  }
+
+  @Override
+  public <T> AsyncJSONReader<Long> createAsyncArrayReader(ObjectType pElementType,
+      Consumer<? super T> pElementCallback) {
+    return null;
+  }
+
+  @Override
+  public <T> T read(ByteBuffer pBuffer, Class<T> pResultType) throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T> T read(ReadableByteChannel pChannel, Class<T> pResultType) throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T> T readMapped(File pFile, Class<T> pResultType) throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T> T read(ByteBuffer pBuffer, ObjectType pResultType) throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T> T read(ReadableByteChannel pChannel, ObjectType pResultType) throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T> T readMapped(File pFile, ObjectType pResultType) throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T extends Collection<?>> T readToCollection(ByteBuffer pBuffer, Class<T> pCollectionType,
+      ObjectType pObjectType)
+    throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T extends Collection<?>> T readToCollection(ReadableByteChannel pChannel, Class<T> pCollectionType,
+      ObjectType pObjectType)
+    throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T extends Collection<?>> T readMappedToCollection(File pFile, Class<T> pCollectionType,
+      ObjectType pObjectType)
+    throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public int writeObject(Object pObject, ByteBuffer pBuffer) throws JEAFSystemException {
+    return 0;
+  }
+
+  @Override
+  public void writeObject(Object pObject, WritableByteChannel pChannel) throws JEAFSystemException {
+  }
+
+  @Override
+  public PooledBuffer writeObjectToPooledBuffer(Object pObject) throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public RecyclerPoolStatistics getRecyclerPoolStatistics( ) {
+    return null;
+  }
+
+  @Override
+  public <T extends JSONMetricsCollector> T getMetricsCollector(Class<T> pCollectorType) {
+    return null;
+  }
+
+  @Override
+  public DataFormat getFormat( ) {
+    return null;
+  }
+
+  @Override
+  public JSONTools forFormat(DataFormat pFormat) {
+    return null;
+  }
+
+  @Override
+  public WarmUpReport getWarmUpReport( ) {
+    return null;
+  }
+
+  @Override
+  public String getProfileName( ) {
+    return null;
+  }
+
+  @Override
+  public Set<String> getProfileNames( ) {
+    return null;
+  }
+
+  @Override
+  public JSONTools profile(String pProfileName) {
+    return null;
+  }
+
+  @Override
+  public <T> T readAt(InputStream pInputStream, String pJSONPointer, Class<T> pResultType) {
+    return null;
+  }
+
+  @Override
+  public <T> T readAt(byte[] pBytes, String pJSONPointer, Class<T> pResultType) {
+    return null;
+  }
+
+  @Override
+  public Map<String, Object> readAt(InputStream pInputStream, JSONPaths pPaths) {
+    return null;
+  }
+
+  @Override
+  public Map<String, Object> readAt(byte[] pBytes, JSONPaths pPaths) {
+    return null;
+  }
+
+  @Override
+  public void writeObject(Object pObject, OutputStream pOutputStream, FieldProjection pProjection) {
+  }
+
+  @Override
+  public String writeObjectToString(Object pObject, FieldProjection pProjection) {
+    return null;
+  }
+
+  @Override
+  public byte[] writeObjectToBytes(Object pObject, FieldProjection pProjection) {
+    return null;
+  }
+
+  @Override
+  public <T extends Collection<?>> T readToCollection(byte[] pBytes, Class<T> pCollectionType,
+      ObjectType pObjectType, ParallelOptions pOptions)
+    throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T extends Collection<?>> T readToCollection(File pFile, Class<T> pCollectionType, ObjectType pObjectType,
+      ParallelOptions pOptions)
+    throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public void writeObjects(Collection<?> pObjects, OutputStream pOutputStream, Class<?> pObjectType,
+      ParallelOptions pOptions)
+    throws JEAFSystemException {
+  }
+
+  @Override
+  public void writeObjects(Collection<?> pObjects, File pFile, Class<?> pObjectType, ParallelOptions pOptions)
+    throws JEAFSystemException {
+  }
+
+  @Override
+  public void writeObject(Object pObject, OutputStream pOutputStream, Compression pCompression)
+    throws JEAFSystemException {
+  }
+
+  @Override
+  public void writeObject(Object pObject, File pFile, Compression pCompression) throws JEAFSystemException {
+  }
+
+  @Override
+  public void writeObjects(Collection<?> pObjects, OutputStream pOutputStream, Class<?> pObjectType,
+      Compression pCompression)
+    throws JEAFSystemException {
+  }
+
+  @Override
+  public void writeObjects(Collection<?> pObjects, File pFile, Class<?> pObjectType, Compression pCompression)
+    throws JEAFSystemException {
+  }
+
+  @Override
+  public <T> T read(InputStream pInputStream, Class<T> pResultType, Compression pCompression)
+    throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T> T read(File pFile, Class<T> pResultType, Compression pCompression) throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T extends Collection<?>> T readToCollection(InputStream pInputStream, Class<T> pCollectionType,
+      ObjectType pObjectType, Compression pCompression)
+    throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public <T extends Collection<?>> T readToCollection(File pFile, Class<T> pCollectionType, ObjectType pObjectType,
+      Compression pCompression)
+    throws JEAFSystemException {
+    return null;
+  }
+
+  @Override
+  public StreamReadConstraints getReadConstraints( ) {
+    return null;
+  }
+
+  @Override
+  public JSONTools withReadConstraints(StreamReadConstraints pConstraints) {
+    return null;
+  }
 }
@@ -0,0 +1,125 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Class compares reflective property access with the accessors that are generated by
+ * {@link com.anaptecs.jeaf.json.api.BlackbirdModuleFactory}. As the comparison has to be independent of the configured
+ * JSON Tools implementation the benchmark builds its object mappers directly. Apart from the visibility settings they
+ * use the defaults of {@link com.anaptecs.jeaf.json.annotations.ObjectMapperConfig}.
+ *
+ * @author JEAF Development Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessorBenchmarks {
+  /**
+   * Enumeration defines how properties are accessed.
+   */
+  public enum PropertyAccess {
+    /**
+     * Properties are accessed through fields (default of JEAF JSON).
+     */
+    FIELDS,
+
+    /**
+     * Properties are accessed through getters and setters.
+     */
+    METHODS
+  }
+
+  /**
+   * Payload that is used by the benchmark.
+   */
+  @Param({ "SMALL", "MEDIUM", "LARGE" })
+  public Payload payload;
+
+  /**
+   * Way how properties are accessed.
+   */
+  @Param({ "FIELDS", "METHODS" })
+  public PropertyAccess propertyAccess;
+
+  /**
+   * Flag defines whether generated accessors (Blackbird) or reflection is used.
+   */
+  @Param({ "false", "true" })
+  public boolean blackbird;
+
+  private ObjectWriter writer;
+
+  private ObjectReader reader;
+
+  private Object object;
+
+  private byte[] bytes;
+
+  @Setup(Level.Trial)
+  public void setup( ) {
+    Visibility lFieldVisibility;
+    Visibility lMethodVisibility;
+    if (propertyAccess == PropertyAccess.FIELDS) {
+      lFieldVisibility = Visibility.ANY;
+      lMethodVisibility = Visibility.NONE;
+    }
+    else {
+      lFieldVisibility = Visibility.NONE;
+      lMethodVisibility = Visibility.PUBLIC_ONLY;
+    }
+
+    JsonMapper.Builder lBuilder = JsonMapper.builder();
+    lBuilder.changeDefaultVisibility(pChecker -> pChecker.withFieldVisibility(lFieldVisibility)
+        .withGetterVisibility(lMethodVisibility).withIsGetterVisibility(lMethodVisibility)
+        .withSetterVisibility(lMethodVisibility).withCreatorVisibility(Visibility.ANY));
+    lBuilder.changeDefaultPropertyInclusion(pInclusion -> pInclusion.withValueInclusion(JsonInclude.Include.NON_EMPTY));
+    lBuilder.disable(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES);
+    if (blackbird) {
+      lBuilder.addModule(new BlackbirdModule());
+    }
+    JsonMapper lMapper = lBuilder.build();
+
+    writer = lMapper.writerFor(payload.getType());
+    reader = lMapper.readerFor(payload.getType());
+    object = payload.createObject(0);
+    bytes = writer.writeValueAsBytes(object);
+  }
+
+  @Benchmark
+  public byte[] write( ) {
+    return writer.writeValueAsBytes(object);
+  }
+
+  @Benchmark
+  public Object read( ) {
+    return reader.readValue(bytes);
+  }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.benchmarks;
+
+/**
+ * Class represents a postal address. It is part of the benchmark payloads.
+ *
+ * @author JEAF Development Team
+ */
+public class Address {
+  private String street;
+
+  private String zipCode;
+
+  private String city;
+
+  private String country;
+
+  /**
+   * Default constructor is required for deserialization.
+   */
+  private Address( ) {
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pStreet Street including house number.
+   * @param pZipCode Zip code of the address.
+   * @param pCity City of the address.
+   * @param pCountry ISO country code of the address.
+   */
+  public Address( String pStreet, String pZipCode, String pCity, String pCountry ) {
+    street = pStreet;
+    zipCode = pZipCode;
+    city = pCity;
+    country = pCountry;
+  }
+
+  /**
+   * Method returns the attribute "street".
+   *
+   * @return String Value to which the attribute "street" is set.
+   */
+  public String getStreet( ) {
+    return street;
+  }
+
+  /**
+   * Method sets the attribute "street".
+   *
+   * @param pStreet Value to which the attribute "street" should be set.
+   */
+  public void setStreet( String pStreet ) {
+    street = pStreet;
+  }
+
+  /**
+   * Method returns the attribute "zipCode".
+   *
+   * @return String Value to which the attribute "zipCode" is set.
+   */
+  public String getZipCode( ) {
+    return zipCode;
+  }
+
+  /**
+   * Method sets the attribute "zipCode".
+   *
+   * @param pZipCode Value to which the attribute "zipCode" should be set.
+   */
+  public void setZipCode( String pZipCode ) {
+    zipCode = pZipCode;
+  }
+
+  /**
+   * Method returns the attribute "city".
+   *
+   * @return String Value to which the attribute "city" is set.
+   */
+  public String getCity( ) {
+    return city;
+  }
+
+  /**
+   * Method sets the attribute "city".
+   *
+   * @param pCity Value to which the attribute "city" should be set.
+   */
+  public void setCity( String pCity ) {
+    city = pCity;
+  }
+
+  /**
+   * Method returns the attribute "country".
+   *
+   * @return String Value to which the attribute "country" is set.
+   */
+  public String getCountry( ) {
+    return country;
+  }
+
+  /**
+   * Method sets the attribute "country".
+   *
+   * @param pCountry Value to which the attribute "country" should be set.
+   */
+  public void setCountry( String pCountry ) {
+    country = pCountry;
+  }
+}
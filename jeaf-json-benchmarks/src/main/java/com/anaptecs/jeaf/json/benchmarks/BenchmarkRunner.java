@@ -0,0 +1,48 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.benchmarks;
+
+import com.anaptecs.jeaf.json.api.JSONTools;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Class starts all JSON Tools benchmarks. Besides throughput also the allocation rate per operation is reported using
+ * JMH's GC profiler. All standard JMH command line options are supported, e.g. a regular expression to select
+ * benchmarks or <code>-p payload=LARGE</code> to restrict payloads.
+ *
+ * <pre>
+ * mvn install -Pbenchmarks
+ * java -jar jeaf-json-benchmarks/target/benchmarks.jar [JMH options]
+ * </pre>
+ *
+ * @author JEAF Development Team
+ */
+public class BenchmarkRunner {
+  /**
+   * Main method to run the benchmarks.
+   *
+   * @param pArgs JMH command line options.
+   * @throws CommandLineOptionException if the passed options are invalid.
+   * @throws RunnerException if running the benchmarks fails.
+   */
+  public static void main( String[] pArgs ) throws CommandLineOptionException, RunnerException {
+    System.out.println("Benchmarking JSON Tools implementation " + JSONTools.getJSONTools().getClass().getName());
+
+    // Run all benchmarks unless they were explicitly selected.
+    CommandLineOptions lCommandLineOptions = new CommandLineOptions(pArgs);
+    ChainedOptionsBuilder lBuilder = new OptionsBuilder().parent(lCommandLineOptions).addProfiler(GCProfiler.class);
+    if (lCommandLineOptions.getIncludes().isEmpty()) {
+      lBuilder.include(BenchmarkRunner.class.getPackage().getName() + ".*Benchmarks");
+    }
+    new Runner(lBuilder.build()).run();
+  }
+}
@@ -0,0 +1,229 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Class represents a customer. On its own it is used as small benchmark payload (about 300 bytes of JSON).
+ *
+ * @author JEAF Development Team
+ */
+public class Customer {
+  private long customerID;
+
+  private String firstName;
+
+  private String lastName;
+
+  private String email;
+
+  private LocalDate dateOfBirth;
+
+  private BigDecimal creditLimit;
+
+  private boolean active;
+
+  private Address address;
+
+  private List<String> tags;
+
+  /**
+   * Default constructor is required for deserialization.
+   */
+  private Customer( ) {
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pCustomerID ID of the customer.
+   * @param pFirstName First name of the customer.
+   * @param pLastName Last name of the customer.
+   * @param pEmail Email address of the customer.
+   * @param pDateOfBirth Date of birth of the customer.
+   * @param pCreditLimit Credit limit of the customer.
+   * @param pActive Flag indicates if the customer is active.
+   * @param pAddress Address of the customer.
+   * @param pTags Tags that are assigned to the customer.
+   */
+  public Customer( long pCustomerID, String pFirstName, String pLastName, String pEmail, LocalDate pDateOfBirth,
+      BigDecimal pCreditLimit, boolean pActive, Address pAddress, List<String> pTags ) {
+    customerID = pCustomerID;
+    firstName = pFirstName;
+    lastName = pLastName;
+    email = pEmail;
+    dateOfBirth = pDateOfBirth;
+    creditLimit = pCreditLimit;
+    active = pActive;
+    address = pAddress;
+    tags = pTags;
+  }
+
+  /**
+   * Method returns the attribute "customerID".
+   *
+   * @return long Value to which the attribute "customerID" is set.
+   */
+  public long getCustomerID( ) {
+    return customerID;
+  }
+
+  /**
+   * Method sets the attribute "customerID".
+   *
+   * @param pCustomerID Value to which the attribute "customerID" should be set.
+   */
+  public void setCustomerID( long pCustomerID ) {
+    customerID = pCustomerID;
+  }
+
+  /**
+   * Method returns the attribute "firstName".
+   *
+   * @return String Value to which the attribute "firstName" is set.
+   */
+  public String getFirstName( ) {
+    return firstName;
+  }
+
+  /**
+   * Method sets the attribute "firstName".
+   *
+   * @param pFirstName Value to which the attribute "firstName" should be set.
+   */
+  public void setFirstName( String pFirstName ) {
+    firstName = pFirstName;
+  }
+
+  /**
+   * Method returns the attribute "lastName".
+   *
+   * @return String Value to which the attribute "lastName" is set.
+   */
+  public String getLastName( ) {
+    return lastName;
+  }
+
+  /**
+   * Method sets the attribute "lastName".
+   *
+   * @param pLastName Value to which the attribute "lastName" should be set.
+   */
+  public void setLastName( String pLastName ) {
+    lastName = pLastName;
+  }
+
+  /**
+   * Method returns the attribute "email".
+   *
+   * @return String Value to which the attribute "email" is set.
+   */
+  public String getEmail( ) {
+    return email;
+  }
+
+  /**
+   * Method sets the attribute "email".
+   *
+   * @param pEmail Value to which the attribute "email" should be set.
+   */
+  public void setEmail( String pEmail ) {
+    email = pEmail;
+  }
+
+  /**
+   * Method returns the attribute "dateOfBirth".
+   *
+   * @return LocalDate Value to which the attribute "dateOfBirth" is set.
+   */
+  public LocalDate getDateOfBirth( ) {
+    return dateOfBirth;
+  }
+
+  /**
+   * Method sets the attribute "dateOfBirth".
+   *
+   * @param pDateOfBirth Value to which the attribute "dateOfBirth" should be set.
+   */
+  public void setDateOfBirth( LocalDate pDateOfBirth ) {
+    dateOfBirth = pDateOfBirth;
+  }
+
+  /**
+   * Method returns the attribute "creditLimit".
+   *
+   * @return BigDecimal Value to which the attribute "creditLimit" is set.
+   */
+  public BigDecimal getCreditLimit( ) {
+    return creditLimit;
+  }
+
+  /**
+   * Method sets the attribute "creditLimit".
+   *
+   * @param pCreditLimit Value to which the attribute "creditLimit" should be set.
+   */
+  public void setCreditLimit( BigDecimal pCreditLimit ) {
+    creditLimit = pCreditLimit;
+  }
+
+  /**
+   * Method returns the attribute "active".
+   *
+   * @return boolean Value to which the attribute "active" is set.
+   */
+  public boolean isActive( ) {
+    return active;
+  }
+
+  /**
+   * Method sets the attribute "active".
+   *
+   * @param pActive Value to which the attribute "active" should be set.
+   */
+  public void setActive( boolean pActive ) {
+    active = pActive;
+  }
+
+  /**
+   * Method returns the attribute "address".
+   *
+   * @return Address Value to which the attribute "address" is set.
+   */
+  public Address getAddress( ) {
+    return address;
+  }
+
+  /**
+   * Method sets the attribute "address".
+   *
+   * @param pAddress Value to which the attribute "address" should be set.
+   */
+  public void setAddress( Address pAddress ) {
+    address = pAddress;
+  }
+
+  /**
+   * Method returns the attribute "tags".
+   *
+   * @return List<String> Value to which the attribute "tags" is set.
+   */
+  public List<String> getTags( ) {
+    return tags;
+  }
+
+  /**
+   * Method sets the attribute "tags".
+   *
+   * @param pTags Value to which the attribute "tags" should be set.
+   */
+  public void setTags( List<String> pTags ) {
+    tags = pTags;
+  }
+}
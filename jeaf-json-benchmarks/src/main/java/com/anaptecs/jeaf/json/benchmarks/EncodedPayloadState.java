@@ -0,0 +1,114 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import com.anaptecs.jeaf.json.api.Compression;
+import com.anaptecs.jeaf.json.api.FieldProjection;
+import com.anaptecs.jeaf.json.api.JSONPaths;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Class holds the payloads of {@link PayloadState} in further encodings (JSON Lines and GZIP) as well as pointers and
+ * projections that select parts of them. Creating these encodings requires operations that older JSON Tools
+ * implementations do not provide. They are therefore kept apart from {@link PayloadState} so that only the benchmarks
+ * that use them fail against such an implementation.
+ *
+ * @author JEAF Development Team
+ */
+@State(Scope.Benchmark)
+public class EncodedPayloadState {
+  /**
+   * Collection of payload objects as UTF-8 encoded JSON Lines.
+   */
+  public byte[] jsonLinesBytes;
+
+  /**
+   * File containing the collection of payload objects as JSON Lines.
+   */
+  public File jsonLinesFile;
+
+  /**
+   * Single payload object as GZIP compressed JSON.
+   */
+  public byte[] gzipObjectBytes;
+
+  /**
+   * File containing the single payload object as GZIP compressed JSON.
+   */
+  public File gzipObjectFile;
+
+  /**
+   * Collection of payload objects as GZIP compressed JSON.
+   */
+  public byte[] gzipCollectionBytes;
+
+  /**
+   * JSON Pointer to the city of the customer's address within the payload object.
+   */
+  public String pointer;
+
+  /**
+   * Paths to the city and the zip code of the customer's address within the payload object.
+   */
+  public JSONPaths paths;
+
+  /**
+   * Projection that only keeps the customer's name within the payload object.
+   */
+  public FieldProjection projection;
+
+  @Setup(Level.Trial)
+  public void setup( PayloadState pPayload ) throws IOException {
+    ByteArrayOutputStream lJSONLines = new ByteArrayOutputStream();
+    pPayload.tools.writeObjectsAsJSONLines(pPayload.collection, lJSONLines, pPayload.type);
+    jsonLinesBytes = lJSONLines.toByteArray();
+    jsonLinesFile = File.createTempFile("jeaf-json-lines-", ".jsonl");
+    jsonLinesFile.deleteOnExit();
+    Files.write(jsonLinesFile.toPath(), jsonLinesBytes);
+
+    ByteArrayOutputStream lObject = new ByteArrayOutputStream();
+    pPayload.tools.writeObject(pPayload.object, lObject, Compression.GZIP);
+    gzipObjectBytes = lObject.toByteArray();
+    gzipObjectFile = File.createTempFile("jeaf-json-object-", ".json.gz");
+    gzipObjectFile.deleteOnExit();
+    Files.write(gzipObjectFile.toPath(), gzipObjectBytes);
+
+    ByteArrayOutputStream lCollection = new ByteArrayOutputStream();
+    pPayload.tools.writeObjects(pPayload.collection, lCollection, pPayload.type, Compression.GZIP);
+    gzipCollectionBytes = lCollection.toByteArray();
+
+    // Orders contain the customer whereas small payloads are the customer itself.
+    String lPointerPrefix;
+    String lFieldPrefix;
+    if (pPayload.type == Customer.class) {
+      lPointerPrefix = "";
+      lFieldPrefix = "";
+    }
+    else {
+      lPointerPrefix = "/customer";
+      lFieldPrefix = "customer.";
+    }
+    pointer = lPointerPrefix + "/address/city";
+    paths = JSONPaths.builder().add(pointer, String.class).add(lPointerPrefix + "/address/zipCode", String.class)
+        .build();
+    projection = FieldProjection.of(lFieldPrefix + "firstName", lFieldPrefix + "lastName");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown( ) {
+    jsonLinesFile.delete();
+    gzipObjectFile.delete();
+  }
+}
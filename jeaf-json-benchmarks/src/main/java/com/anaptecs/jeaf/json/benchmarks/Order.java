@@ -0,0 +1,163 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.benchmarks;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Class represents an order of a customer. Depending on the number of items it is used as medium or large benchmark
+ * payload.
+ *
+ * @author JEAF Development Team
+ */
+public class Order {
+  private String orderNumber;
+
+  private Instant orderTime;
+
+  private String status;
+
+  private Customer customer;
+
+  private Address shippingAddress;
+
+  private List<OrderItem> items;
+
+  /**
+   * Default constructor is required for deserialization.
+   */
+  private Order( ) {
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pOrderNumber Number of the order.
+   * @param pOrderTime Point in time when the order was placed.
+   * @param pStatus Status of the order.
+   * @param pCustomer Customer who placed the order.
+   * @param pShippingAddress Address to which the order will be shipped.
+   * @param pItems Items of the order.
+   */
+  public Order( String pOrderNumber, Instant pOrderTime, String pStatus, Customer pCustomer, Address pShippingAddress,
+      List<OrderItem> pItems ) {
+    orderNumber = pOrderNumber;
+    orderTime = pOrderTime;
+    status = pStatus;
+    customer = pCustomer;
+    shippingAddress = pShippingAddress;
+    items = pItems;
+  }
+
+  /**
+   * Method returns the attribute "orderNumber".
+   *
+   * @return String Value to which the attribute "orderNumber" is set.
+   */
+  public String getOrderNumber( ) {
+    return orderNumber;
+  }
+
+  /**
+   * Method sets the attribute "orderNumber".
+   *
+   * @param pOrderNumber Value to which the attribute "orderNumber" should be set.
+   */
+  public void setOrderNumber( String pOrderNumber ) {
+    orderNumber = pOrderNumber;
+  }
+
+  /**
+   * Method returns the attribute "orderTime".
+   *
+   * @return Instant Value to which the attribute "orderTime" is set.
+   */
+  public Instant getOrderTime( ) {
+    return orderTime;
+  }
+
+  /**
+   * Method sets the attribute "orderTime".
+   *
+   * @param pOrderTime Value to which the attribute "orderTime" should be set.
+   */
+  public void setOrderTime( Instant pOrderTime ) {
+    orderTime = pOrderTime;
+  }
+
+  /**
+   * Method returns the attribute "status".
+   *
+   * @return String Value to which the attribute "status" is set.
+   */
+  public String getStatus( ) {
+    return status;
+  }
+
+  /**
+   * Method sets the attribute "status".
+   *
+   * @param pStatus Value to which the attribute "status" should be set.
+   */
+  public void setStatus( String pStatus ) {
+    status = pStatus;
+  }
+
+  /**
+   * Method returns the attribute "customer".
+   *
+   * @return Customer Value to which the attribute "customer" is set.
+   */
+  public Customer getCustomer( ) {
+    return customer;
+  }
+
+  /**
+   * Method sets the attribute "customer".
+   *
+   * @param pCustomer Value to which the attribute "customer" should be set.
+   */
+  public void setCustomer( Customer pCustomer ) {
+    customer = pCustomer;
+  }
+
+  /**
+   * Method returns the attribute "shippingAddress".
+   *
+   * @return Address Value to which the attribute "shippingAddress" is set.
+   */
+  public Address getShippingAddress( ) {
+    return shippingAddress;
+  }
+
+  /**
+   * Method sets the attribute "shippingAddress".
+   *
+   * @param pShippingAddress Value to which the attribute "shippingAddress" should be set.
+   */
+  public void setShippingAddress( Address pShippingAddress ) {
+    shippingAddress = pShippingAddress;
+  }
+
+  /**
+   * Method returns the attribute "items".
+   *
+   * @return List<OrderItem> Value to which the attribute "items" is set.
+   */
+  public List<OrderItem> getItems( ) {
+    return items;
+  }
+
+  /**
+   * Method sets the attribute "items".
+   *
+   * @param pItems Value to which the attribute "items" should be set.
+   */
+  public void setItems( List<OrderItem> pItems ) {
+    items = pItems;
+  }
+}
@@ -0,0 +1,161 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.benchmarks;
+
+import java.math.BigDecimal;
+
+/**
+ * Class represents a single position of an order.
+ *
+ * @author JEAF Development Team
+ */
+public class OrderItem {
+  private int position;
+
+  private String productCode;
+
+  private String description;
+
+  private int quantity;
+
+  private BigDecimal unitPrice;
+
+  private double discount;
+
+  /**
+   * Default constructor is required for deserialization.
+   */
+  private OrderItem( ) {
+  }
+
+  /**
+   * Initialize object.
+   *
+   * @param pPosition Position of the item within the order.
+   * @param pProductCode Code of the ordered product.
+   * @param pDescription Description of the ordered product.
+   * @param pQuantity Ordered quantity.
+   * @param pUnitPrice Price per unit.
+   * @param pDiscount Discount in percent.
+   */
+  public OrderItem( int pPosition, String pProductCode, String pDescription, int pQuantity, BigDecimal pUnitPrice,
+      double pDiscount ) {
+    position = pPosition;
+    productCode = pProductCode;
+    description = pDescription;
+    quantity = pQuantity;
+    unitPrice = pUnitPrice;
+    discount = pDiscount;
+  }
+
+  /**
+   * Method returns the attribute "position".
+   *
+   * @return int Value to which the attribute "position" is set.
+   */
+  public int getPosition( ) {
+    return position;
+  }
+
+  /**
+   * Method sets the attribute "position".
+   *
+   * @param pPosition Value to which the attribute "position" should be set.
+   */
+  public void setPosition( int pPosition ) {
+    position = pPosition;
+  }
+
+  /**
+   * Method returns the attribute "productCode".
+   *
+   * @return String Value to which the attribute "productCode" is set.
+   */
+  public String getProductCode( ) {
+    return productCode;
+  }
+
+  /**
+   * Method sets the attribute "productCode".
+   *
+   * @param pProductCode Value to which the attribute "productCode" should be set.
+   */
+  public void setProductCode( String pProductCode ) {
+    productCode = pProductCode;
+  }
+
+  /**
+   * Method returns the attribute "description".
+   *
+   * @return String Value to which the attribute "description" is set.
+   */
+  public String getDescription( ) {
+    return description;
+  }
+
+  /**
+   * Method sets the attribute "description".
+   *
+   * @param pDescription Value to which the attribute "description" should be set.
+   */
+  public void setDescription( String pDescription ) {
+    description = pDescription;
+  }
+
+  /**
+   * Method returns the attribute "quantity".
+   *
+   * @return int Value to which the attribute "quantity" is set.
+   */
+  public int getQuantity( ) {
+    return quantity;
+  }
+
+  /**
+   * Method sets the attribute "quantity".
+   *
+   * @param pQuantity Value to which the attribute "quantity" should be set.
+   */
+  public void setQuantity( int pQuantity ) {
+    quantity = pQuantity;
+  }
+
+  /**
+   * Method returns the attribute "unitPrice".
+   *
+   * @return BigDecimal Value to which the attribute "unitPrice" is set.
+   */
+  public BigDecimal getUnitPrice( ) {
+    return unitPrice;
+  }
+
+  /**
+   * Method sets the attribute "unitPrice".
+   *
+   * @param pUnitPrice Value to which the attribute "unitPrice" should be set.
+   */
+  public void setUnitPrice( BigDecimal pUnitPrice ) {
+    unitPrice = pUnitPrice;
+  }
+
+  /**
+   * Method returns the attribute "discount".
+   *
+   * @return double Value to which the attribute "discount" is set.
+   */
+  public double getDiscount( ) {
+    return discount;
+  }
+
+  /**
+   * Method sets the attribute "discount".
+   *
+   * @param pDiscount Value to which the attribute "discount" should be set.
+   */
+  public void setDiscount( double pDiscount ) {
+    discount = pDiscount;
+  }
+}
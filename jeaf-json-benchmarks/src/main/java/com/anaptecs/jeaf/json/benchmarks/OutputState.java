@@ -0,0 +1,106 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Class holds the targets to which write benchmarks serialize their payload. Targets are reset by the benchmark method
+ * itself when it gets them, so that their growth does not influence the results. A setup per invocation is not used as
+ * its overhead would distort the results of small payloads. As targets are written the state is kept per thread.
+ *
+ * @author JEAF Development Team
+ */
+@State(Scope.Thread)
+public class OutputState {
+  /**
+   * Size of the buffer that is used for writes into byte buffers. It is large enough for all payloads.
+   */
+  private static final int BUFFER_SIZE = 16 * 1024 * 1024;
+
+  /**
+   * Target for writes into output streams.
+   */
+  private ByteArrayOutputStream outputStream;
+
+  /**
+   * Target for writes into writers.
+   */
+  private StringWriter writer;
+
+  /**
+   * Target for writes into byte buffers.
+   */
+  private ByteBuffer buffer;
+
+  /**
+   * Target for writes into files.
+   */
+  private File file;
+
+  @Setup(Level.Trial)
+  public void setup( ) throws IOException {
+    outputStream = new ByteArrayOutputStream(BUFFER_SIZE);
+    writer = new StringWriter(BUFFER_SIZE);
+    buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    file = File.createTempFile("jeaf-json-output-", ".json");
+    file.deleteOnExit();
+  }
+
+  /**
+   * Method returns the target for writes into output streams.
+   *
+   * @return {@link ByteArrayOutputStream} Empty output stream. The method never returns null.
+   */
+  public ByteArrayOutputStream getOutputStream( ) {
+    outputStream.reset();
+    return outputStream;
+  }
+
+  /**
+   * Method returns the target for writes into writers.
+   *
+   * @return {@link StringWriter} Empty writer. The method never returns null.
+   */
+  public StringWriter getWriter( ) {
+    writer.getBuffer().setLength(0);
+    return writer;
+  }
+
+  /**
+   * Method returns the target for writes into byte buffers.
+   *
+   * @return {@link ByteBuffer} Cleared byte buffer. The method never returns null.
+   */
+  public ByteBuffer getBuffer( ) {
+    buffer.clear();
+    return buffer;
+  }
+
+  /**
+   * Method returns the target for writes into files. Files are overwritten by every write.
+   *
+   * @return {@link File} Target file. The method never returns null.
+   */
+  public File getFile( ) {
+    return file;
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown( ) {
+    file.delete();
+  }
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Enumeration defines the payloads that are used by the benchmarks. All payloads are created deterministically so that
+ * results of different runs are comparable.
+ *
+ * @author JEAF Development Team
+ */
+public enum Payload {
+  /**
+   * Single customer (about 300 bytes of JSON).
+   */
+  SMALL(Customer.class, 0),
+
+  /**
+   * Order with 25 items (about 4 KB of JSON).
+   */
+  MEDIUM(Order.class, 25),
+
+  /**
+   * Order with 2.500 items (about 400 KB of JSON).
+   */
+  LARGE(Order.class, 2500);
+
+  /**
+   * Number of objects that are used when benchmarking collections.
+   */
+  public static final int COLLECTION_SIZE = 10;
+
+  /**
+   * Type of the payload object.
+   */
+  private final Class<?> type;
+
+  /**
+   * Number of order items of the payload.
+   */
+  private final int items;
+
+  /**
+   * Initialize object.
+   *
+   * @param pType Type of the payload object.
+   * @param pItems Number of order items of the payload.
+   */
+  private Payload( Class<?> pType, int pItems ) {
+    type = pType;
+    items = pItems;
+  }
+
+  /**
+   * Method returns the type of the payload object.
+   *
+   * @return {@link Class} Type of the payload object. The method never returns null.
+   */
+  public Class<?> getType( ) {
+    return type;
+  }
+
+  /**
+   * Method creates the payload object.
+   *
+   * @param pSeed Seed that is used to make objects of a collection differ from each other.
+   * @return {@link Object} Created payload object. The method never returns null.
+   */
+  public Object createObject( int pSeed ) {
+    Object lObject;
+    if (type == Customer.class) {
+      lObject = createCustomer(pSeed);
+    }
+    else {
+      lObject = createOrder(pSeed, items);
+    }
+    return lObject;
+  }
+
+  /**
+   * Method creates a list with {@link #COLLECTION_SIZE} payload objects.
+   *
+   * @return {@link List} List with payload objects. The method never returns null.
+   */
+  public List<Object> createCollection( ) {
+    List<Object> lObjects = new ArrayList<>(COLLECTION_SIZE);
+    for (int i = 0; i < COLLECTION_SIZE; i++) {
+      lObjects.add(this.createObject(i));
+    }
+    return lObjects;
+  }
+
+  private static Customer createCustomer( int pSeed ) {
+    Address lAddress = new Address("Burgstr. " + (pSeed + 1), "72764", "Reutlingen", "DE");
+    return new Customer(4711L + pSeed, "Jane", "Doe-" + pSeed, "jane.doe" + pSeed + "@example.com",
+        LocalDate.of(1980, 1, 1).plusDays(pSeed), new BigDecimal("15000.00"), pSeed % 2 == 0, lAddress,
+        Arrays.asList("premium", "newsletter", "region-south"));
+  }
+
+  private static Order createOrder( int pSeed, int pItems ) {
+    List<OrderItem> lItems = new ArrayList<>(pItems);
+    for (int i = 0; i < pItems; i++) {
+      lItems.add(new OrderItem(i + 1, "PRD-" + (100000 + pSeed * pItems + i), "Product number " + i
+          + " with a description of typical length", 1 + i % 7, BigDecimal.valueOf(1999 + i, 2), (i % 4) * 2.5));
+    }
+    Customer lCustomer = createCustomer(pSeed);
+    return new Order("ORD-" + (2022000000L + pSeed), Instant.ofEpochSecond(1_650_000_000L + pSeed), "CONFIRMED",
+        lCustomer, lCustomer.getAddress(), lItems);
+  }
+}
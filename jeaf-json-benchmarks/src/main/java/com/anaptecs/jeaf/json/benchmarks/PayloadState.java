@@ -0,0 +1,119 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import com.anaptecs.jeaf.json.api.JSONTools;
+import com.anaptecs.jeaf.json.api.ObjectType;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Class holds the payloads in object form as well as serialized to JSON. The state is created once per trial and only
+ * read by the benchmarks so it can be shared by all benchmark threads. Payloads are serialized using only the basic
+ * operations of JSON Tools so that the state can be created with any implementation. Further encodings are provided by
+ * {@link EncodedPayloadState}.
+ *
+ * @author JEAF Development Team
+ */
+@State(Scope.Benchmark)
+public class PayloadState {
+  /**
+   * Payload that is used by the benchmark.
+   */
+  @Param({ "SMALL", "MEDIUM", "LARGE" })
+  public Payload payload;
+
+  /**
+   * JSON Tools implementation that is benchmarked.
+   */
+  public JSONTools tools;
+
+  /**
+   * Type of the payload object.
+   */
+  public Class<?> type;
+
+  /**
+   * Type of the payload object as {@link ObjectType}.
+   */
+  public ObjectType objectType;
+
+  /**
+   * Payload as object.
+   */
+  public Object object;
+
+  /**
+   * Payload as collection of objects.
+   */
+  public List<Object> collection;
+
+  /**
+   * Single payload object as JSON string.
+   */
+  public String objectString;
+
+  /**
+   * Single payload object as UTF-8 encoded JSON.
+   */
+  public byte[] objectBytes;
+
+  /**
+   * File containing the single payload object as JSON.
+   */
+  public File objectFile;
+
+  /**
+   * Collection of payload objects as JSON string.
+   */
+  public String collectionString;
+
+  /**
+   * Collection of payload objects as UTF-8 encoded JSON.
+   */
+  public byte[] collectionBytes;
+
+  /**
+   * File containing the collection of payload objects as JSON.
+   */
+  public File collectionFile;
+
+  @Setup(Level.Trial)
+  public void setup( ) throws IOException {
+    tools = JSONTools.getJSONTools();
+    type = payload.getType();
+    objectType = ObjectType.createObjectType(type);
+    object = payload.createObject(0);
+    collection = payload.createCollection();
+
+    objectString = tools.writeObjectToString(object);
+    objectBytes = tools.writeObjectToBytes(object);
+    collectionString = tools.writeObjectsToString(collection, type);
+    collectionBytes = tools.writeObjectsToBytes(collection, type);
+
+    objectFile = File.createTempFile("jeaf-json-object-", ".json");
+    objectFile.deleteOnExit();
+    Files.write(objectFile.toPath(), objectBytes);
+    collectionFile = File.createTempFile("jeaf-json-collection-", ".json");
+    collectionFile.deleteOnExit();
+    Files.write(collectionFile.toPath(), collectionBytes);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown( ) {
+    objectFile.delete();
+    collectionFile.delete();
+  }
+}
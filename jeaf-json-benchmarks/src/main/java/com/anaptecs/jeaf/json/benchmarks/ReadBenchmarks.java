@@ -0,0 +1,315 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import com.anaptecs.jeaf.json.api.Compression;
+import com.anaptecs.jeaf.json.api.ParallelOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.jackson.databind.MappingIterator;
+
+/**
+ * Class contains benchmarks for all read operations of JSON Tools. Each benchmark deserializes the payload that is
+ * defined by {@link PayloadState} either as single object or as collection. Operations that accept the result type as
+ * {@link Class} as well as {@link com.anaptecs.jeaf.json.api.ObjectType} are benchmarked with both. Iterators and
+ * streams are consumed completely.
+ *
+ * Reads that deliver their result asynchronously ({@code readAsPublisher(...)}, {@code createAsyncReader(...)} and
+ * {@code createAsyncArrayReader(...)}) are left out as their throughput mainly depends on the executor and the
+ * subscriber rather than on JSON Tools. Parallel reads are only benchmarked with their default options.
+ *
+ * @author JEAF Development Team
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadBenchmarks {
+  @Benchmark
+  public Object readString( PayloadState pPayload ) {
+    return pPayload.tools.read(pPayload.objectString, pPayload.type);
+  }
+
+  @Benchmark
+  public Object readBytes( PayloadState pPayload ) {
+    return pPayload.tools.read(pPayload.objectBytes, pPayload.type);
+  }
+
+  @Benchmark
+  public Object readInputStream( PayloadState pPayload ) {
+    return pPayload.tools.read(new ByteArrayInputStream(pPayload.objectBytes), pPayload.type);
+  }
+
+  @Benchmark
+  public Object readReader( PayloadState pPayload ) {
+    return pPayload.tools.read(new StringReader(pPayload.objectString), pPayload.type);
+  }
+
+  @Benchmark
+  public Object readFile( PayloadState pPayload ) {
+    return pPayload.tools.read(pPayload.objectFile, pPayload.type);
+  }
+
+  @Benchmark
+  public Object readByteBuffer( PayloadState pPayload ) {
+    return pPayload.tools.read(ByteBuffer.wrap(pPayload.objectBytes), pPayload.type);
+  }
+
+  @Benchmark
+  public Object readChannel( PayloadState pPayload ) {
+    return pPayload.tools.read(Channels.newChannel(new ByteArrayInputStream(pPayload.objectBytes)), pPayload.type);
+  }
+
+  @Benchmark
+  public Object readMapped( PayloadState pPayload ) {
+    return pPayload.tools.readMapped(pPayload.objectFile, pPayload.type);
+  }
+
+  @Benchmark
+  public Object readGZIPInputStream( PayloadState pPayload, EncodedPayloadState pEncoded ) {
+    return pPayload.tools.read(new ByteArrayInputStream(pEncoded.gzipObjectBytes), pPayload.type, Compression.GZIP);
+  }
+
+  @Benchmark
+  public Object readGZIPFile( PayloadState pPayload, EncodedPayloadState pEncoded ) {
+    return pPayload.tools.read(pEncoded.gzipObjectFile, pPayload.type, Compression.GZIP);
+  }
+
+  @Benchmark
+  public Object readStringWithObjectType( PayloadState pPayload ) {
+    return pPayload.tools.read(pPayload.objectString, pPayload.objectType);
+  }
+
+  @Benchmark
+  public Object readBytesWithObjectType( PayloadState pPayload ) {
+    return pPayload.tools.read(pPayload.objectBytes, pPayload.objectType);
+  }
+
+  @Benchmark
+  public Object readInputStreamWithObjectType( PayloadState pPayload ) {
+    return pPayload.tools.read(new ByteArrayInputStream(pPayload.objectBytes), pPayload.objectType);
+  }
+
+  @Benchmark
+  public Object readReaderWithObjectType( PayloadState pPayload ) {
+    return pPayload.tools.read(new StringReader(pPayload.objectString), pPayload.objectType);
+  }
+
+  @Benchmark
+  public Object readFileWithObjectType( PayloadState pPayload ) {
+    return pPayload.tools.read(pPayload.objectFile, pPayload.objectType);
+  }
+
+  @Benchmark
+  public Object readByteBufferWithObjectType( PayloadState pPayload ) {
+    return pPayload.tools.read(ByteBuffer.wrap(pPayload.objectBytes), pPayload.objectType);
+  }
+
+  @Benchmark
+  public Object readChannelWithObjectType( PayloadState pPayload ) {
+    return pPayload.tools.read(Channels.newChannel(new ByteArrayInputStream(pPayload.objectBytes)),
+        pPayload.objectType);
+  }
+
+  @Benchmark
+  public Object readMappedWithObjectType( PayloadState pPayload ) {
+    return pPayload.tools.readMapped(pPayload.objectFile, pPayload.objectType);
+  }
+
+  @Benchmark
+  public Object readToCollectionFromString( PayloadState pPayload ) {
+    return pPayload.tools.readToCollection(pPayload.collectionString, List.class, pPayload.type);
+  }
+
+  @Benchmark
+  public Object readToCollectionFromBytes( PayloadState pPayload ) {
+    return pPayload.tools.readToCollection(pPayload.collectionBytes, List.class, pPayload.type);
+  }
+
+  @Benchmark
+  public Object readToCollectionFromInputStream( PayloadState pPayload ) {
+    return pPayload.tools.readToCollection(new ByteArrayInputStream(pPayload.collectionBytes), List.class,
+        pPayload.type);
+  }
+
+  @Benchmark
+  public Object readToCollectionFromReader( PayloadState pPayload ) {
+    return pPayload.tools.readToCollection(new StringReader(pPayload.collectionString), List.class, pPayload.type);
+  }
+
+  @Benchmark
+  public Object readToCollectionFromFile( PayloadState pPayload ) {
+    return pPayload.tools.readToCollection(pPayload.collectionFile, List.class, pPayload.type);
+  }
+
+  @Benchmark
+  public Object readToCollectionFromStringWithObjectType( PayloadState pPayload ) {
+    return pPayload.tools.readToCollection(pPayload.collectionString, List.class, pPayload.objectType);
+  }
+
+  @Benchmark
+  public Object readToCollectionFromBytesWithObjectType( PayloadState pPayload ) {
+    return pPayload.tools.readToCollection(pPayload.collectionBytes, List.class, pPayload.objectType);
+  }
+
+  @Benchmark
+  public Object readToCollectionFromInputStreamWithObjectType( PayloadState pPayload ) {
+    return pPayload.tools.readToCollection(new ByteArrayInputStream(pPayload.collectionBytes), List.class,
+        pPayload.objectType);
+  }
+
+  @Benchmark
+  public Object readToCollectionFromReaderWithObjectType( PayloadState pPayload ) {
+    return pPayload.tools.readToCollection(new StringReader(pPayload.collectionString), List.class,
+        pPayload.objectType);
+  }
+
+  @Benchmark
+  public Object readToCollectionFromFileWithObjectType( PayloadState pPayload ) {
+    return pPayload.tools.readToCollection(pPayload.collectionFile, List.class, pPayload.objectType);
+  }
+
+  @Benchmark
+  public Object readToCollectionFromByteBuffer( PayloadState pPayload ) {
+    return pPayload.tools.readToCollection(ByteBuffer.wrap(pPayload.collectionBytes), List.class,
+        pPayload.objectType);
+  }
+
+  @Benchmark
+  public Object readToCollectionFromChannel( PayloadState pPayload ) {
+    return pPayload.tools.readToCollection(Channels.newChannel(new ByteArrayInputStream(pPayload.collectionBytes)),
+        List.class, pPayload.objectType);
+  }
+
+  @Benchmark
+  public Object readMappedToCollection( PayloadState pPayload ) {
+    return pPayload.tools.readMappedToCollection(pPayload.collectionFile, List.class, pPayload.objectType);
+  }
+
+  @Benchmark
+  public Object readToCollectionFromBytesInParallel( PayloadState pPayload ) {
+    return pPayload.tools.readToCollection(pPayload.collectionBytes, List.class, pPayload.objectType,
+        ParallelOptions.defaults());
+  }
+
+  @Benchmark
+  public Object readToCollectionFromFileInParallel( PayloadState pPayload ) {
+    return pPayload.tools.readToCollection(pPayload.collectionFile, List.class, pPayload.objectType,
+        ParallelOptions.defaults());
+  }
+
+  @Benchmark
+  public Object readToCollectionFromGZIPInputStream( PayloadState pPayload, EncodedPayloadState pEncoded ) {
+    return pPayload.tools.readToCollection(new ByteArrayInputStream(pEncoded.gzipCollectionBytes), List.class,
+        pPayload.objectType, Compression.GZIP);
+  }
+
+  @Benchmark
+  public Object readJSONLinesToCollection( PayloadState pPayload, EncodedPayloadState pEncoded ) {
+    return pPayload.tools.readJSONLinesToCollection(new ByteArrayInputStream(pEncoded.jsonLinesBytes), List.class,
+        pPayload.objectType);
+  }
+
+  @Benchmark
+  public Object readJSONLinesToCollectionFromFile( PayloadState pPayload, EncodedPayloadState pEncoded ) {
+    return pPayload.tools.readJSONLinesToCollection(pEncoded.jsonLinesFile, List.class, pPayload.objectType);
+  }
+
+  @Benchmark
+  public void readJSONLinesAsIterator( PayloadState pPayload, EncodedPayloadState pEncoded, Blackhole pBlackhole ) {
+    consume(pPayload.tools.readJSONLinesAsIterator(new ByteArrayInputStream(pEncoded.jsonLinesBytes),
+        pPayload.objectType), pBlackhole);
+  }
+
+  @Benchmark
+  public void readJSONLinesAsIteratorFromFile( PayloadState pPayload, EncodedPayloadState pEncoded,
+      Blackhole pBlackhole ) {
+    consume(pPayload.tools.readJSONLinesAsIterator(pEncoded.jsonLinesFile, pPayload.objectType), pBlackhole);
+  }
+
+  @Benchmark
+  public void readAsIteratorFromInputStream( PayloadState pPayload, Blackhole pBlackhole ) {
+    consume(pPayload.tools.readAsIterator(new ByteArrayInputStream(pPayload.collectionBytes), pPayload.objectType),
+        pBlackhole);
+  }
+
+  @Benchmark
+  public void readAsIteratorFromReader( PayloadState pPayload, Blackhole pBlackhole ) {
+    consume(pPayload.tools.readAsIterator(new StringReader(pPayload.collectionString), pPayload.objectType),
+        pBlackhole);
+  }
+
+  @Benchmark
+  public void readAsIteratorFromFile( PayloadState pPayload, Blackhole pBlackhole ) {
+    consume(pPayload.tools.readAsIterator(pPayload.collectionFile, pPayload.objectType), pBlackhole);
+  }
+
+  @Benchmark
+  public void readAsStreamFromInputStream( PayloadState pPayload, Blackhole pBlackhole ) {
+    consume(pPayload.tools.readAsStream(new ByteArrayInputStream(pPayload.collectionBytes), pPayload.objectType),
+        pBlackhole);
+  }
+
+  @Benchmark
+  public void readAsStreamFromReader( PayloadState pPayload, Blackhole pBlackhole ) {
+    consume(pPayload.tools.readAsStream(new StringReader(pPayload.collectionString), pPayload.objectType),
+        pBlackhole);
+  }
+
+  @Benchmark
+  public void readAsStreamFromFile( PayloadState pPayload, Blackhole pBlackhole ) {
+    consume(pPayload.tools.readAsStream(pPayload.collectionFile, pPayload.objectType), pBlackhole);
+  }
+
+  @Benchmark
+  public Object readAtPointerFromInputStream( PayloadState pPayload, EncodedPayloadState pEncoded ) {
+    return pPayload.tools.readAt(new ByteArrayInputStream(pPayload.objectBytes), pEncoded.pointer, String.class);
+  }
+
+  @Benchmark
+  public Object readAtPathsFromInputStream( PayloadState pPayload, EncodedPayloadState pEncoded ) {
+    return pPayload.tools.readAt(new ByteArrayInputStream(pPayload.objectBytes), pEncoded.paths);
+  }
+
+  @Benchmark
+  public Object readAtPointer( PayloadState pPayload, EncodedPayloadState pEncoded ) {
+    return pPayload.tools.readAt(pPayload.objectBytes, pEncoded.pointer, String.class);
+  }
+
+  @Benchmark
+  public Object readAtPaths( PayloadState pPayload, EncodedPayloadState pEncoded ) {
+    return pPayload.tools.readAt(pPayload.objectBytes, pEncoded.paths);
+  }
+
+  private static void consume( MappingIterator<?> pIterator, Blackhole pBlackhole ) {
+    try (MappingIterator<?> lIterator = pIterator) {
+      while (lIterator.hasNext()) {
+        pBlackhole.consume(lIterator.next());
+      }
+    }
+  }
+
+  private static void consume( Stream<?> pStream, Blackhole pBlackhole ) {
+    try (Stream<?> lStream = pStream) {
+      lStream.forEach(pBlackhole::consume);
+    }
+  }
+}
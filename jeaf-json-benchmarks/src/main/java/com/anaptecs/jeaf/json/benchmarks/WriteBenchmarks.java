@@ -0,0 +1,206 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.util.concurrent.TimeUnit;
+
+import com.anaptecs.jeaf.json.api.Compression;
+import com.anaptecs.jeaf.json.api.ParallelOptions;
+import com.anaptecs.jeaf.json.api.PooledBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class contains benchmarks for all write operations of JSON Tools. Each benchmark serializes the payload that is
+ * defined by {@link PayloadState} either as single object or as collection.
+ *
+ * {@code writePublishedObjects(...)} is left out as its throughput mainly depends on the publisher and the executor
+ * rather than on JSON Tools. Parallel writes are only benchmarked with their default options.
+ *
+ * @author JEAF Development Team
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriteBenchmarks {
+  /**
+   * Number of objects after which JSON Lines are flushed.
+   */
+  private static final int FLUSH_INTERVAL = 2;
+
+  @Benchmark
+  public Object writeObjectToOutputStream( PayloadState pPayload, OutputState pOutput ) {
+    ByteArrayOutputStream lTarget = pOutput.getOutputStream();
+    pPayload.tools.writeObject(pPayload.object, lTarget);
+    return lTarget;
+  }
+
+  @Benchmark
+  public Object writeObjectToWriter( PayloadState pPayload, OutputState pOutput ) {
+    StringWriter lTarget = pOutput.getWriter();
+    pPayload.tools.writeObject(pPayload.object, lTarget);
+    return lTarget;
+  }
+
+  @Benchmark
+  public Object writeObjectToFile( PayloadState pPayload, OutputState pOutput ) {
+    File lTarget = pOutput.getFile();
+    pPayload.tools.writeObject(pPayload.object, lTarget);
+    return lTarget;
+  }
+
+  @Benchmark
+  public Object writeObjectToGZIPOutputStream( PayloadState pPayload, OutputState pOutput ) {
+    ByteArrayOutputStream lTarget = pOutput.getOutputStream();
+    pPayload.tools.writeObject(pPayload.object, lTarget, Compression.GZIP);
+    return lTarget;
+  }
+
+  @Benchmark
+  public Object writeObjectToGZIPFile( PayloadState pPayload, OutputState pOutput ) {
+    File lTarget = pOutput.getFile();
+    pPayload.tools.writeObject(pPayload.object, lTarget, Compression.GZIP);
+    return lTarget;
+  }
+
+  @Benchmark
+  public String writeObjectToString( PayloadState pPayload ) {
+    return pPayload.tools.writeObjectToString(pPayload.object);
+  }
+
+  @Benchmark
+  public byte[] writeObjectToBytes( PayloadState pPayload ) {
+    return pPayload.tools.writeObjectToBytes(pPayload.object);
+  }
+
+  @Benchmark
+  public Object writeObjectToOutputStreamWithProjection( PayloadState pPayload, EncodedPayloadState pEncoded,
+      OutputState pOutput ) {
+    ByteArrayOutputStream lTarget = pOutput.getOutputStream();
+    pPayload.tools.writeObject(pPayload.object, lTarget, pEncoded.projection);
+    return lTarget;
+  }
+
+  @Benchmark
+  public String writeObjectToStringWithProjection( PayloadState pPayload, EncodedPayloadState pEncoded ) {
+    return pPayload.tools.writeObjectToString(pPayload.object, pEncoded.projection);
+  }
+
+  @Benchmark
+  public byte[] writeObjectToBytesWithProjection( PayloadState pPayload, EncodedPayloadState pEncoded ) {
+    return pPayload.tools.writeObjectToBytes(pPayload.object, pEncoded.projection);
+  }
+
+  @Benchmark
+  public int writeObjectToByteBuffer( PayloadState pPayload, OutputState pOutput ) {
+    return pPayload.tools.writeObject(pPayload.object, pOutput.getBuffer());
+  }
+
+  @Benchmark
+  public Object writeObjectToChannel( PayloadState pPayload, OutputState pOutput ) {
+    ByteArrayOutputStream lTarget = pOutput.getOutputStream();
+    pPayload.tools.writeObject(pPayload.object, Channels.newChannel(lTarget));
+    return lTarget;
+  }
+
+  @Benchmark
+  public long writeObjectToPooledBuffer( PayloadState pPayload ) {
+    try (PooledBuffer lBuffer = pPayload.tools.writeObjectToPooledBuffer(pPayload.object)) {
+      return lBuffer.getSize();
+    }
+  }
+
+  @Benchmark
+  public Object writeObjectsToOutputStream( PayloadState pPayload, OutputState pOutput ) {
+    ByteArrayOutputStream lTarget = pOutput.getOutputStream();
+    pPayload.tools.writeObjects(pPayload.collection, lTarget, pPayload.type);
+    return lTarget;
+  }
+
+  @Benchmark
+  public Object writeObjectsToOutputStreamInParallel( PayloadState pPayload, OutputState pOutput ) {
+    ByteArrayOutputStream lTarget = pOutput.getOutputStream();
+    pPayload.tools.writeObjects(pPayload.collection, lTarget, pPayload.type, ParallelOptions.defaults());
+    return lTarget;
+  }
+
+  @Benchmark
+  public Object writeObjectsToGZIPOutputStream( PayloadState pPayload, OutputState pOutput ) {
+    ByteArrayOutputStream lTarget = pOutput.getOutputStream();
+    pPayload.tools.writeObjects(pPayload.collection, lTarget, pPayload.type, Compression.GZIP);
+    return lTarget;
+  }
+
+  @Benchmark
+  public Object writeObjectsToWriter( PayloadState pPayload, OutputState pOutput ) {
+    StringWriter lTarget = pOutput.getWriter();
+    pPayload.tools.writeObjects(pPayload.collection, lTarget, pPayload.type);
+    return lTarget;
+  }
+
+  @Benchmark
+  public Object writeObjectsToFile( PayloadState pPayload, OutputState pOutput ) {
+    File lTarget = pOutput.getFile();
+    pPayload.tools.writeObjects(pPayload.collection, lTarget, pPayload.type);
+    return lTarget;
+  }
+
+  @Benchmark
+  public Object writeObjectsToFileInParallel( PayloadState pPayload, OutputState pOutput ) {
+    File lTarget = pOutput.getFile();
+    pPayload.tools.writeObjects(pPayload.collection, lTarget, pPayload.type, ParallelOptions.defaults());
+    return lTarget;
+  }
+
+  @Benchmark
+  public Object writeObjectsToGZIPFile( PayloadState pPayload, OutputState pOutput ) {
+    File lTarget = pOutput.getFile();
+    pPayload.tools.writeObjects(pPayload.collection, lTarget, pPayload.type, Compression.GZIP);
+    return lTarget;
+  }
+
+  @Benchmark
+  public String writeObjectsToString( PayloadState pPayload ) {
+    return pPayload.tools.writeObjectsToString(pPayload.collection, pPayload.type);
+  }
+
+  @Benchmark
+  public byte[] writeObjectsToBytes( PayloadState pPayload ) {
+    return pPayload.tools.writeObjectsToBytes(pPayload.collection, pPayload.type);
+  }
+
+  @Benchmark
+  public Object writeObjectsAsJSONLines( PayloadState pPayload, OutputState pOutput ) {
+    ByteArrayOutputStream lTarget = pOutput.getOutputStream();
+    pPayload.tools.writeObjectsAsJSONLines(pPayload.collection, lTarget, pPayload.type);
+    return lTarget;
+  }
+
+  @Benchmark
+  public Object writeObjectsAsJSONLinesWithFlushInterval( PayloadState pPayload, OutputState pOutput ) {
+    ByteArrayOutputStream lTarget = pOutput.getOutputStream();
+    pPayload.tools.writeObjectsAsJSONLines(pPayload.collection, lTarget, pPayload.type, FLUSH_INTERVAL);
+    return lTarget;
+  }
+
+  @Benchmark
+  public Object writeObjectsAsJSONLinesToFile( PayloadState pPayload, OutputState pOutput ) {
+    File lTarget = pOutput.getFile();
+    pPayload.tools.writeObjectsAsJSONLines(pPayload.collection, lTarget, pPayload.type);
+    return lTarget;
+  }
+}
@@ -5,6 +5,11 @@
  */
 package com.anaptecs.jeaf.json.problem;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 import com.anaptecs.jeaf.tools.api.http.HTTPStatusCode;
 import com.anaptecs.jeaf.xfun.api.checks.Check;
 
@@ -44,6 +49,27 @@ public class Problem {
    */
   public static final String INSTANCE = "instance";
 
+  /**
+   * Default value of attribute "type".
+   */
+  private static final String DEFAULT_TYPE = "about:blank";
+
+  /**
+   * Status codes below this limit are cached by {@link #writeTo(OutputStream)}.
+   */
+  private static final int RENDERED_LIMIT = 600;
+
+  /**
+   * Pre-rendered UTF-8 representations of status only problems per status code. Entries are created on first use.
+   */
+  private static final AtomicReferenceArray<Rendered> RENDERED = new AtomicReferenceArray<>(RENDERED_LIMIT);
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private static final byte[] NAME_PREFIX = "\n  \"".getBytes(StandardCharsets.US_ASCII);
+
+  private static final byte[] NAME_SUFFIX = "\": ".getBytes(StandardCharsets.US_ASCII);
+
   /**
    * A URI reference [RFC3986] that identifies the problem type. This specification encourages that, when dereferenced,
    * it provide human-readable documentation for the problem type (e.g., using HTML [W3C.REC-html5-20141028]). When this
@@ -81,7 +107,7 @@ public class Problem {
    * object creation builder should be used instead.
    */
   public Problem( ) {
-    type = "about:blank";
+    type = DEFAULT_TYPE;
   }
 
   /**
@@ -144,7 +170,7 @@ public class Problem {
      * 
      * <b>Default Value:</b> <code>"about:blank"</code> <br/>
      */
-    private String type = "about:blank";
+    private String type = DEFAULT_TYPE;
 
     /**
      * A short, human-readable summary of the problem type. It SHOULD NOT change from occurrence to occurrence of the
@@ -300,46 +326,311 @@ public class Problem {
   }
 
   /**
-   * Method returns a StringBuilder that can be used to create a String representation of this object. the returned
-   * StringBuilder also takes care about attributes of super classes.
+   * Method writes this problem as JSON to the passed appendable. The output is the same as the one of
+   * {@link #toString()}. Strings are escaped as required by JSON. Besides the appendable itself no objects are
+   * allocated. Instances of subclasses are written using {@link #toStringBuilder()} so that their attributes are
+   * included.
    *
-   * @return {@link StringBuilder} StringBuilder representing this object. The method never returns null.
+   * @param pAppendable Appendable to which the problem should be written. The parameter must not be null.
+   * @throws IOException if the problem can not be appended.
    */
-  protected StringBuilder toStringBuilder( ) {
-    StringBuilder lBuilder = new StringBuilder();
-    lBuilder.append("{\n");
-    if (type != null) {
-      lBuilder.append("  \"type\": \"");
-      lBuilder.append(type);
-      lBuilder.append('"');
+  public void writeTo( Appendable pAppendable ) throws IOException {
+    // Check parameter
+    Check.checkInvalidParameterNull(pAppendable, "pAppendable");
+
+    if (this.getClass() == Problem.class) {
+      this.append(pAppendable);
+    }
+    else {
+      pAppendable.append(this.toStringBuilder());
     }
+  }
+
+  /**
+   * Method appends the attributes of this class as JSON to the passed appendable.
+   */
+  private void append( Appendable pAppendable ) throws IOException {
+    pAppendable.append('{');
+    boolean lFirst = appendString(pAppendable, TYPE, type, true);
+    lFirst = appendString(pAppendable, TITLE, title, lFirst);
+    appendName(pAppendable, STATUS, lFirst);
+    appendNumber(pAppendable, status);
+    lFirst = appendString(pAppendable, DETAIL, detail, false);
+    appendString(pAppendable, INSTANCE, instance, lFirst);
+    pAppendable.append("\n}");
+  }
 
-    if (title != null) {
-      lBuilder.append(",\n");
-      lBuilder.append("  \"title\": \"");
-      lBuilder.append(title);
-      lBuilder.append('"');
+  /**
+   * Method writes this problem as UTF-8 encoded JSON to the passed stream. The output is the same as the one of
+   * {@link #toString()}. Strings are escaped as required by JSON. Problems that only consist of a status code and its
+   * default title (e.g. created by <code>Problem.builder().setStatus(...).build()</code>) are rendered only once per
+   * status code and then just copied to the stream. No objects are allocated. As the data is written byte by byte the
+   * passed stream should be buffered. Instances of subclasses are written using {@link #toStringBuilder()} so that
+   * their attributes are included.
+   *
+   * @param pOutputStream Stream to which the problem should be written. The parameter must not be null.
+   * @throws IOException if the problem can not be written to the passed stream.
+   */
+  public void writeTo( OutputStream pOutputStream ) throws IOException {
+    // Check parameter
+    Check.checkInvalidParameterNull(pOutputStream, "pOutputStream");
+
+    byte[] lRendered = this.getRendered();
+    if (lRendered != null) {
+      pOutputStream.write(lRendered);
+    }
+    else if (this.getClass() != Problem.class) {
+      pOutputStream.write(this.toStringBuilder().toString().getBytes(StandardCharsets.UTF_8));
     }
+    else {
+      pOutputStream.write('{');
+      boolean lFirst = writeString(pOutputStream, TYPE, type, true);
+      lFirst = writeString(pOutputStream, TITLE, title, lFirst);
+      writeName(pOutputStream, STATUS, lFirst);
+      writeNumber(pOutputStream, status);
+      lFirst = writeString(pOutputStream, DETAIL, detail, false);
+      writeString(pOutputStream, INSTANCE, instance, lFirst);
+      pOutputStream.write('\n');
+      pOutputStream.write('}');
+    }
+  }
 
-    lBuilder.append(",\n");
-    lBuilder.append("  \"status\": ");
-    lBuilder.append(status);
+  /**
+   * Method returns the pre-rendered UTF-8 representation of this problem if it only consists of a status code and its
+   * default title.
+   *
+   * @return byte[] Pre-rendered problem or null if this problem contains further information or is an instance of a
+   * subclass. The returned array must not be modified.
+   */
+  private byte[] getRendered( ) {
+    byte[] lRendered;
+    if (this.getClass() == Problem.class && status >= 0 && status < RENDERED_LIMIT && detail == null
+        && instance == null && DEFAULT_TYPE.equals(type) && title != null) {
+      Rendered lEntry = RENDERED.get(status);
+      if (lEntry == null) {
+        Problem lProblem = Problem.builder().setStatus(status).build();
+        lEntry = new Rendered(lProblem.title, lProblem.toString().getBytes(StandardCharsets.UTF_8));
+        RENDERED.set(status, lEntry);
+      }
+      lRendered = title.equals(lEntry.title) ? lEntry.bytes : null;
+    }
+    else {
+      lRendered = null;
+    }
+    return lRendered;
+  }
+
+  /**
+   * Method appends the name of an attribute including the separator to the previous attribute.
+   */
+  private static void appendName( Appendable pAppendable, String pName, boolean pFirst ) throws IOException {
+    pAppendable.append(pFirst ? "\n  \"" : ",\n  \"").append(pName).append("\": ");
+  }
 
-    if (detail != null) {
-      lBuilder.append(",\n");
-      lBuilder.append("  \"detail\": \"");
-      lBuilder.append(detail);
-      lBuilder.append('"');
+  /**
+   * Method appends a string attribute if it is not null.
+   *
+   * @return boolean Method returns true if no attribute was written so far.
+   */
+  private static boolean appendString( Appendable pAppendable, String pName, String pValue, boolean pFirst )
+    throws IOException {
+    boolean lFirst;
+    if (pValue != null) {
+      appendName(pAppendable, pName, pFirst);
+      pAppendable.append('"');
+      for (int i = 0; i < pValue.length(); i++) {
+        char lChar = pValue.charAt(i);
+        if (lChar == '"' || lChar == '\\') {
+          pAppendable.append('\\').append(lChar);
+        }
+        else if (lChar < 0x20) {
+          appendControl(pAppendable, lChar);
+        }
+        else {
+          pAppendable.append(lChar);
+        }
+      }
+      pAppendable.append('"');
+      lFirst = false;
+    }
+    else {
+      lFirst = pFirst;
     }
+    return lFirst;
+  }
+
+  private static void appendControl( Appendable pAppendable, char pChar ) throws IOException {
+    pAppendable.append('\\');
+    switch (pChar) {
+      case '\b':
+        pAppendable.append('b');
+        break;
+
+      case '\f':
+        pAppendable.append('f');
+        break;
+
+      case '\n':
+        pAppendable.append('n');
+        break;
+
+      case '\r':
+        pAppendable.append('r');
+        break;
+
+      case '\t':
+        pAppendable.append('t');
+        break;
+
+      default:
+        pAppendable.append("u00").append(HEX_DIGITS[pChar >> 4]).append(HEX_DIGITS[pChar & 0xF]);
+    }
+  }
+
+  private static void appendNumber( Appendable pAppendable, int pValue ) throws IOException {
+    long lValue = pValue;
+    if (lValue < 0) {
+      pAppendable.append('-');
+      lValue = -lValue;
+    }
+    long lDivisor = 1;
+    while (lDivisor * 10 <= lValue) {
+      lDivisor = lDivisor * 10;
+    }
+    for (; lDivisor > 0; lDivisor = lDivisor / 10) {
+      pAppendable.append((char) ('0' + lValue / lDivisor % 10));
+    }
+  }
+
+  private static void writeName( OutputStream pOutputStream, String pName, boolean pFirst ) throws IOException {
+    if (pFirst == false) {
+      pOutputStream.write(',');
+    }
+    pOutputStream.write(NAME_PREFIX);
+    // Attribute names are always ASCII.
+    for (int i = 0; i < pName.length(); i++) {
+      pOutputStream.write(pName.charAt(i));
+    }
+    pOutputStream.write(NAME_SUFFIX);
+  }
+
+  /**
+   * Method writes a string attribute as UTF-8 if it is not null.
+   *
+   * @return boolean Method returns true if no attribute was written so far.
+   */
+  private static boolean writeString( OutputStream pOutputStream, String pName, String pValue, boolean pFirst )
+    throws IOException {
+    boolean lFirst;
+    if (pValue != null) {
+      writeName(pOutputStream, pName, pFirst);
+      pOutputStream.write('"');
+      int lLength = pValue.length();
+      for (int i = 0; i < lLength; i++) {
+        char lChar = pValue.charAt(i);
+        if (lChar == '"' || lChar == '\\') {
+          pOutputStream.write('\\');
+          pOutputStream.write(lChar);
+        }
+        else if (lChar < 0x20) {
+          writeControl(pOutputStream, lChar);
+        }
+        else if (lChar < 0x80) {
+          pOutputStream.write(lChar);
+        }
+        else if (lChar < 0x800) {
+          pOutputStream.write(0xC0 | (lChar >> 6));
+          pOutputStream.write(0x80 | (lChar & 0x3F));
+        }
+        else if (Character.isHighSurrogate(lChar) && i + 1 < lLength
+            && Character.isLowSurrogate(pValue.charAt(i + 1))) {
+          int lCodePoint = Character.toCodePoint(lChar, pValue.charAt(++i));
+          pOutputStream.write(0xF0 | (lCodePoint >> 18));
+          pOutputStream.write(0x80 | ((lCodePoint >> 12) & 0x3F));
+          pOutputStream.write(0x80 | ((lCodePoint >> 6) & 0x3F));
+          pOutputStream.write(0x80 | (lCodePoint & 0x3F));
+        }
+        // Unpaired surrogates are replaced in the same way as String.getBytes(...) does.
+        else if (Character.isSurrogate(lChar)) {
+          pOutputStream.write('?');
+        }
+        else {
+          pOutputStream.write(0xE0 | (lChar >> 12));
+          pOutputStream.write(0x80 | ((lChar >> 6) & 0x3F));
+          pOutputStream.write(0x80 | (lChar & 0x3F));
+        }
+      }
+      pOutputStream.write('"');
+      lFirst = false;
+    }
+    else {
+      lFirst = pFirst;
+    }
+    return lFirst;
+  }
 
-    if (instance != null) {
-      lBuilder.append(",\n");
-      lBuilder.append("  \"instance\": \"");
-      lBuilder.append(instance);
-      lBuilder.append('"');
+  private static void writeControl( OutputStream pOutputStream, char pChar ) throws IOException {
+    pOutputStream.write('\\');
+    switch (pChar) {
+      case '\b':
+        pOutputStream.write('b');
+        break;
+
+      case '\f':
+        pOutputStream.write('f');
+        break;
+
+      case '\n':
+        pOutputStream.write('n');
+        break;
+
+      case '\r':
+        pOutputStream.write('r');
+        break;
+
+      case '\t':
+        pOutputStream.write('t');
+        break;
+
+      default:
+        pOutputStream.write('u');
+        pOutputStream.write('0');
+        pOutputStream.write('0');
+        pOutputStream.write(HEX_DIGITS[pChar >> 4]);
+        pOutputStream.write(HEX_DIGITS[pChar & 0xF]);
     }
-    lBuilder.append("\n}");
+  }
 
+  private static void writeNumber( OutputStream pOutputStream, int pValue ) throws IOException {
+    long lValue = pValue;
+    if (lValue < 0) {
+      pOutputStream.write('-');
+      lValue = -lValue;
+    }
+    long lDivisor = 1;
+    while (lDivisor * 10 <= lValue) {
+      lDivisor = lDivisor * 10;
+    }
+    for (; lDivisor > 0; lDivisor = lDivisor / 10) {
+      pOutputStream.write((int) ('0' + lValue / lDivisor % 10));
+    }
+  }
+
+  /**
+   * Method returns a StringBuilder that can be used to create a String representation of this object. the returned
+   * StringBuilder also takes care about attributes of super classes.
+   *
+   * @return {@link StringBuilder} StringBuilder representing this object. The method never returns null.
+   */
+  protected StringBuilder toStringBuilder( ) {
+    StringBuilder lBuilder = new StringBuilder(128);
+    try {
+      this.append(lBuilder);
+    }
+    // StringBuilder never throws IOExceptions.
+    catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
     return lBuilder;
   }
 
@@ -353,4 +644,18 @@ public class Problem {
   public String toString( ) {
     return this.toStringBuilder().toString();
   }
+
+  /**
+   * Pre-rendered status only problem together with the title it was rendered with.
+   */
+  private static final class Rendered {
+    private final String title;
+
+    private final byte[] bytes;
+
+    Rendered( String pTitle, byte[] pBytes ) {
+      title = pTitle;
+      bytes = pBytes;
+    }
+  }
 }
@@ -6,6 +6,7 @@
 package com.anaptecs.jeaf.json.problem;
 
 import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import com.anaptecs.jeaf.json.api.JSONMessages;
 import com.anaptecs.jeaf.json.api.JSONTools;
@@ -21,6 +22,21 @@ import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
 public class RESTProblemException extends JEAFSystemException {
   private static final long serialVersionUID = 1L;
 
+  /**
+   * Status codes below this limit are cached as strings and as status only problems.
+   */
+  private static final int CACHED_STATUS_LIMIT = 600;
+
+  /**
+   * Cached message parameters for status codes.
+   */
+  private static final AtomicReferenceArray<String> STATUS_STRINGS = new AtomicReferenceArray<>(CACHED_STATUS_LIMIT);
+
+  /**
+   * Cached immutable problems that only consist of a status code.
+   */
+  private static final AtomicReferenceArray<Problem> STATUS_PROBLEMS = new AtomicReferenceArray<>(CACHED_STATUS_LIMIT);
+
   /**
    * Problem that was returned from a REST call. Attribute is never null.
    */
@@ -32,7 +48,7 @@ public class RESTProblemException extends JEAFSystemException {
    * @param pProblem Problem that was received from a REST call. The parameter must not be null.
    */
   public RESTProblemException( Problem pProblem ) {
-    super(JSONMessages.RECEIVED_REST_PROBLEM_JSON, String.valueOf(pProblem.getStatus()));
+    super(JSONMessages.RECEIVED_REST_PROBLEM_JSON, toStatusString(pProblem.getStatus()));
 
     problem = pProblem;
   }
@@ -44,7 +60,7 @@ public class RESTProblemException extends JEAFSystemException {
    * @param pCause Exception that cause this problem. The parameter may be null.
    */
   public RESTProblemException( Problem pProblem, Throwable pCause ) {
-    super(JSONMessages.RECEIVED_REST_PROBLEM_JSON, pCause, String.valueOf(pProblem.getStatus()));
+    super(JSONMessages.RECEIVED_REST_PROBLEM_JSON, pCause, toStatusString(pProblem.getStatus()));
 
     problem = pProblem;
   }
@@ -55,9 +71,9 @@ public class RESTProblemException extends JEAFSystemException {
    * @param pStatus HTTP status code in case that the REST resource did not return a problem JSON.
    */
   public RESTProblemException( int pStatus ) {
-    super(JSONMessages.RECEIVED_REST_PROBLEM_JSON, String.valueOf(pStatus));
+    super(JSONMessages.RECEIVED_REST_PROBLEM_JSON, toStatusString(pStatus));
 
-    problem = Problem.builder().setStatus(pStatus).build();
+    problem = getStatusProblem(pStatus);
   }
 
   /**
@@ -67,7 +83,7 @@ public class RESTProblemException extends JEAFSystemException {
    * @param pHttpResponseStream Input stream containing the response of the REST call.
    */
   public RESTProblemException( int pStatus, InputStream pHttpResponseStream ) {
-    super(JSONMessages.RECEIVED_REST_PROBLEM_JSON, String.valueOf(pStatus));
+    super(JSONMessages.RECEIVED_REST_PROBLEM_JSON, toStatusString(pStatus));
 
     // Try to extract problem JSON from response stream.
     Problem lProblem;
@@ -77,7 +93,7 @@ public class RESTProblemException extends JEAFSystemException {
     // Server did not return problem JSON. At least we have a http status code.
     catch (JEAFSystemException e) {
       XFun.getTrace().warn(e);
-      lProblem = Problem.builder().setStatus(pStatus).build();
+      lProblem = getStatusProblem(pStatus);
     }
     problem = lProblem;
   }
@@ -91,4 +107,90 @@ public class RESTProblemException extends JEAFSystemException {
   public Problem getProblem( ) {
     return problem;
   }
+
+  /**
+   * Method creates an exception for the passed problem that does not capture a stack trace. Such exceptions are
+   * intended for high-rate error paths where REST problems are just used for control flow, as capturing the stack trace
+   * is by far the most expensive part of creating an exception. The exception message is only formatted when it is
+   * requested, e.g. when the exception is logged.
+   *
+   * @param pProblem Problem that was received from a REST call. The parameter must not be null.
+   * @return {@link RESTProblemException} Exception without stack trace. The method never returns null.
+   */
+  public static RESTProblemException createStackless( Problem pProblem ) {
+    return new StacklessRESTProblemException(pProblem);
+  }
+
+  /**
+   * Method creates an exception for the passed status code that does not capture a stack trace (see
+   * {@link #createStackless(Problem)}). The problem of the exception is an immutable instance that is shared by all
+   * exceptions with the same status code.
+   *
+   * @param pStatus HTTP status code in case that the REST resource did not return a problem JSON.
+   * @return {@link RESTProblemException} Exception without stack trace. The method never returns null.
+   */
+  public static RESTProblemException createStackless( int pStatus ) {
+    return new StacklessRESTProblemException(getStatusProblem(pStatus));
+  }
+
+  /**
+   * Method returns the problem that only consists of the passed status code. Problems for common status codes are
+   * created only once.
+   *
+   * @param pStatus HTTP status code.
+   * @return {@link Problem} Problem for the passed status code. The method never returns null.
+   */
+  private static Problem getStatusProblem( int pStatus ) {
+    Problem lProblem;
+    if (pStatus >= 0 && pStatus < CACHED_STATUS_LIMIT) {
+      lProblem = STATUS_PROBLEMS.get(pStatus);
+      if (lProblem == null) {
+        lProblem = Problem.builder().setStatus(pStatus).build();
+        STATUS_PROBLEMS.set(pStatus, lProblem);
+      }
+    }
+    else {
+      lProblem = Problem.builder().setStatus(pStatus).build();
+    }
+    return lProblem;
+  }
+
+  /**
+   * Method returns the passed status code as string. Strings for common status codes are created only once.
+   *
+   * @param pStatus HTTP status code.
+   * @return {@link String} Status code as string. The method never returns null.
+   */
+  private static String toStatusString( int pStatus ) {
+    String lStatus;
+    if (pStatus >= 0 && pStatus < CACHED_STATUS_LIMIT) {
+      lStatus = STATUS_STRINGS.get(pStatus);
+      if (lStatus == null) {
+        lStatus = String.valueOf(pStatus);
+        STATUS_STRINGS.set(pStatus, lStatus);
+      }
+    }
+    else {
+      lStatus = String.valueOf(pStatus);
+    }
+    return lStatus;
+  }
+
+  /**
+   * Exception that does not capture a stack trace. {@link #fillInStackTrace()} is called by the constructor of
+   * {@link Throwable}, so overriding it is the only way to skip stack capture with the constructors of
+   * {@link JEAFSystemException}.
+   */
+  private static final class StacklessRESTProblemException extends RESTProblemException {
+    private static final long serialVersionUID = 1L;
+
+    StacklessRESTProblemException( Problem pProblem ) {
+      super(pProblem);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace( ) {
+      return this;
+    }
+  }
 }
@@ -8,12 +8,19 @@ package com.anaptecs.jeaf.json.problem.test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 import com.anaptecs.jeaf.json.problem.Problem;
 import com.anaptecs.jeaf.json.problem.Problem.Builder;
 import com.anaptecs.jeaf.json.problem.RESTProblemException;
 import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
 
 public class ProblemTest {
   @Test
@@ -57,6 +64,74 @@ public class ProblemTest {
 
   }
 
+  @Test
+  void testProblemSerialization( ) throws IOException {
+    // Strings are escaped.
+    Problem lProblem = Problem.builder().setType("urn:\"quoted\"").setTitle("Back\\slash\ttab\u0001")
+        .setStatus(-400).setDetail("Line 1\nLine 2\r\b\f").setInstance("\u00e4\u20ac\ud83d\ude00").build();
+    String lExpected = "{\n" + "  \"type\": \"urn:\\\"quoted\\\"\",\n"
+        + "  \"title\": \"Back\\\\slash\\ttab\\u0001\",\n" + "  \"status\": -400,\n"
+        + "  \"detail\": \"Line 1\\nLine 2\\r\\b\\f\",\n" + "  \"instance\": \"\u00e4\u20ac\ud83d\ude00\"\n" + "}";
+    assertEquals(lExpected, lProblem.toString());
+    assertEquals(lExpected, write(lProblem));
+    JsonNode lNode = JsonMapper.builder().build().readTree(write(lProblem));
+    assertEquals("urn:\"quoted\"", lNode.get(Problem.TYPE).asString());
+    assertEquals("Back\\slash\ttab\u0001", lNode.get(Problem.TITLE).asString());
+    assertEquals("Line 1\nLine 2\r\b\f", lNode.get(Problem.DETAIL).asString());
+    assertEquals("\u00e4\u20ac\ud83d\ude00", lNode.get(Problem.INSTANCE).asString());
+
+    StringBuilder lBuilder = new StringBuilder();
+    lProblem.writeTo(lBuilder);
+    assertEquals(lExpected, lBuilder.toString());
+
+    // No leading separator if type is not set.
+    lProblem = Problem.builder().setType(null).setStatus(Integer.MIN_VALUE).build();
+    lExpected = "{\n" + "  \"title\": \"Unknown HTTP Status\",\n" + "  \"status\": -2147483648\n" + "}";
+    assertEquals(lExpected, lProblem.toString());
+    assertEquals(lExpected, write(lProblem));
+    lProblem = new Problem();
+    assertEquals("{\n" + "  \"type\": \"about:blank\",\n" + "  \"status\": 0\n" + "}", write(lProblem));
+
+    // Status only problems are rendered once.
+    lProblem = new RESTProblemException(503).getProblem();
+    lExpected = "{\n" + "  \"type\": \"about:blank\",\n" + "  \"title\": \"Service Unavailable\",\n"
+        + "  \"status\": 503\n" + "}";
+    assertEquals(lExpected, write(lProblem));
+    assertEquals(lExpected, write(Problem.builder().setStatus(503).build()));
+    assertEquals(lExpected, lProblem.toString());
+    lProblem = Problem.builder().setStatus(503).setTitle("Maintenance").build();
+    assertEquals(lExpected.replace("Service Unavailable", "Maintenance"), write(lProblem));
+    lProblem = Problem.builder().setStatus(503).setDetail("Retry later").build();
+    assertTrue(write(lProblem).endsWith("  \"status\": 503,\n  \"detail\": \"Retry later\"\n}"));
+
+    // Attributes of subclasses are written as well.
+    lProblem = new ExtendedProblem(Problem.builder().setStatus(503));
+    lExpected = lExpected.replace("503\n", "503,\n  \"code\": 42\n");
+    assertEquals(lExpected, lProblem.toString());
+    assertEquals(lExpected, write(lProblem));
+    StringBuilder lAppendable = new StringBuilder();
+    lProblem.writeTo(lAppendable);
+    assertEquals(lExpected, lAppendable.toString());
+  }
+
+  private static String write( Problem pProblem ) throws IOException {
+    ByteArrayOutputStream lOutputStream = new ByteArrayOutputStream();
+    pProblem.writeTo(lOutputStream);
+    return lOutputStream.toString(StandardCharsets.UTF_8);
+  }
+
+  static class ExtendedProblem extends Problem {
+    ExtendedProblem( Builder pBuilder ) {
+      super(pBuilder);
+    }
+
+    @Override
+    protected StringBuilder toStringBuilder( ) {
+      StringBuilder lBuilder = super.toStringBuilder();
+      return lBuilder.insert(lBuilder.length() - 2, ",\n  \"code\": 42");
+    }
+  }
+
   @Test
   void testRESTProblemException( ) {
     RESTProblemException lProblemException = new RESTProblemException(400);
@@ -79,4 +154,28 @@ public class ProblemTest {
     assertEquals("Yet another Problem!", lProblem.getTitle());
     assertEquals("Instance Information", lProblem.getInstance());
   }
+
+  @Test
+  void testStacklessRESTProblemException( ) {
+    RESTProblemException lException = RESTProblemException.createStackless(503);
+    assertEquals(0, lException.getStackTrace().length);
+    assertTrue(lException.getMessage().endsWith("REST call returned problem JSON (http status code: 503)"));
+    Problem lProblem = lException.getProblem();
+    assertEquals(503, lProblem.getStatus());
+    assertEquals("Service Unavailable", lProblem.getTitle());
+
+    // Status only problems are shared.
+    assertSame(lProblem, RESTProblemException.createStackless(503).getProblem());
+    assertSame(lProblem, new RESTProblemException(503).getProblem());
+    assertEquals(1000, RESTProblemException.createStackless(1000).getProblem().getStatus());
+
+    lProblem = Problem.builder().setStatus(409).setDetail("Conflict").build();
+    lException = RESTProblemException.createStackless(lProblem);
+    assertEquals(0, lException.getStackTrace().length);
+    assertSame(lProblem, lException.getProblem());
+    assertTrue(lException.getMessage().endsWith("(http status code: 409)"));
+
+    // Regular exceptions still capture their stack trace.
+    assertTrue(new RESTProblemException(lProblem).getStackTrace().length > 0);
+  }
 }
@@ -0,0 +1,574 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.processor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+import com.anaptecs.jeaf.json.annotations.GenerateSerializers;
+
+/**
+ * Class describes a DTO for which a serializer and / or deserializer is generated. Instances are created using
+ * {@link #create(TypeElement, ProcessingEnvironment)} which also checks that the generated code will be able to access
+ * all properties.
+ *
+ * @author JEAF Development Team
+ */
+final class DTOModel {
+  /**
+   * Name of Jackson's annotation to rename properties.
+   */
+  private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+
+  /**
+   * Name of Jackson's annotation to ignore properties.
+   */
+  private static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
+
+  /**
+   * Name of Jackson's annotation to define the order of properties.
+   */
+  private static final String JSON_PROPERTY_ORDER = "com.fasterxml.jackson.annotation.JsonPropertyOrder";
+
+  /**
+   * Name of Jackson's meta annotation to bundle annotations.
+   */
+  private static final String JACKSON_ANNOTATIONS_INSIDE = "com.fasterxml.jackson.annotation.JacksonAnnotationsInside";
+
+  /**
+   * Packages of Jackson's annotations.
+   */
+  private static final List<String> JACKSON_PACKAGES =
+      Arrays.asList("com.fasterxml.jackson.annotation.", "tools.jackson.databind.annotation.");
+
+  /**
+   * Jackson annotations on fields that are supported by generated code.
+   */
+  private static final Set<String> FIELD_ANNOTATIONS = new HashSet<>(Arrays.asList(JSON_PROPERTY, JSON_IGNORE));
+
+  /**
+   * Jackson annotations on classes that are supported by generated code. Type info is written by Jackson's type
+   * serializer and inclusion as well as filters are checked when the serializers are registered.
+   */
+  private static final Set<String> CLASS_ANNOTATIONS = new HashSet<>(Arrays.asList(
+      "com.fasterxml.jackson.annotation.JsonInclude", "com.fasterxml.jackson.annotation.JsonFilter",
+      "com.fasterxml.jackson.annotation.JsonTypeInfo", "com.fasterxml.jackson.annotation.JsonSubTypes",
+      "com.fasterxml.jackson.annotation.JsonTypeName", "com.fasterxml.jackson.annotation.JsonRootName",
+      "com.fasterxml.jackson.annotation.JsonClassDescription", JSON_PROPERTY_ORDER));
+
+  /**
+   * Type of the DTO.
+   */
+  private final TypeElement type;
+
+  /**
+   * Name of the package of the DTO.
+   */
+  private final String packageName;
+
+  /**
+   * Properties of the DTO in the order in which they are declared.
+   */
+  private final List<PropertyModel> properties;
+
+  /**
+   * Properties of the DTO in the order in which Jackson writes them if properties are sorted alphabetically.
+   */
+  private final List<PropertyModel> sortedProperties;
+
+  /**
+   * Flag indicates whether Jackson writes the properties in the same order if they are not sorted alphabetically.
+   */
+  private final boolean sortingIrrelevant;
+
+  /**
+   * Flag indicates whether a serializer should be generated.
+   */
+  private final boolean serializer;
+
+  /**
+   * Flag indicates whether a deserializer should be generated.
+   */
+  private final boolean deserializer;
+
+  /**
+   * Initialize object.
+   */
+  private DTOModel( TypeElement pType, String pPackageName, List<PropertyModel> pProperties,
+      List<PropertyModel> pSortedProperties, boolean pSortingIrrelevant, boolean pSerializer, boolean pDeserializer ) {
+    type = pType;
+    packageName = pPackageName;
+    properties = Collections.unmodifiableList(pProperties);
+    sortedProperties = Collections.unmodifiableList(pSortedProperties);
+    sortingIrrelevant = pSortingIrrelevant;
+    serializer = pSerializer;
+    deserializer = pDeserializer;
+  }
+
+  /**
+   * Method creates the model of the passed DTO. All problems are reported as compile errors.
+   *
+   * @param pType Type that is annotated with {@link GenerateSerializers}. The parameter must not be null.
+   * @param pEnvironment Processing environment. The parameter must not be null.
+   * @return {@link DTOModel} Model of the DTO or null if no code can be generated for it.
+   */
+  static DTOModel create( TypeElement pType, ProcessingEnvironment pEnvironment ) {
+    Elements lElements = pEnvironment.getElementUtils();
+    Types lTypes = pEnvironment.getTypeUtils();
+    Messager lMessager = pEnvironment.getMessager();
+    GenerateSerializers lAnnotation = pType.getAnnotation(GenerateSerializers.class);
+    String lPackageName = lElements.getPackageOf(pType).getQualifiedName().toString();
+
+    // Check the type itself.
+    boolean lValid = true;
+    if (pType.getKind() != ElementKind.CLASS) {
+      lMessager.printMessage(Diagnostic.Kind.ERROR, "@GenerateSerializers is only supported on classes.", pType);
+      lValid = false;
+    }
+    else if (pType.getTypeParameters().isEmpty() == false) {
+      lMessager.printMessage(Diagnostic.Kind.ERROR, "@GenerateSerializers is not supported on generic classes.", pType);
+      lValid = false;
+    }
+    else if (isTypeAccessible(pType) == false) {
+      lMessager.printMessage(Diagnostic.Kind.ERROR,
+          "Classes with @GenerateSerializers must not be private or non-static inner classes.", pType);
+      lValid = false;
+    }
+    else if (lAnnotation.deserializer() && isDefaultConstructorAccessible(pType) == false) {
+      lMessager.printMessage(Diagnostic.Kind.ERROR, "Generated deserializer requires a non-abstract class "
+          + "with a non-private default constructor. Use @GenerateSerializers(deserializer = false) otherwise.", pType);
+      lValid = false;
+    }
+
+    // Resolve properties starting with the top most super class.
+    List<PropertyModel> lProperties = new ArrayList<>();
+    if (lValid) {
+      Set<String> lNames = new HashSet<>();
+      for (TypeElement lClass : getClassHierarchy(pType, lTypes)) {
+        lValid = checkAnnotations(lClass, CLASS_ANNOTATIONS, lMessager) && lValid;
+        for (ExecutableElement lExecutable : ElementFilter.methodsIn(lClass.getEnclosedElements())) {
+          lValid = checkAnnotations(lExecutable, Collections.emptySet(), lMessager) && lValid;
+        }
+        for (ExecutableElement lExecutable : ElementFilter.constructorsIn(lClass.getEnclosedElements())) {
+          lValid = checkAnnotations(lExecutable, Collections.emptySet(), lMessager) && lValid;
+          for (VariableElement lParameter : lExecutable.getParameters()) {
+            lValid = checkAnnotations(lParameter, Collections.emptySet(), lMessager) && lValid;
+          }
+        }
+        for (VariableElement lField : ElementFilter.fieldsIn(lClass.getEnclosedElements())) {
+          Set<Modifier> lModifiers = lField.getModifiers();
+          if (lModifiers.contains(Modifier.STATIC) || lModifiers.contains(Modifier.TRANSIENT) || isIgnored(lField)) {
+            continue;
+          }
+          if (checkAnnotations(lField, FIELD_ANNOTATIONS, lMessager) == false) {
+            lValid = false;
+            continue;
+          }
+          AnnotationValue lAccess = getAnnotationValue(lField, JSON_PROPERTY, "access");
+          if (lAccess != null && lAccess.getValue().toString().equals("AUTO") == false) {
+            lMessager.printMessage(Diagnostic.Kind.ERROR,
+                "@JsonProperty(access) is not supported by generated serializers.", lField);
+            lValid = false;
+            continue;
+          }
+          String lJSONName = getJSONName(lField);
+          if (lNames.add(lJSONName) == false) {
+            lMessager.printMessage(Diagnostic.Kind.ERROR, "Duplicate JSON property '" + lJSONName + "'.", lField);
+            lValid = false;
+            continue;
+          }
+
+          // Resolve how the property can be read and written. Types are resolved as members of the DTO so that
+          // fields of generic super classes get their actual type.
+          TypeMirror lFieldType = lTypes.asMemberOf((DeclaredType) pType.asType(), lField);
+          boolean lFieldAccessible = isMemberAccessible(lField, lPackageName, lElements);
+          String lGetterName = null;
+          if (lAnnotation.serializer() && lFieldAccessible == false) {
+            lGetterName = findGetter(pType, lField, lFieldType, lPackageName, lElements, lTypes);
+            if (lGetterName == null) {
+              lMessager.printMessage(Diagnostic.Kind.ERROR, "Field '" + lField.getSimpleName()
+                  + "' is not accessible for the generated serializer and there is no accessible getter.", lField);
+              lValid = false;
+            }
+          }
+          String lSetterName = null;
+          if (lAnnotation.deserializer() && (lFieldAccessible == false || lModifiers.contains(Modifier.FINAL))) {
+            lSetterName = findSetter(pType, lField, lFieldType, lPackageName, lElements, lTypes);
+            if (lSetterName == null) {
+              lMessager.printMessage(Diagnostic.Kind.ERROR, "Field '" + lField.getSimpleName()
+                  + "' is not writable for the generated deserializer and there is no accessible setter.", lField);
+              lValid = false;
+            }
+          }
+          AnnotationValue lIndex = getAnnotationValue(lField, JSON_PROPERTY, "index");
+          lProperties.add(new PropertyModel(lField, lFieldType, lJSONName, lIndex != null ? (Integer) lIndex.getValue()
+              : PropertyModel.INDEX_UNKNOWN, lGetterName, lSetterName));
+        }
+      }
+    }
+
+    DTOModel lModel;
+    if (lValid) {
+      // Properties are written in the same order as by Jackson (see POJOPropertiesCollector).
+      List<String> lExplicitOrder = new ArrayList<>();
+      boolean lAlphabetic = getPropertyOrder(pType, lTypes, lExplicitOrder);
+      List<PropertyModel> lSorted = orderProperties(lProperties, lExplicitOrder, true);
+      boolean lSortingIrrelevant = lAlphabetic || lSorted.equals(orderProperties(lProperties, lExplicitOrder, false));
+      lModel = new DTOModel(pType, lPackageName, lProperties, lSorted, lSortingIrrelevant, lAnnotation.serializer(),
+          lAnnotation.deserializer());
+    }
+    else {
+      lModel = null;
+    }
+    return lModel;
+  }
+
+  /**
+   * Method returns the name of the package of the DTO.
+   *
+   * @return {@link String} Package name. For classes in the default package an empty string is returned.
+   */
+  String getPackageName( ) {
+    return packageName;
+  }
+
+  /**
+   * Method returns the name of the DTO as it has to be used in source code.
+   *
+   * @return {@link String} Canonical name of the DTO. The method never returns null.
+   */
+  String getCanonicalName( ) {
+    return type.getQualifiedName().toString();
+  }
+
+  /**
+   * Method returns the prefix of the names of the generated classes. For nested classes the names of all enclosing
+   * classes are part of the prefix.
+   *
+   * @return {@link String} Prefix of generated class names. The method never returns null.
+   */
+  String getGeneratedNamePrefix( ) {
+    String lName = this.getCanonicalName();
+    if (packageName.isEmpty() == false) {
+      lName = lName.substring(packageName.length() + 1);
+    }
+    return lName.replace('.', '_');
+  }
+
+  /**
+   * Method returns the type element of the DTO.
+   *
+   * @return {@link TypeElement} Type of the DTO. The method never returns null.
+   */
+  TypeElement getType( ) {
+    return type;
+  }
+
+  /**
+   * Method returns all properties of the DTO.
+   *
+   * @return {@link List} Properties in the order in which they are declared. The method never returns null.
+   */
+  List<PropertyModel> getProperties( ) {
+    return properties;
+  }
+
+  /**
+   * Method returns all properties of the DTO in the order in which Jackson writes them if
+   * <code>MapperFeature.SORT_PROPERTIES_ALPHABETICALLY</code> is enabled, which is Jackson's default.
+   *
+   * @return {@link List} Properties in the order in which they are written. The method never returns null.
+   */
+  List<PropertyModel> getSortedProperties( ) {
+    return sortedProperties;
+  }
+
+  /**
+   * Method checks if Jackson writes the properties in the same order no matter whether
+   * <code>MapperFeature.SORT_PROPERTIES_ALPHABETICALLY</code> is enabled or not.
+   *
+   * @return boolean Method returns true if the order of properties does not depend on the mapper feature.
+   */
+  boolean isSortingIrrelevant( ) {
+    return sortingIrrelevant;
+  }
+
+  /**
+   * Method checks if a serializer should be generated.
+   *
+   * @return boolean Method returns true if a serializer should be generated.
+   */
+  boolean isSerializer( ) {
+    return serializer;
+  }
+
+  /**
+   * Method checks if a deserializer should be generated.
+   *
+   * @return boolean Method returns true if a deserializer should be generated.
+   */
+  boolean isDeserializer( ) {
+    return deserializer;
+  }
+
+  private static boolean isTypeAccessible( TypeElement pType ) {
+    boolean lAccessible = true;
+    Element lElement = pType;
+    while (lAccessible && lElement instanceof TypeElement) {
+      TypeElement lType = (TypeElement) lElement;
+      Set<Modifier> lModifiers = lType.getModifiers();
+      lAccessible = lModifiers.contains(Modifier.PRIVATE) == false
+          && (lType.getNestingKind() != NestingKind.MEMBER || lModifiers.contains(Modifier.STATIC));
+      lElement = lType.getEnclosingElement();
+    }
+    return lAccessible;
+  }
+
+  private static boolean isDefaultConstructorAccessible( TypeElement pType ) {
+    boolean lAccessible = false;
+    if (pType.getModifiers().contains(Modifier.ABSTRACT) == false) {
+      for (ExecutableElement lConstructor : ElementFilter.constructorsIn(pType.getEnclosedElements())) {
+        if (lConstructor.getParameters().isEmpty() && lConstructor.getModifiers().contains(Modifier.PRIVATE) == false) {
+          lAccessible = true;
+        }
+      }
+    }
+    return lAccessible;
+  }
+
+  private static boolean isMemberAccessible( Element pMember, String pPackageName, Elements pElements ) {
+    Set<Modifier> lModifiers = pMember.getModifiers();
+    boolean lAccessible;
+    if (lModifiers.contains(Modifier.PUBLIC)) {
+      lAccessible = true;
+    }
+    else if (lModifiers.contains(Modifier.PRIVATE)) {
+      lAccessible = false;
+    }
+    else {
+      // Package private and protected members are only accessible from the same package.
+      lAccessible = pElements.getPackageOf(pMember).getQualifiedName().contentEquals(pPackageName);
+    }
+    return lAccessible;
+  }
+
+  private static Deque<TypeElement> getClassHierarchy( TypeElement pType, Types pTypes ) {
+    Deque<TypeElement> lHierarchy = new ArrayDeque<>();
+    TypeElement lCurrent = pType;
+    while (lCurrent != null && lCurrent.getQualifiedName().contentEquals("java.lang.Object") == false) {
+      lHierarchy.addFirst(lCurrent);
+      TypeMirror lSuperclass = lCurrent.getSuperclass();
+      lCurrent = lSuperclass.getKind() == TypeKind.DECLARED ? (TypeElement) pTypes.asElement(lSuperclass) : null;
+    }
+    return lHierarchy;
+  }
+
+  private static String findGetter( TypeElement pType, VariableElement pField, TypeMirror pFieldType,
+      String pPackageName, Elements pElements, Types pTypes ) {
+    String lCapitalized = capitalize(pField.getSimpleName().toString());
+    Set<String> lNames = new HashSet<>();
+    lNames.add("get" + lCapitalized);
+    if (pFieldType.getKind() == TypeKind.BOOLEAN) {
+      lNames.add("is" + lCapitalized);
+    }
+    String lGetter = null;
+    for (ExecutableElement lMethod : ElementFilter.methodsIn(pElements.getAllMembers(pType))) {
+      if (lNames.contains(lMethod.getSimpleName().toString()) && lMethod.getParameters().isEmpty()
+          && lMethod.getModifiers().contains(Modifier.STATIC) == false
+          && pTypes.isSameType(asMemberOf(pType, lMethod, pTypes).getReturnType(), pFieldType)
+          && isMemberAccessible(lMethod, pPackageName, pElements)) {
+        lGetter = lMethod.getSimpleName().toString();
+      }
+    }
+    return lGetter;
+  }
+
+  private static String findSetter( TypeElement pType, VariableElement pField, TypeMirror pFieldType,
+      String pPackageName, Elements pElements, Types pTypes ) {
+    String lName = "set" + capitalize(pField.getSimpleName().toString());
+    String lSetter = null;
+    for (ExecutableElement lMethod : ElementFilter.methodsIn(pElements.getAllMembers(pType))) {
+      if (lMethod.getSimpleName().contentEquals(lName) && lMethod.getParameters().size() == 1
+          && lMethod.getModifiers().contains(Modifier.STATIC) == false
+          && pTypes.isSameType(asMemberOf(pType, lMethod, pTypes).getParameterTypes().get(0), pFieldType)
+          && isMemberAccessible(lMethod, pPackageName, pElements)) {
+        lSetter = lName;
+      }
+    }
+    return lSetter;
+  }
+
+  private static ExecutableType asMemberOf( TypeElement pType, ExecutableElement pMethod, Types pTypes ) {
+    return (ExecutableType) pTypes.asMemberOf((DeclaredType) pType.asType(), pMethod);
+  }
+
+  private static boolean checkAnnotations( Element pElement, Set<String> pSupported, Messager pMessager ) {
+    boolean lValid = true;
+    for (AnnotationMirror lMirror : pElement.getAnnotationMirrors()) {
+      TypeElement lAnnotationType = (TypeElement) lMirror.getAnnotationType().asElement();
+      String lName = lAnnotationType.getQualifiedName().toString();
+      boolean lJackson = hasAnnotation(lAnnotationType, JACKSON_ANNOTATIONS_INSIDE);
+      for (String lPackage : JACKSON_PACKAGES) {
+        lJackson = lJackson || lName.startsWith(lPackage);
+      }
+      if (lJackson && pSupported.contains(lName) == false) {
+        pMessager.printMessage(Diagnostic.Kind.ERROR, "@" + lAnnotationType.getSimpleName()
+            + " is not supported by generated serializers.", pElement, lMirror);
+        lValid = false;
+      }
+    }
+    return lValid;
+  }
+
+  private static boolean getPropertyOrder( TypeElement pType, Types pTypes, List<String> pExplicitOrder ) {
+    // As for all class annotations the one of the most specific class is used.
+    boolean lAlphabetic = false;
+    Iterator<TypeElement> lClasses = getClassHierarchy(pType, pTypes).descendingIterator();
+    boolean lFound = false;
+    while (lFound == false && lClasses.hasNext()) {
+      TypeElement lClass = lClasses.next();
+      lFound = hasAnnotation(lClass, JSON_PROPERTY_ORDER);
+      if (lFound) {
+        AnnotationValue lValue = getAnnotationValue(lClass, JSON_PROPERTY_ORDER, "value");
+        if (lValue != null) {
+          for (Object lName : (List<?>) lValue.getValue()) {
+            pExplicitOrder.add(((AnnotationValue) lName).getValue().toString());
+          }
+        }
+        AnnotationValue lAlphabeticValue = getAnnotationValue(lClass, JSON_PROPERTY_ORDER, "alphabetic");
+        lAlphabetic = lAlphabeticValue != null && Boolean.TRUE.equals(lAlphabeticValue.getValue());
+      }
+    }
+    return lAlphabetic;
+  }
+
+  private static List<PropertyModel> orderProperties( List<PropertyModel> pProperties, List<String> pExplicitOrder,
+      boolean pSorted ) {
+    List<PropertyModel> lRemaining = new ArrayList<>(pProperties);
+    if (pSorted) {
+      lRemaining.sort(Comparator.comparing(PropertyModel::getJSONName));
+    }
+
+    // Explicitly ordered properties come first. They may be referenced by their JSON or their field name.
+    List<PropertyModel> lOrdered = new ArrayList<>();
+    for (String lName : pExplicitOrder) {
+      PropertyModel lProperty = findProperty(lRemaining, lName, true);
+      if (lProperty == null) {
+        lProperty = findProperty(lRemaining, lName, false);
+      }
+      if (lProperty != null) {
+        lRemaining.remove(lProperty);
+        lOrdered.add(lProperty);
+      }
+    }
+
+    // Properties with an index follow before all others.
+    List<PropertyModel> lIndexed = new ArrayList<>();
+    for (PropertyModel lProperty : lRemaining) {
+      if (lProperty.getIndex() != PropertyModel.INDEX_UNKNOWN) {
+        lIndexed.add(lProperty);
+      }
+    }
+    lIndexed.sort(Comparator.comparingInt(PropertyModel::getIndex));
+    lRemaining.removeAll(lIndexed);
+    lOrdered.addAll(lIndexed);
+    lOrdered.addAll(lRemaining);
+    return lOrdered;
+  }
+
+  private static PropertyModel findProperty( List<PropertyModel> pProperties, String pName, boolean pJSONName ) {
+    PropertyModel lFound = null;
+    for (PropertyModel lProperty : pProperties) {
+      String lName = pJSONName ? lProperty.getJSONName() : lProperty.getFieldName();
+      if (lFound == null && lName.equals(pName)) {
+        lFound = lProperty;
+      }
+    }
+    return lFound;
+  }
+
+  private static boolean isIgnored( VariableElement pField ) {
+    AnnotationValue lValue = getAnnotationValue(pField, JSON_IGNORE, "value");
+    boolean lIgnored;
+    if (lValue != null) {
+      lIgnored = Boolean.TRUE.equals(lValue.getValue());
+    }
+    else {
+      lIgnored = hasAnnotation(pField, JSON_IGNORE);
+    }
+    return lIgnored;
+  }
+
+  private static String getJSONName( VariableElement pField ) {
+    AnnotationValue lValue = getAnnotationValue(pField, JSON_PROPERTY, "value");
+    String lName;
+    if (lValue != null && lValue.getValue().toString().isEmpty() == false) {
+      lName = lValue.getValue().toString();
+    }
+    else {
+      lName = pField.getSimpleName().toString();
+    }
+    return lName;
+  }
+
+  private static boolean hasAnnotation( Element pElement, String pAnnotationName ) {
+    boolean lFound = false;
+    for (AnnotationMirror lMirror : pElement.getAnnotationMirrors()) {
+      TypeElement lAnnotationType = (TypeElement) lMirror.getAnnotationType().asElement();
+      lFound = lFound || lAnnotationType.getQualifiedName().contentEquals(pAnnotationName);
+    }
+    return lFound;
+  }
+
+  private static AnnotationValue getAnnotationValue( Element pElement, String pAnnotationName, String pElementName ) {
+    AnnotationValue lValue = null;
+    for (AnnotationMirror lMirror : pElement.getAnnotationMirrors()) {
+      DeclaredType lAnnotationType = lMirror.getAnnotationType();
+      if (((TypeElement) lAnnotationType.asElement()).getQualifiedName().contentEquals(pAnnotationName)) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> lEntry : lMirror.getElementValues()
+            .entrySet()) {
+          if (lEntry.getKey().getSimpleName().contentEquals(pElementName)) {
+            lValue = lEntry.getValue();
+          }
+        }
+      }
+    }
+    return lValue;
+  }
+
+  static String capitalize( String pName ) {
+    return Character.toUpperCase(pName.charAt(0)) + pName.substring(1);
+  }
+}
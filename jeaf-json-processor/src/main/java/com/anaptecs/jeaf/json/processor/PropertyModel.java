@@ -0,0 +1,143 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.processor;
+
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Class describes a single property of a DTO for which code is generated. Besides the JSON name and the type it holds
+ * how the property can be accessed from generated code.
+ *
+ * @author JEAF Development Team
+ */
+final class PropertyModel {
+  /**
+   * Index of properties that do not define an index using <code>@JsonProperty(index)</code>.
+   */
+  static final int INDEX_UNKNOWN = -1;
+
+  /**
+   * Field that defines the property.
+   */
+  private final VariableElement field;
+
+  /**
+   * Type of the property as member of the DTO.
+   */
+  private final TypeMirror type;
+
+  /**
+   * Name of the property in JSON.
+   */
+  private final String jsonName;
+
+  /**
+   * Index of the property that defines its position in JSON or {@link #INDEX_UNKNOWN}.
+   */
+  private final int index;
+
+  /**
+   * Name of the getter that has to be used to read the property or null if the field can be accessed directly.
+   */
+  private final String getterName;
+
+  /**
+   * Name of the setter that has to be used to write the property or null if the field can be accessed directly.
+   */
+  private final String setterName;
+
+  /**
+   * Initialize object.
+   *
+   * @param pField Field that defines the property. The parameter must not be null.
+   * @param pType Type of the property as member of the DTO. The parameter must not be null.
+   * @param pJSONName Name of the property in JSON. The parameter must not be null.
+   * @param pIndex Index of the property that defines its position in JSON or {@link #INDEX_UNKNOWN}.
+   * @param pGetterName Name of the getter or null if the field is accessed directly.
+   * @param pSetterName Name of the setter or null if the field is accessed directly.
+   */
+  PropertyModel( VariableElement pField, TypeMirror pType, String pJSONName, int pIndex, String pGetterName,
+      String pSetterName ) {
+    field = pField;
+    type = pType;
+    jsonName = pJSONName;
+    index = pIndex;
+    getterName = pGetterName;
+    setterName = pSetterName;
+  }
+
+  /**
+   * Method returns the name of the field that defines the property.
+   *
+   * @return {@link String} Name of the field. The method never returns null.
+   */
+  String getFieldName( ) {
+    return field.getSimpleName().toString();
+  }
+
+  /**
+   * Method returns the name of the property in JSON.
+   *
+   * @return {@link String} JSON name of the property. The method never returns null.
+   */
+  String getJSONName( ) {
+    return jsonName;
+  }
+
+  /**
+   * Method returns the index of the property that defines its position in JSON.
+   *
+   * @return int Index of the property or {@link #INDEX_UNKNOWN} if it does not define one.
+   */
+  int getIndex( ) {
+    return index;
+  }
+
+  /**
+   * Method returns the type of the property.
+   *
+   * @return {@link TypeMirror} Type of the property. The method never returns null.
+   */
+  TypeMirror getType( ) {
+    return type;
+  }
+
+  /**
+   * Method returns the expression that reads the property from the passed object.
+   *
+   * @param pObject Name of the variable that references the object. The parameter must not be null.
+   * @return {@link String} Java expression that reads the property. The method never returns null.
+   */
+  String getReadExpression( String pObject ) {
+    String lExpression;
+    if (getterName != null) {
+      lExpression = pObject + '.' + getterName + "()";
+    }
+    else {
+      lExpression = pObject + '.' + this.getFieldName();
+    }
+    return lExpression;
+  }
+
+  /**
+   * Method returns the statement that writes the passed value into the property of the passed object.
+   *
+   * @param pObject Name of the variable that references the object. The parameter must not be null.
+   * @param pValue Java expression of the value that should be written. The parameter must not be null.
+   * @return {@link String} Java statement that writes the property. The method never returns null.
+   */
+  String getWriteStatement( String pObject, String pValue ) {
+    String lStatement;
+    if (setterName != null) {
+      lStatement = pObject + '.' + setterName + '(' + pValue + ");";
+    }
+    else {
+      lStatement = pObject + '.' + this.getFieldName() + " = " + pValue + ';';
+    }
+    return lStatement;
+  }
+}
@@ -0,0 +1,188 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.anaptecs.jeaf.json.annotations.GenerateSerializers;
+import com.anaptecs.jeaf.json.annotations.ModuleFactory;
+
+/**
+ * Annotation processor generates serializers and deserializers for all classes that are annotated with
+ * {@link GenerateSerializers}. For every package a module factory is generated that registers them. Generated module
+ * factories are annotated with {@link ModuleFactory}, so they are found by the JEAF configuration generation like all
+ * other module factories. Applications that do not use it can set option
+ * <code>-Ajeaf.json.moduleFactoryConfig=true</code>. Then the generated module factories are added to the resource that
+ * is read by JSON Tools to find module factories (see {@link ModuleFactory#MODULE_FACTORY_CONFIG_PATH}). Entries that
+ * are already contained in the resource in the class output are kept.
+ *
+ * @author JEAF Development Team
+ */
+public class SerializerProcessor extends AbstractProcessor {
+  /**
+   * Name of the option that defines whether the generated module factories are added to the module factory
+   * configuration resource. By default the resource is not written.
+   */
+  public static final String MODULE_FACTORY_CONFIG_OPTION = "jeaf.json.moduleFactoryConfig";
+
+  /**
+   * Fully qualified names of all generated module factories.
+   */
+  private final Set<String> moduleFactories = new TreeSet<>();
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes( ) {
+    return Collections.singleton(GenerateSerializers.class.getName());
+  }
+
+  @Override
+  public Set<String> getSupportedOptions( ) {
+    return Collections.singleton(MODULE_FACTORY_CONFIG_OPTION);
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion( ) {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process( Set<? extends TypeElement> pAnnotations, RoundEnvironment pRoundEnvironment ) {
+    // Collect all annotated DTOs of this round per package.
+    Map<String, List<DTOModel>> lPackages = new TreeMap<>();
+    for (Element lElement : pRoundEnvironment.getElementsAnnotatedWith(GenerateSerializers.class)) {
+      if (lElement instanceof TypeElement) {
+        DTOModel lModel = DTOModel.create((TypeElement) lElement, processingEnv);
+        if (lModel != null) {
+          lPackages.computeIfAbsent(lModel.getPackageName(), k -> new ArrayList<>()).add(lModel);
+        }
+      }
+    }
+
+    // Generate code for all packages.
+    SourceGenerator lGenerator = new SourceGenerator(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+    for (Map.Entry<String, List<DTOModel>> lEntry : lPackages.entrySet()) {
+      String lPackageName = lEntry.getKey();
+      List<DTOModel> lModels = lEntry.getValue();
+      String lFactoryName = qualify(lPackageName, SourceGenerator.MODULE_FACTORY_NAME);
+      if (moduleFactories.add(lFactoryName)) {
+        for (DTOModel lModel : lModels) {
+          String lPrefix = qualify(lPackageName, lModel.getGeneratedNamePrefix());
+          if (lModel.isSerializer()) {
+            this.writeSource(lPrefix + SourceGenerator.SERIALIZER_SUFFIX, lGenerator.generateSerializer(lModel),
+                lModel.getType());
+          }
+          if (lModel.isDeserializer()) {
+            this.writeSource(lPrefix + SourceGenerator.DESERIALIZER_SUFFIX, lGenerator.generateDeserializer(lModel),
+                lModel.getType());
+          }
+        }
+        this.writeSource(lFactoryName, lGenerator.generateModuleFactory(lPackageName, lModels),
+            this.getOriginatingElements(lModels));
+      }
+      // Module factory can not be extended once it was generated.
+      else {
+        for (DTOModel lModel : lModels) {
+          processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Serializers of package '" + lPackageName
+              + "' were already generated in a previous round. Generated classes must not use @GenerateSerializers.",
+              lModel.getType());
+        }
+      }
+    }
+
+    // Write configuration resource once all rounds are done.
+    if (pRoundEnvironment.processingOver() && moduleFactories.isEmpty() == false
+        && Boolean.parseBoolean(processingEnv.getOptions().getOrDefault(MODULE_FACTORY_CONFIG_OPTION, "false"))) {
+      this.writeModuleFactoryConfig();
+    }
+    return true;
+  }
+
+  private void writeSource( String pClassName, String pSource, Element... pOriginatingElements ) {
+    Filer lFiler = processingEnv.getFiler();
+    try (Writer lWriter = lFiler.createSourceFile(pClassName, pOriginatingElements).openWriter()) {
+      lWriter.write(pSource);
+    }
+    catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "Unable to write generated class " + pClassName + ": " + e.getMessage(), pOriginatingElements[0]);
+    }
+  }
+
+  private void writeModuleFactoryConfig( ) {
+    try {
+      // Keep entries of resources from the application or other tools as well as of previous compilations.
+      Set<String> lFactories = new LinkedHashSet<>(this.readModuleFactoryConfig());
+      lFactories.addAll(moduleFactories);
+      FileObject lResource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+          ModuleFactory.MODULE_FACTORY_CONFIG_PATH);
+      try (Writer lWriter = new OutputStreamWriter(lResource.openOutputStream(), StandardCharsets.UTF_8)) {
+        for (String lFactory : lFactories) {
+          lWriter.write(lFactory);
+          lWriter.write('\n');
+        }
+      }
+    }
+    catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "Unable to write " + ModuleFactory.MODULE_FACTORY_CONFIG_PATH + ": " + e.getMessage());
+    }
+  }
+
+  private List<String> readModuleFactoryConfig( ) {
+    List<String> lFactories = new ArrayList<>();
+    try {
+      FileObject lResource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "",
+          ModuleFactory.MODULE_FACTORY_CONFIG_PATH);
+      try (BufferedReader lReader = new BufferedReader(lResource.openReader(true))) {
+        String lLine;
+        while ((lLine = lReader.readLine()) != null) {
+          if (lLine.trim().isEmpty() == false) {
+            lFactories.add(lLine.trim());
+          }
+        }
+      }
+    }
+    // There is no resource yet.
+    catch (IOException e) {
+      lFactories.clear();
+    }
+    return lFactories;
+  }
+
+  private Element[] getOriginatingElements( List<DTOModel> pModels ) {
+    Element[] lElements = new Element[pModels.size()];
+    for (int i = 0; i < lElements.length; i++) {
+      lElements[i] = pModels.get(i).getType();
+    }
+    return lElements;
+  }
+
+  private static String qualify( String pPackageName, String pSimpleName ) {
+    return pPackageName.isEmpty() ? pSimpleName : pPackageName + '.' + pSimpleName;
+  }
+}
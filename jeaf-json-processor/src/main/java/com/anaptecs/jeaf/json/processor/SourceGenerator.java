@@ -0,0 +1,601 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.processor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Class generates the source code of serializers, deserializers and module factories. Generated code only uses fully
+ * qualified names for DTOs and property types so that it can not clash with other classes of the DTO's package.
+ *
+ * @author JEAF Development Team
+ */
+final class SourceGenerator {
+  /**
+   * Suffix of generated serializers.
+   */
+  static final String SERIALIZER_SUFFIX = "JSONSerializer";
+
+  /**
+   * Suffix of generated deserializers.
+   */
+  static final String DESERIALIZER_SUFFIX = "JSONDeserializer";
+
+  /**
+   * Name of the generated module factory of each package.
+   */
+  static final String MODULE_FACTORY_NAME = "JSONSerializersModuleFactory";
+
+  /**
+   * Value of the @Generated annotation of all generated classes.
+   */
+  private static final String GENERATED = "@Generated(\"" + SerializerProcessor.class.getName() + "\")";
+
+  /**
+   * Utilities to work with types.
+   */
+  private final Types types;
+
+  /**
+   * Type of interface java.util.Collection.
+   */
+  private final TypeMirror collectionType;
+
+  /**
+   * Type of interface java.util.Map.
+   */
+  private final TypeMirror mapType;
+
+  /**
+   * Initialize object.
+   *
+   * @param pElements Utilities to work with elements. The parameter must not be null.
+   * @param pTypes Utilities to work with types. The parameter must not be null.
+   */
+  SourceGenerator( Elements pElements, Types pTypes ) {
+    types = pTypes;
+    collectionType = pTypes.erasure(pElements.getTypeElement("java.util.Collection").asType());
+    mapType = pTypes.erasure(pElements.getTypeElement("java.util.Map").asType());
+  }
+
+  /**
+   * Method generates the serializer for the passed DTO.
+   *
+   * @param pModel DTO for which the serializer should be generated. The parameter must not be null.
+   * @return {@link String} Source code of the serializer. The method never returns null.
+   */
+  String generateSerializer( DTOModel pModel ) {
+    String lDTO = pModel.getCanonicalName();
+    String lClassName = pModel.getGeneratedNamePrefix() + SERIALIZER_SUFFIX;
+    Map<PropertyModel, String> lConstants = this.createNameConstants(pModel.getProperties());
+
+    StringBuilder lSource = new StringBuilder();
+    this.appendHeader(lSource, pModel.getPackageName());
+    lSource.append("import javax.annotation.processing.Generated;\n\n");
+    lSource.append("import com.fasterxml.jackson.annotation.JsonInclude;\n");
+    lSource.append("import tools.jackson.core.JsonGenerator;\n");
+    lSource.append("import tools.jackson.core.JsonToken;\n");
+    lSource.append("import tools.jackson.core.SerializableString;\n");
+    lSource.append("import tools.jackson.core.io.SerializedString;\n");
+    lSource.append("import tools.jackson.core.type.WritableTypeId;\n");
+    lSource.append("import tools.jackson.databind.MapperFeature;\n");
+    lSource.append("import tools.jackson.databind.SerializationContext;\n");
+    lSource.append("import tools.jackson.databind.jsontype.TypeSerializer;\n");
+    lSource.append("import tools.jackson.databind.ser.std.StdSerializer;\n\n");
+    lSource.append("/**\n * Serializer for {@link ").append(lDTO);
+    lSource.append("}. The class is generated and must not be changed.\n */\n").append(GENERATED).append('\n');
+    lSource.append("public final class ").append(lClassName).append(" extends StdSerializer<").append(lDTO);
+    lSource.append("> {\n");
+    for (PropertyModel lProperty : pModel.getProperties()) {
+      lSource.append("  private static final SerializableString ").append(lConstants.get(lProperty));
+      lSource.append(" = new SerializedString(\"").append(escape(lProperty.getJSONName())).append("\");\n\n");
+    }
+    lSource.append("  private final boolean writeNulls;\n\n");
+    lSource.append("  private final boolean writeAbsent;\n\n");
+    lSource.append("  private final boolean writeEmpty;\n\n");
+    lSource.append("  public ").append(lClassName).append("( ) {\n");
+    lSource.append("    this(JsonInclude.Include.NON_EMPTY);\n  }\n\n");
+    lSource.append("  public ").append(lClassName).append("( JsonInclude.Include pInclusion ) {\n");
+    lSource.append("    super(").append(lDTO).append(".class);\n");
+    lSource.append("    writeNulls = pInclusion == JsonInclude.Include.ALWAYS;\n");
+    lSource.append("    writeAbsent = writeNulls || pInclusion == JsonInclude.Include.NON_NULL;\n");
+    lSource.append("    writeEmpty = writeAbsent || pInclusion == JsonInclude.Include.NON_ABSENT;\n  }\n\n");
+    lSource.append("  @Override\n");
+    lSource.append("  public void serialize( ").append(lDTO);
+    lSource.append(" pValue, JsonGenerator pGenerator, SerializationContext pContext ) {\n");
+    lSource.append("    pGenerator.writeStartObject(pValue);\n");
+    lSource.append("    this.writeProperties(pValue, pGenerator, pContext);\n");
+    lSource.append("    pGenerator.writeEndObject();\n  }\n\n");
+
+    // Type ids are written by the type serializer the same way as for Jackson's bean serializer.
+    lSource.append("  @Override\n");
+    lSource.append("  public void serializeWithType( ").append(lDTO);
+    lSource.append(" pValue, JsonGenerator pGenerator, SerializationContext pContext,\n");
+    lSource.append("      TypeSerializer pTypeSerializer ) {\n");
+    lSource.append("    WritableTypeId lTypeID = pTypeSerializer.writeTypePrefix(pGenerator, pContext,\n");
+    lSource.append("        pTypeSerializer.typeId(pValue, JsonToken.START_OBJECT));\n");
+    lSource.append("    pGenerator.assignCurrentValue(pValue);\n");
+    lSource.append("    this.writeProperties(pValue, pGenerator, pContext);\n");
+    lSource.append("    pTypeSerializer.writeTypeSuffix(pGenerator, pContext, lTypeID);\n  }\n\n");
+
+    // Properties are written in the order of Jackson's default which sorts them alphabetically.
+    lSource.append("  private void writeProperties( ").append(lDTO);
+    lSource.append(" pValue, JsonGenerator pGenerator, SerializationContext pContext ) {\n");
+    lSource.append("    // Within views properties without a view are only written if they are included by default.\n");
+    lSource.append("    if (pContext.getActiveView() != null\n");
+    lSource.append("        && pContext.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION) == false) {\n");
+    lSource.append("      return;\n    }\n");
+    for (PropertyModel lProperty : pModel.getSortedProperties()) {
+      this.appendWriteProperty(lSource, lProperty, lConstants.get(lProperty));
+    }
+    lSource.append("  }\n}\n");
+    return lSource.toString();
+  }
+
+  /**
+   * Method generates the deserializer for the passed DTO.
+   *
+   * @param pModel DTO for which the deserializer should be generated. The parameter must not be null.
+   * @return {@link String} Source code of the deserializer. The method never returns null.
+   */
+  String generateDeserializer( DTOModel pModel ) {
+    String lDTO = pModel.getCanonicalName();
+    String lClassName = pModel.getGeneratedNamePrefix() + DESERIALIZER_SUFFIX;
+
+    // Properties with generic types are read using JavaTypes that are resolved once.
+    Map<PropertyModel, String> lJavaTypes = new LinkedHashMap<>();
+    for (PropertyModel lProperty : pModel.getProperties()) {
+      if (this.hasTypeArguments(lProperty.getType())) {
+        lJavaTypes.put(lProperty, lProperty.getFieldName() + "Type");
+      }
+    }
+
+    StringBuilder lSource = new StringBuilder();
+    this.appendHeader(lSource, pModel.getPackageName());
+    lSource.append("import javax.annotation.processing.Generated;\n\n");
+    lSource.append("import tools.jackson.core.JsonParser;\n");
+    lSource.append("import tools.jackson.core.JsonToken;\n");
+    lSource.append("import tools.jackson.databind.DeserializationContext;\n");
+    if (lJavaTypes.isEmpty() == false) {
+      lSource.append("import tools.jackson.databind.JavaType;\n");
+    }
+    lSource.append("import tools.jackson.databind.deser.std.StdDeserializer;\n");
+    if (lJavaTypes.isEmpty() == false) {
+      lSource.append("import tools.jackson.databind.type.TypeFactory;\n");
+    }
+    lSource.append("\n/**\n * Deserializer for {@link ").append(lDTO);
+    lSource.append("}. The class is generated and must not be changed.\n */\n").append(GENERATED).append('\n');
+    lSource.append("public final class ").append(lClassName).append(" extends StdDeserializer<").append(lDTO);
+    lSource.append("> {\n");
+    for (String lField : lJavaTypes.values()) {
+      lSource.append("  private JavaType ").append(lField).append(";\n\n");
+    }
+    lSource.append("  public ").append(lClassName).append("( ) {\n");
+    lSource.append("    super(").append(lDTO).append(".class);\n  }\n\n");
+    if (lJavaTypes.isEmpty() == false) {
+      lSource.append("  @Override\n  public void resolve( DeserializationContext pContext ) {\n");
+      lSource.append("    TypeFactory lTypeFactory = pContext.getTypeFactory();\n");
+      for (Map.Entry<PropertyModel, String> lEntry : lJavaTypes.entrySet()) {
+        lSource.append("    ").append(lEntry.getValue()).append(" = ");
+        lSource.append(this.javaTypeExpression(lEntry.getKey().getType())).append(";\n");
+      }
+      lSource.append("  }\n\n");
+    }
+    lSource.append("  @Override\n");
+    lSource.append("  public ").append(lDTO);
+    lSource.append(" deserialize( JsonParser pParser, DeserializationContext pContext ) {\n");
+    lSource.append("    String lName;\n");
+    lSource.append("    if (pParser.isExpectedStartObjectToken()) {\n      lName = pParser.nextName();\n    }\n");
+    lSource.append("    else if (pParser.hasToken(JsonToken.PROPERTY_NAME)) {\n");
+    lSource.append("      lName = pParser.currentName();\n    }\n");
+    lSource.append("    else {\n      return (").append(lDTO).append(") pContext.handleUnexpectedToken(").append(lDTO);
+    lSource.append(".class, pParser);\n    }\n\n");
+    lSource.append("    ").append(lDTO).append(" lObject = new ").append(lDTO).append("();\n");
+    lSource.append("    while (lName != null) {\n");
+    lSource.append("      pParser.nextToken();\n");
+    lSource.append("      switch (lName) {\n");
+    for (PropertyModel lProperty : pModel.getProperties()) {
+      lSource.append("        case \"").append(escape(lProperty.getJSONName())).append("\": {\n");
+      this.appendReadProperty(lSource, lProperty, lJavaTypes.get(lProperty));
+      lSource.append("          break;\n        }\n\n");
+    }
+    lSource.append("        default:\n");
+    lSource.append("          pContext.handleUnknownProperty(pParser, this, lObject, lName);\n");
+    lSource.append("      }\n");
+    lSource.append("      lName = pParser.nextName();\n");
+    lSource.append("    }\n");
+    lSource.append("    return lObject;\n  }\n}\n");
+    return lSource.toString();
+  }
+
+  /**
+   * Method generates the module factory that registers all generated classes of one package.
+   *
+   * @param pPackageName Name of the package. The parameter must not be null.
+   * @param pModels DTOs of the package. The parameter must not be null.
+   * @return {@link String} Source code of the module factory. The method never returns null.
+   */
+  String generateModuleFactory( String pPackageName, List<DTOModel> pModels ) {
+    List<DTOModel> lSerializers = new ArrayList<>();
+    for (DTOModel lModel : pModels) {
+      if (lModel.isSerializer()) {
+        lSerializers.add(lModel);
+      }
+    }
+
+    StringBuilder lSource = new StringBuilder();
+    this.appendHeader(lSource, pPackageName);
+    lSource.append("import javax.annotation.processing.Generated;\n\n");
+    lSource.append("import com.anaptecs.jeaf.json.annotations.ModuleFactory;\n");
+    lSource.append("import com.anaptecs.jeaf.json.api.ObjectMapperModuleFactory;\n");
+    if (lSerializers.isEmpty() == false) {
+      lSource.append("import com.fasterxml.jackson.annotation.JsonFormat;\n");
+      lSource.append("import com.fasterxml.jackson.annotation.JsonInclude;\n");
+      lSource.append("import tools.jackson.databind.AnnotationIntrospector;\n");
+      lSource.append("import tools.jackson.databind.BeanDescription;\n");
+    }
+    lSource.append("import tools.jackson.databind.JacksonModule;\n");
+    if (lSerializers.isEmpty() == false) {
+      lSource.append("import tools.jackson.databind.JavaType;\n");
+      lSource.append("import tools.jackson.databind.SerializationConfig;\n");
+      lSource.append("import tools.jackson.databind.ValueSerializer;\n");
+      lSource.append("import tools.jackson.databind.introspect.AnnotatedClass;\n");
+    }
+    lSource.append("import tools.jackson.databind.module.SimpleModule;\n");
+    if (lSerializers.isEmpty() == false) {
+      lSource.append("import tools.jackson.databind.module.SimpleSerializers;\n");
+    }
+    lSource.append("\n/**\n * Module factory registers the generated serializers and deserializers of this package.\n");
+    lSource.append(" * The class is generated and must not be changed.\n */\n").append(GENERATED).append('\n');
+    lSource.append("@ModuleFactory\n");
+    lSource.append("public final class ").append(MODULE_FACTORY_NAME);
+    lSource.append(" implements ObjectMapperModuleFactory {\n");
+    lSource.append("  @Override\n  public JacksonModule createModule( ) {\n");
+    lSource.append("    SimpleModule lModule = new SimpleModule(").append(MODULE_FACTORY_NAME);
+    lSource.append(".class.getName());\n");
+    if (lSerializers.isEmpty() == false) {
+      lSource.append("    lModule.setSerializers(new GeneratedSerializers());\n");
+    }
+    for (DTOModel lModel : pModels) {
+      if (lModel.isDeserializer()) {
+        lSource.append("    lModule.addDeserializer(").append(lModel.getCanonicalName()).append(".class, new ");
+        lSource.append(lModel.getGeneratedNamePrefix()).append(DESERIALIZER_SUFFIX).append("());\n");
+      }
+    }
+    lSource.append("    return lModule;\n  }\n");
+    if (lSerializers.isEmpty() == false) {
+      this.appendGeneratedSerializers(lSource, lSerializers);
+    }
+    lSource.append("}\n");
+    return lSource.toString();
+  }
+
+  /**
+   * Method appends the nested class that provides the generated serializers. Serializers are created with the property
+   * inclusion of the object mapper. No serializer is returned, so that Jackson's bean serializer is used instead, for
+   * DTOs with a property filter or a shape other than an object, for inclusions that are not supported by generated
+   * code, for mappers with a naming strategy or mix-ins and for mappers that do not sort properties alphabetically if
+   * this changes the order of the DTO's properties.
+   */
+  private void appendGeneratedSerializers( StringBuilder pSource, List<DTOModel> pSerializers ) {
+    pSource.append("\n  /**\n   * Serializers are only used if the generated code writes the same result as Jackson's");
+    pSource.append(" bean serializer.\n   */\n");
+    pSource.append("  private static final class GeneratedSerializers extends SimpleSerializers {\n");
+    pSource.append("    private static final long serialVersionUID = 1L;\n\n");
+    pSource.append("    @Override\n");
+    pSource.append("    public ValueSerializer<?> findSerializer( SerializationConfig pConfig, JavaType pType,\n");
+    pSource.append("        BeanDescription.Supplier pBeanDescription, JsonFormat.Value pFormat ) {\n");
+    pSource.append("      Class<?> lClass = pType.getRawClass();\n");
+    pSource.append("      ValueSerializer<?> lSerializer = null;\n");
+    String lElse = "      ";
+    for (DTOModel lModel : pSerializers) {
+      pSource.append(lElse).append("if (lClass == ").append(lModel.getCanonicalName()).append(".class) {\n");
+      pSource.append("        JsonInclude.Include lInclusion = getInclusion(pConfig, pBeanDescription, pFormat);\n");
+      if (lModel.isSortingIrrelevant()) {
+        pSource.append("        if (lInclusion != null) {\n");
+      }
+      else {
+        pSource.append("        if (lInclusion != null && pConfig.shouldSortPropertiesAlphabetically()) {\n");
+      }
+      pSource.append("          lSerializer = new ").append(lModel.getGeneratedNamePrefix()).append(SERIALIZER_SUFFIX);
+      pSource.append("(lInclusion);\n");
+      pSource.append("        }\n");
+      pSource.append("      }\n");
+      lElse = "      else ";
+    }
+    pSource.append("      return lSerializer;\n    }\n\n");
+    pSource.append("    private static JsonInclude.Include getInclusion( SerializationConfig pConfig,\n");
+    pSource.append("        BeanDescription.Supplier pBeanDescription, JsonFormat.Value pFormat ) {\n");
+    pSource.append("      AnnotationIntrospector lIntrospector = pConfig.getAnnotationIntrospector();\n");
+    pSource.append("      AnnotatedClass lClassInfo = pBeanDescription.getClassInfo();\n");
+    pSource.append("      JsonInclude.Include lInclusion;\n");
+    pSource.append("      if (pConfig.getPropertyNamingStrategy() != null || pConfig.hasMixIns()\n");
+    pSource.append("          || (pFormat != null && pFormat.getShape() == JsonFormat.Shape.ARRAY)\n");
+    pSource.append("          || lIntrospector.findFilterId(pConfig, lClassInfo) != null) {\n");
+    pSource.append("        lInclusion = null;\n");
+    pSource.append("      }\n");
+    pSource.append("      else {\n");
+    pSource.append("        // Type specific configuration overrides @JsonInclude of the class which overrides the");
+    pSource.append(" default.\n");
+    pSource.append("        JsonInclude.Value lClassInclusion = JsonInclude.Value.merge(\n");
+    pSource.append("            lIntrospector.findPropertyInclusion(pConfig, lClassInfo),\n");
+    pSource.append("            pConfig.getDefaultPropertyInclusion(pBeanDescription.getBeanClass(), ");
+    pSource.append("JsonInclude.Value.empty()));\n");
+    pSource.append("        lInclusion = JsonInclude.Value.merge(pConfig.getDefaultPropertyInclusion(), ");
+    pSource.append("lClassInclusion).getValueInclusion();\n");
+    pSource.append("        switch (lInclusion) {\n");
+    pSource.append("          case ALWAYS:\n");
+    pSource.append("          case USE_DEFAULTS:\n");
+    pSource.append("            lInclusion = JsonInclude.Include.ALWAYS;\n");
+    pSource.append("            break;\n\n");
+    pSource.append("          case NON_NULL:\n");
+    pSource.append("          case NON_ABSENT:\n");
+    pSource.append("          case NON_EMPTY:\n");
+    pSource.append("            break;\n\n");
+    pSource.append("          default:\n");
+    pSource.append("            lInclusion = null;\n");
+    pSource.append("        }\n");
+    pSource.append("      }\n");
+    pSource.append("      return lInclusion;\n    }\n  }\n");
+  }
+
+  private void appendHeader( StringBuilder pSource, String pPackageName ) {
+    if (pPackageName.isEmpty() == false) {
+      pSource.append("package ").append(pPackageName).append(";\n\n");
+    }
+  }
+
+  private void appendWriteProperty( StringBuilder pSource, PropertyModel pProperty, String pConstant ) {
+    TypeMirror lType = pProperty.getType();
+    String lRead = pProperty.getReadExpression("pValue");
+    if (lType.getKind().isPrimitive()) {
+      pSource.append("    pGenerator.writeName(").append(pConstant).append(");\n");
+      pSource.append("    ").append(this.writeScalar(lType.getKind(), lRead)).append(";\n");
+    }
+    else {
+      // Null, absent and empty values are written depending on the property inclusion of the serializer.
+      String lVariable = "l" + DTOModel.capitalize(pProperty.getFieldName());
+      pSource.append("    ").append(this.typeName(lType)).append(' ').append(lVariable).append(" = ").append(lRead);
+      pSource.append(";\n");
+      pSource.append("    if (").append(lVariable).append(" == null) {\n");
+      pSource.append("      if (writeNulls) {\n");
+      pSource.append("        pGenerator.writeName(").append(pConstant).append(");\n");
+      pSource.append("        pGenerator.writeNull();\n");
+      pSource.append("      }\n");
+      pSource.append("    }\n");
+      if (this.isType(lType, "java.lang.String") || this.isCollectionOrMap(lType)) {
+        pSource.append("    else if (writeEmpty || ").append(lVariable).append(".isEmpty() == false) {\n");
+      }
+      else if (lType.getKind() == TypeKind.ARRAY) {
+        pSource.append("    else if (writeEmpty || ").append(lVariable).append(".length > 0) {\n");
+      }
+      else if (this.isType(lType, "java.util.Optional")) {
+        pSource.append("    else if (writeAbsent || ").append(lVariable).append(".isPresent()) {\n");
+      }
+      else {
+        pSource.append("    else {\n");
+      }
+      pSource.append("      pGenerator.writeName(").append(pConstant).append(");\n");
+      TypeKind lUnboxedKind = this.getUnboxedKind(lType);
+      String lWrite;
+      if (lUnboxedKind != null) {
+        lWrite = this.writeScalar(lUnboxedKind, lVariable);
+      }
+      else if (this.isType(lType, "java.lang.String") || this.isType(lType, "java.math.BigDecimal")
+          || this.isType(lType, "java.math.BigInteger")) {
+        String lMethod = this.isType(lType, "java.lang.String") ? "writeString" : "writeNumber";
+        lWrite = "pGenerator." + lMethod + '(' + lVariable + ')';
+      }
+      else {
+        lWrite = "pContext.writeValue(pGenerator, " + lVariable + ')';
+      }
+      pSource.append("      ").append(lWrite).append(";\n");
+      pSource.append("    }\n");
+    }
+  }
+
+  private String writeScalar( TypeKind pKind, String pValue ) {
+    String lWrite;
+    switch (pKind) {
+      case BOOLEAN:
+        lWrite = "pGenerator.writeBoolean(" + pValue + ')';
+        break;
+
+      case CHAR:
+        lWrite = "pGenerator.writeString(String.valueOf(" + pValue + "))";
+        break;
+
+      default:
+        lWrite = "pGenerator.writeNumber(" + pValue + ')';
+    }
+    return lWrite;
+  }
+
+  private void appendReadProperty( StringBuilder pSource, PropertyModel pProperty, String pJavaTypeField ) {
+    TypeMirror lType = pProperty.getType();
+    String lValue;
+    switch (lType.getKind()) {
+      case BOOLEAN:
+      case BYTE:
+      case SHORT:
+      case INT:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+        String lKind = lType.getKind().name().toLowerCase(Locale.ROOT);
+        lValue = "_parse" + DTOModel.capitalize(lKind) + "Primitive(pParser, pContext)";
+        break;
+
+      case CHAR:
+        // Null values keep the default value as it is done for all other primitives.
+        pSource.append("          Character lCharacter = pContext.readValue(pParser, Character.class);\n");
+        pSource.append("          if (lCharacter != null) {\n");
+        pSource.append("            ").append(pProperty.getWriteStatement("lObject", "lCharacter")).append('\n');
+        pSource.append("          }\n");
+        lValue = null;
+        break;
+
+      default:
+        if (this.isType(lType, "java.lang.String")) {
+          lValue = "pParser.hasToken(JsonToken.VALUE_NULL) ? null : _parseString(pParser, pContext, this)";
+        }
+        else if (pJavaTypeField != null) {
+          lValue = "pParser.hasToken(JsonToken.VALUE_NULL) ? null : pContext.readValue(pParser, " + pJavaTypeField
+              + ')';
+        }
+        else {
+          lValue = "pParser.hasToken(JsonToken.VALUE_NULL) ? null : pContext.readValue(pParser, "
+              + this.typeName(types.erasure(lType)) + ".class)";
+        }
+    }
+    if (lValue != null) {
+      pSource.append("          ").append(pProperty.getWriteStatement("lObject", lValue)).append('\n');
+    }
+  }
+
+  private Map<PropertyModel, String> createNameConstants( List<PropertyModel> pProperties ) {
+    Map<PropertyModel, String> lConstants = new LinkedHashMap<>();
+    Set<String> lUsed = new HashSet<>();
+    for (PropertyModel lProperty : pProperties) {
+      StringBuilder lName = new StringBuilder();
+      String lFieldName = lProperty.getFieldName();
+      for (int i = 0; i < lFieldName.length(); i++) {
+        char lChar = lFieldName.charAt(i);
+        if (Character.isUpperCase(lChar) && i > 0 && Character.isUpperCase(lFieldName.charAt(i - 1)) == false) {
+          lName.append('_');
+        }
+        lName.append(Character.isJavaIdentifierPart(lChar) ? Character.toUpperCase(lChar) : '_');
+      }
+      String lConstant = lName.toString();
+      for (int i = 2; lUsed.add(lConstant) == false; i++) {
+        lConstant = lName.toString() + '_' + i;
+      }
+      lConstants.put(lProperty, lConstant);
+    }
+    return lConstants;
+  }
+
+  private String typeName( TypeMirror pType ) {
+    String lName;
+    switch (pType.getKind()) {
+      case ARRAY:
+        lName = this.typeName(((ArrayType) pType).getComponentType()) + "[]";
+        break;
+
+      case DECLARED:
+        DeclaredType lDeclaredType = (DeclaredType) pType;
+        StringBuilder lBuilder = new StringBuilder();
+        lBuilder.append(types.erasure(pType).toString());
+        List<String> lArguments = new ArrayList<>();
+        for (TypeMirror lArgument : lDeclaredType.getTypeArguments()) {
+          lArguments.add(this.typeName(lArgument));
+        }
+        if (lArguments.isEmpty() == false) {
+          lBuilder.append('<').append(String.join(", ", lArguments)).append('>');
+        }
+        lName = lBuilder.toString();
+        break;
+
+      case WILDCARD:
+        WildcardType lWildcard = (WildcardType) pType;
+        if (lWildcard.getExtendsBound() != null) {
+          lName = "? extends " + this.typeName(lWildcard.getExtendsBound());
+        }
+        else if (lWildcard.getSuperBound() != null) {
+          lName = "? super " + this.typeName(lWildcard.getSuperBound());
+        }
+        else {
+          lName = "?";
+        }
+        break;
+
+      case TYPEVAR:
+        lName = this.typeName(types.erasure(pType));
+        break;
+
+      default:
+        lName = pType.getKind().isPrimitive() ? pType.getKind().name().toLowerCase(Locale.ROOT) : pType.toString();
+    }
+    return lName;
+  }
+
+  private String javaTypeExpression( TypeMirror pType ) {
+    String lExpression;
+    if (this.hasTypeArguments(pType) == false) {
+      lExpression = "lTypeFactory.constructType(" + this.typeName(types.erasure(pType)) + ".class)";
+    }
+    else if (pType.getKind() == TypeKind.ARRAY) {
+      lExpression = "lTypeFactory.constructArrayType("
+          + this.javaTypeExpression(((ArrayType) pType).getComponentType()) + ')';
+    }
+    else {
+      List<String> lArguments = new ArrayList<>();
+      for (TypeMirror lArgument : ((DeclaredType) pType).getTypeArguments()) {
+        TypeMirror lBound = lArgument;
+        if (lArgument.getKind() == TypeKind.WILDCARD) {
+          lBound = ((WildcardType) lArgument).getExtendsBound();
+        }
+        lArguments.add(lBound != null ? this.javaTypeExpression(lBound) : "lTypeFactory.constructType(Object.class)");
+      }
+      lExpression = "lTypeFactory.constructParametricType(" + this.typeName(types.erasure(pType)) + ".class, "
+          + String.join(", ", lArguments) + ')';
+    }
+    return lExpression;
+  }
+
+  private boolean hasTypeArguments( TypeMirror pType ) {
+    boolean lHasArguments;
+    if (pType.getKind() == TypeKind.ARRAY) {
+      lHasArguments = this.hasTypeArguments(((ArrayType) pType).getComponentType());
+    }
+    else if (pType.getKind() == TypeKind.DECLARED) {
+      lHasArguments = ((DeclaredType) pType).getTypeArguments().isEmpty() == false;
+    }
+    else {
+      lHasArguments = false;
+    }
+    return lHasArguments;
+  }
+
+  private boolean isType( TypeMirror pType, String pClassName ) {
+    return pType.getKind() == TypeKind.DECLARED && types.erasure(pType).toString().equals(pClassName);
+  }
+
+  private boolean isCollectionOrMap( TypeMirror pType ) {
+    TypeMirror lErasure = types.erasure(pType);
+    return pType.getKind() == TypeKind.DECLARED
+        && (types.isAssignable(lErasure, collectionType) || types.isAssignable(lErasure, mapType));
+  }
+
+  private TypeKind getUnboxedKind( TypeMirror pType ) {
+    TypeKind lKind;
+    try {
+      lKind = types.unboxedType(pType).getKind();
+    }
+    catch (IllegalArgumentException e) {
+      lKind = null;
+    }
+    return lKind;
+  }
+
+  private static String escape( String pValue ) {
+    return pValue.replace("\\", "\\\\").replace("\"", "\\\"");
+  }
+}
@@ -0,0 +1,276 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.processor.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import com.anaptecs.jeaf.json.annotations.ModuleFactory;
+import com.anaptecs.jeaf.json.api.FieldProjection;
+import com.anaptecs.jeaf.json.api.ObjectMapperModuleFactory;
+import com.anaptecs.jeaf.json.processor.SerializerProcessor;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.exc.UnrecognizedPropertyException;
+import tools.jackson.databind.json.JsonMapper;
+
+public class SerializerProcessorTest {
+  private static final String SAMPLE_PACKAGE = "com.anaptecs.jeaf.json.processor.sample";
+
+  @Test
+  void testGeneratedSerializers( ) throws Exception {
+    Path lOutput = Files.createTempDirectory("jeaf-json-processor");
+    DiagnosticCollector<JavaFileObject> lDiagnostics = new DiagnosticCollector<>();
+    assertTrue(this.compile("sample", lOutput, lDiagnostics, Collections.emptyList()), lDiagnostics.getDiagnostics()
+        .toString());
+
+    // Check generated classes and configuration resource.
+    Path lPackage = lOutput.resolve(SAMPLE_PACKAGE.replace('.', '/'));
+    assertTrue(Files.exists(lPackage.resolve("AddressJSONSerializer.class")));
+    assertTrue(Files.exists(lPackage.resolve("AddressJSONDeserializer.class")));
+    assertTrue(Files.exists(lPackage.resolve("Customer_NoteJSONSerializer.class")));
+    assertFalse(Files.exists(lPackage.resolve("Customer_NoteJSONDeserializer.class")));
+    assertFalse(Files.exists(lPackage.resolve("PartyJSONSerializer.class")));
+    assertFalse(Files.exists(lOutput.resolve(ModuleFactory.MODULE_FACTORY_CONFIG_PATH)));
+
+    // Existing entries of the configuration resource are kept.
+    Path lConfigOutput = Files.createTempDirectory("jeaf-json-processor");
+    Path lConfig = lConfigOutput.resolve(ModuleFactory.MODULE_FACTORY_CONFIG_PATH);
+    Files.createDirectories(lConfig.getParent());
+    String lOtherFactory = "com.anaptecs.jeaf.json.other.OtherModuleFactory";
+    Files.write(lConfig, Arrays.asList(lOtherFactory), StandardCharsets.UTF_8);
+    assertTrue(this.compile("sample", lConfigOutput, lDiagnostics, Collections.emptyList(),
+        "-A" + SerializerProcessor.MODULE_FACTORY_CONFIG_OPTION + "=true"), lDiagnostics.getDiagnostics().toString());
+    assertEquals(Arrays.asList(lOtherFactory, SAMPLE_PACKAGE + ".JSONSerializersModuleFactory"),
+        Files.readAllLines(lConfig, StandardCharsets.UTF_8));
+
+    try (URLClassLoader lClassLoader = new URLClassLoader(new URL[] { lOutput.toUri().toURL() },
+        this.getClass().getClassLoader())) {
+      Class<?> lFactoryClass = lClassLoader.loadClass(SAMPLE_PACKAGE + ".JSONSerializersModuleFactory");
+      assertTrue(lFactoryClass.isAnnotationPresent(ModuleFactory.class));
+      ObjectMapperModuleFactory lFactory =
+          (ObjectMapperModuleFactory) lFactoryClass.getDeclaredConstructor().newInstance();
+      ObjectMapper lMapper = JsonMapper.builder().addModule(lFactory.createModule())
+          .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+          .changeDefaultPropertyInclusion(i -> i.withValueInclusion(JsonInclude.Include.NON_EMPTY)).build();
+      Class<?> lCustomerClass = lClassLoader.loadClass(SAMPLE_PACKAGE + ".Customer");
+
+      // Round trip with all kinds of properties. Empty values are not written and properties are sorted.
+      String lJSON = "{\"addresses\":[{\"country\":\"D\",\"primary\":true,\"street\":\"Main St.\",\"zipCode\":72764},"
+          + "{\"country\":\"F\",\"primary\":false,\"street\":\"\",\"zipCode\":0}],\"age\":42,\"balance\":12.50,"
+          + "\"customer_name\":\"Jon\",\"id\":4711,\"ids\":[1,2],\"scores\":{\"a\":1},\"status\":\"LOCKED\"}";
+      Object lCustomer = lMapper.readValue(lJSON, lCustomerClass);
+      assertEquals("Jon", lCustomerClass.getMethod("getName").invoke(lCustomer));
+      assertEquals(lJSON.replace("\"street\":\"\",", ""), lMapper.writeValueAsString(lCustomer));
+
+      // Nulls, empty collections and unknown properties.
+      lCustomer = lMapper.readValue("{\"customer_name\":null,\"addresses\":[],\"age\":null}", lCustomerClass);
+      assertEquals("{\"id\":0}", lMapper.writeValueAsString(lCustomer));
+      try {
+        lMapper.readValue("{\"password\":\"secret\"}", lCustomerClass);
+        fail();
+      }
+      catch (UnrecognizedPropertyException e) {
+        assertEquals("password", e.getPropertyName());
+      }
+
+      // Serializer only classes.
+      Object lNote = lClassLoader.loadClass(SAMPLE_PACKAGE + ".Customer$Note").getConstructor(String.class)
+          .newInstance("VIP");
+      lCustomerClass.getField("note").set(lCustomer, lNote);
+      assertEquals("{\"id\":0,\"note\":{\"text\":\"VIP\"}}", lMapper.writeValueAsString(lCustomer));
+
+      // Property inclusion of the object mapper is applied.
+      lCustomerClass.getMethod("setAddresses", List.class).invoke(lCustomer, Collections.emptyList());
+      ObjectMapper lNonNullMapper = lMapper.rebuild()
+          .changeDefaultPropertyInclusion(i -> i.withValueInclusion(JsonInclude.Include.NON_NULL)).build();
+      assertEquals("{\"addresses\":[],\"id\":0,\"note\":{\"text\":\"VIP\"}}",
+          lNonNullMapper.writeValueAsString(lCustomer));
+      ObjectMapper lAlwaysMapper = lMapper.rebuild()
+          .changeDefaultPropertyInclusion(i -> i.withValueInclusion(JsonInclude.Include.ALWAYS)).build();
+      assertEquals("{\"addresses\":[],\"age\":null,\"balance\":null,\"customer_name\":null,\"id\":0,\"ids\":null,"
+          + "\"note\":{\"text\":\"VIP\"},\"scores\":null,\"status\":null}",
+          lAlwaysMapper.writeValueAsString(lCustomer));
+
+      // Field projections are applied by Jackson's bean serializer as all classes have a property filter.
+      lCustomer = lMapper.readValue(lJSON, lCustomerClass);
+      ObjectMapper lProjectionMapper = FieldProjection.createProjectionMapper(lMapper.rebuild()
+          .changeDefaultVisibility(v -> v.withFieldVisibility(JsonAutoDetect.Visibility.ANY)).build());
+      assertEquals("{\"addresses\":[{\"zipCode\":72764},{\"zipCode\":0}],\"customer_name\":\"Jon\"}",
+          lProjectionMapper.writer().with(FieldProjection.of("customer_name", "addresses.zipCode").getFilterProvider())
+              .writeValueAsString(lCustomer));
+    }
+  }
+
+  @Test
+  void testSameResultAsBeanSerializer( ) throws Exception {
+    Path lOutput = Files.createTempDirectory("jeaf-json-processor");
+    DiagnosticCollector<JavaFileObject> lDiagnostics = new DiagnosticCollector<>();
+    assertTrue(this.compile("sample", lOutput, lDiagnostics, Collections.emptyList()), lDiagnostics.getDiagnostics()
+        .toString());
+
+    try (URLClassLoader lClassLoader = new URLClassLoader(new URL[] { lOutput.toUri().toURL() },
+        this.getClass().getClassLoader())) {
+      ObjectMapperModuleFactory lFactory = (ObjectMapperModuleFactory) lClassLoader
+          .loadClass(SAMPLE_PACKAGE + ".JSONSerializersModuleFactory").getDeclaredConstructor().newInstance();
+
+      // Objects with all kinds of properties, type info, explicit order and indexes.
+      Class<?> lCustomerClass = lClassLoader.loadClass(SAMPLE_PACKAGE + ".Customer");
+      Object lCustomer = JsonMapper.builder().build().readValue("{\"id\":4711,\"customer_name\":\"Jon\",\"age\":42,"
+          + "\"status\":\"LOCKED\",\"addresses\":[{\"street\":\"Main St.\",\"zipCode\":72764,\"country\":\"D\"}],"
+          + "\"scores\":{\"a\":1},\"ids\":[1,2]}", lCustomerClass);
+      lCustomerClass.getField("note").set(lCustomer, lClassLoader.loadClass(SAMPLE_PACKAGE + ".Customer$Note")
+          .getConstructor(String.class).newInstance("VIP"));
+      Class<?> lEmailClass = lClassLoader.loadClass(SAMPLE_PACKAGE + ".Contact$Email");
+      Object lEmail = lEmailClass.getDeclaredConstructor().newInstance();
+      lEmailClass.getField("label").set(lEmail, "private");
+      lEmailClass.getField("address").set(lEmail, "jon@example.com");
+      Class<?> lPhoneClass = lClassLoader.loadClass(SAMPLE_PACKAGE + ".Contact$Phone");
+      Object lPhone = lPhoneClass.getDeclaredConstructor().newInstance();
+      lPhoneClass.getField("label").set(lPhone, "office");
+      lPhoneClass.getField("number").set(lPhone, "4711");
+      lPhoneClass.getField("areaCode").set(lPhone, "07121");
+      List<Object> lContacts = Arrays.asList(lEmail, lPhone);
+
+      // Generated serializers have to write the same as Jackson's bean serializer with the same settings.
+      ObjectMapper lBeanMapper = JsonMapper.builder()
+          .changeDefaultVisibility(v -> v.withFieldVisibility(JsonAutoDetect.Visibility.ANY)
+              .withGetterVisibility(JsonAutoDetect.Visibility.NONE)
+              .withIsGetterVisibility(JsonAutoDetect.Visibility.NONE))
+          .changeDefaultPropertyInclusion(i -> i.withValueInclusion(JsonInclude.Include.NON_EMPTY)).build();
+      List<ObjectMapper> lBeanMappers = Arrays.asList(lBeanMapper,
+          lBeanMapper.rebuild().changeDefaultPropertyInclusion(i -> i.withValueInclusion(JsonInclude.Include.ALWAYS))
+              .build(),
+          lBeanMapper.rebuild().disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY).build(),
+          lBeanMapper.rebuild().propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE).build());
+      for (ObjectMapper lMapper : lBeanMappers) {
+        ObjectMapper lGeneratedMapper = lMapper.rebuild().addModule(lFactory.createModule()).build();
+        for (Object lObject : Arrays.asList(lCustomer, lEmail, lPhone)) {
+          assertEquals(lMapper.writeValueAsString(lObject), lGeneratedMapper.writeValueAsString(lObject));
+        }
+        JavaType lContactsType =
+            lMapper.getTypeFactory().constructCollectionType(List.class, lClassLoader.loadClass(SAMPLE_PACKAGE
+                + ".Contact"));
+        assertEquals(lMapper.writerFor(lContactsType).writeValueAsString(lContacts),
+            lGeneratedMapper.writerFor(lContactsType).writeValueAsString(lContacts));
+      }
+      ObjectMapper lGeneratedMapper = lBeanMapper.rebuild().addModule(lFactory.createModule()).build();
+      assertEquals("{\"kind\":\"email\",\"verified\":false,\"address\":\"jon@example.com\",\"label\":\"private\"}",
+          lGeneratedMapper.writeValueAsString(lEmail));
+      assertEquals("{\"kind\":\"phone\",\"number\":\"4711\",\"label\":\"office\",\"areaCode\":\"07121\"}",
+          lGeneratedMapper.writeValueAsString(lPhone));
+
+      // Generated serializers are only used if their order of properties fits to the settings of the mapper.
+      assertTrue(this.isGenerated(lGeneratedMapper, lEmailClass));
+      assertTrue(this.isGenerated(lGeneratedMapper, lPhoneClass));
+      ObjectMapper lUnsortedMapper = lGeneratedMapper.rebuild().disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+          .build();
+      assertFalse(this.isGenerated(lUnsortedMapper, lEmailClass));
+      assertTrue(this.isGenerated(lUnsortedMapper, lPhoneClass));
+      ObjectMapper lNamingMapper = lGeneratedMapper.rebuild()
+          .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE).build();
+      assertFalse(this.isGenerated(lNamingMapper, lPhoneClass));
+    }
+  }
+
+  @Test
+  void testInvalidClasses( ) throws IOException, URISyntaxException {
+    Path lOutput = Files.createTempDirectory("jeaf-json-processor");
+    DiagnosticCollector<JavaFileObject> lDiagnostics = new DiagnosticCollector<>();
+    assertFalse(this.compile("invalid", lOutput, lDiagnostics, Collections.emptyList()));
+    List<String> lErrors = new ArrayList<>();
+    for (Diagnostic<? extends JavaFileObject> lDiagnostic : lDiagnostics.getDiagnostics()) {
+      if (lDiagnostic.getKind() == Diagnostic.Kind.ERROR) {
+        lErrors.add(lDiagnostic.getMessage(null));
+      }
+    }
+    assertEquals(1, lErrors.size(), lErrors.toString());
+    assertTrue(lErrors.get(0).startsWith("Generated deserializer requires a non-abstract class"));
+
+    // Without deserializer the missing getter is reported.
+    lDiagnostics = new DiagnosticCollector<>();
+    String lSource = new String(Files.readAllBytes(this.getSources("invalid").get(0)), StandardCharsets.UTF_8);
+    Path lSourceDir = Files.createTempDirectory("jeaf-json-processor-src");
+    Path lSourceFile = lSourceDir.resolve("Invalid.java");
+    Files.write(lSourceFile, lSource.replace("@GenerateSerializers", "@GenerateSerializers(deserializer = false)")
+        .getBytes(StandardCharsets.UTF_8));
+    assertFalse(this.compile(null, lOutput, lDiagnostics, Collections.singletonList(lSourceFile)));
+    assertTrue(lDiagnostics.getDiagnostics().toString().contains(
+        "Field 'hidden' is not accessible for the generated serializer and there is no accessible getter."));
+
+    // Jackson annotations that generated code does not support are reported.
+    lDiagnostics = new DiagnosticCollector<>();
+    Files.write(lSourceFile, lSource.replace("@GenerateSerializers", "@GenerateSerializers(deserializer = false)")
+        .replace("private String hidden;", "@com.fasterxml.jackson.annotation.JsonFormat String hidden;")
+        .getBytes(StandardCharsets.UTF_8));
+    assertFalse(this.compile(null, lOutput, lDiagnostics, Collections.singletonList(lSourceFile)));
+    assertTrue(lDiagnostics.getDiagnostics().toString().contains(
+        "@JsonFormat is not supported by generated serializers."), lDiagnostics.getDiagnostics().toString());
+  }
+
+  private boolean isGenerated( ObjectMapper pMapper, Class<?> pClass ) {
+    return pMapper._serializationContext().findValueSerializer(pClass).getClass().getSimpleName()
+        .endsWith("JSONSerializer");
+  }
+
+  private boolean compile( String pSamplePackage, Path pOutput, DiagnosticCollector<JavaFileObject> pDiagnostics,
+      List<Path> pAdditionalSources, String... pProcessorOptions ) throws IOException, URISyntaxException {
+    List<Path> lSources = new ArrayList<>(pAdditionalSources);
+    if (pSamplePackage != null) {
+      lSources.addAll(this.getSources(pSamplePackage));
+    }
+    JavaCompiler lCompiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager lFileManager = lCompiler.getStandardFileManager(pDiagnostics, null,
+        StandardCharsets.UTF_8)) {
+      List<String> lOptions = new ArrayList<>(Arrays.asList("-d", pOutput.toString(), "-classpath",
+          System.getProperty("java.class.path"), "-implicit:class"));
+      lOptions.addAll(Arrays.asList(pProcessorOptions));
+      Iterable<? extends JavaFileObject> lUnits =
+          lFileManager.getJavaFileObjectsFromFiles(lSources.stream().map(Path::toFile).collect(Collectors.toList()));
+      CompilationTask lTask = lCompiler.getTask(null, lFileManager, pDiagnostics, lOptions, null, lUnits);
+      lTask.setProcessors(Collections.singletonList(new SerializerProcessor()));
+      return lTask.call();
+    }
+  }
+
+  private List<Path> getSources( String pSamplePackage ) throws IOException, URISyntaxException {
+    URL lURL = this.getClass().getResource("/sources/com/anaptecs/jeaf/json/processor/" + pSamplePackage);
+    try (Stream<Path> lFiles = Files.list(Paths.get(lURL.toURI()))) {
+      return lFiles.filter(p -> p.toString().endsWith(".java")).sorted().collect(Collectors.toList());
+    }
+  }
+}
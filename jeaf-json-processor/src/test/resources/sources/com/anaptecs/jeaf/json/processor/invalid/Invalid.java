@@ -0,0 +1,16 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.processor.invalid;
+
+import com.anaptecs.jeaf.json.annotations.GenerateSerializers;
+
+@GenerateSerializers
+public class Invalid {
+  private String hidden;
+
+  private Invalid( ) {
+  }
+}
@@ -0,0 +1,19 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.processor.sample;
+
+import com.anaptecs.jeaf.json.annotations.GenerateSerializers;
+
+@GenerateSerializers
+public class Address {
+  public String street;
+
+  public int zipCode;
+
+  public boolean primary;
+
+  public char country;
+}
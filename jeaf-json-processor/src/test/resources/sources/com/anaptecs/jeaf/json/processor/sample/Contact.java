@@ -0,0 +1,35 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.processor.sample;
+
+import com.anaptecs.jeaf.json.annotations.GenerateSerializers;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "kind")
+@JsonSubTypes({ @JsonSubTypes.Type(value = Contact.Email.class, name = "email"),
+    @JsonSubTypes.Type(value = Contact.Phone.class, name = "phone") })
+public abstract class Contact {
+  public String label;
+
+  @GenerateSerializers
+  public static class Email extends Contact {
+    public String address;
+
+    @JsonProperty(index = 0)
+    public boolean verified;
+  }
+
+  @GenerateSerializers
+  @JsonPropertyOrder({ "number", "label" })
+  public static class Phone extends Contact {
+    public String number;
+
+    public String areaCode;
+  }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.processor.sample;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import com.anaptecs.jeaf.json.annotations.GenerateSerializers;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@GenerateSerializers
+public class Customer extends Party {
+  public enum Status {
+    ACTIVE, LOCKED
+  }
+
+  @GenerateSerializers(deserializer = false)
+  public static class Note {
+    final String text;
+
+    public Note( String pText ) {
+      text = pText;
+    }
+  }
+
+  @JsonProperty("customer_name")
+  private String name;
+
+  private Status status;
+
+  private Integer age;
+
+  private BigDecimal balance;
+
+  private List<Address> addresses;
+
+  private Map<String, Integer> scores;
+
+  private long[] ids;
+
+  @JsonIgnore
+  private String password;
+
+  private transient String cache;
+
+  public Note note;
+
+  public String getName( ) {
+    return name;
+  }
+
+  public void setName( String pName ) {
+    name = pName;
+  }
+
+  public Status getStatus( ) {
+    return status;
+  }
+
+  public void setStatus( Status pStatus ) {
+    status = pStatus;
+  }
+
+  public Integer getAge( ) {
+    return age;
+  }
+
+  public void setAge( Integer pAge ) {
+    age = pAge;
+  }
+
+  public BigDecimal getBalance( ) {
+    return balance;
+  }
+
+  public void setBalance( BigDecimal pBalance ) {
+    balance = pBalance;
+  }
+
+  public List<Address> getAddresses( ) {
+    return addresses;
+  }
+
+  public void setAddresses( List<Address> pAddresses ) {
+    addresses = pAddresses;
+  }
+
+  public Map<String, Integer> getScores( ) {
+    return scores;
+  }
+
+  public void setScores( Map<String, Integer> pScores ) {
+    scores = pScores;
+  }
+
+  public long[] getIds( ) {
+    return ids;
+  }
+
+  public void setIds( long[] pIds ) {
+    ids = pIds;
+  }
+}
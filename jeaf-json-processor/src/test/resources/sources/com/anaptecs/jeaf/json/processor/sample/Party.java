@@ -0,0 +1,18 @@
+/**
+ * Copyright 2004 - 2022 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.json.processor.sample;
+
+public abstract class Party {
+  private long id;
+
+  public long getId( ) {
+    return id;
+  }
+
+  public void setId( long pID ) {
+    id = pID;
+  }
+}